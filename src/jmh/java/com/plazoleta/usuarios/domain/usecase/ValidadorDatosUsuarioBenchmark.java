@@ -0,0 +1,77 @@
+package com.plazoleta.usuarios.domain.usecase;
+
+import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ValidadorDatosUsuario} frente a la validación anterior del caso de uso: tres {@code String.matches}
+ * que compilan su expresión en cada llamada y la mayoría de edad calculada dos veces con {@link Period}
+ * (en el caso de uso y en {@code Usuario.crear}), deteniéndose en el primer error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidadorDatosUsuarioBenchmark {
+
+    /** invalidos: el celular y la edad fallan; la validación anterior solo llega al celular. */
+    @Param({"validos", "invalidos"})
+    public String caso;
+
+    private ValidadorDatosUsuario validador;
+    private DatosCreacionUsuario datos;
+
+    @Setup
+    public void preparar() {
+        validador = new ValidadorDatosUsuario(Clock.systemDefaultZone());
+        boolean validos = "validos".equals(caso);
+        datos = DatosCreacionUsuario.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .documento("1234567890")
+                .celular(validos ? "+573001234567" : "+57-300-123")
+                .fechaNacimiento(validos ? LocalDate.of(1990, 5, 20) : LocalDate.now().minusYears(16))
+                .correo("juan.perez@example.com")
+                .clave("password123")
+                .build();
+    }
+
+    @Benchmark
+    public List<ViolacionCampo> validador() {
+        return validador.violaciones(datos);
+    }
+
+    @Benchmark
+    public String anterior() {
+        if (!datos.getDocumento().matches("\\d+"))
+            return "Documento inválido";
+        if (!datos.getCorreo().matches("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$"))
+            return "El correo electrónico no tiene un formato válido";
+        if (!datos.getCelular().matches("^\\+?\\d{1,13}$"))
+            return "Celular inválido";
+        if (Period.between(datos.getFechaNacimiento(), LocalDate.now()).getYears() < 18)
+            return "El usuario debe ser mayor de edad";
+        if (Period.between(datos.getFechaNacimiento(), LocalDate.now()).getYears() < 18)
+            return "El usuario debe ser mayor de edad";
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.plazoleta.usuarios.infraestructure.out.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.plazoleta.usuarios.domain.model.TokenClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión y verificación de tokens con {@link JwtProviderAdapter} por algoritmo de firma y conjunto de
+ * claims. La verificación se mide con la caché de tokens verificados y sin ella (firma y parseo JSON en
+ * cada llamada).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private static final long EXPIRACION_SEGUNDOS = 3600;
+    private static final long CACHE_TOKENS = 10_000;
+    private static final int LONGITUD_MAXIMA = 4096;
+
+    @Param({JwtKeyRing.RS256, JwtKeyRing.EDDSA})
+    public String algoritmo;
+
+    /** basico: id, correo y rol; restaurante: además el restaurant_id de un empleado. */
+    @Param({"basico", "restaurante"})
+    public String claims;
+
+    @Param({"true", "false"})
+    public boolean cacheVerificados;
+
+    private JwtProviderAdapter proveedor;
+    private Integer restauranteId;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        // Con un reloj en el futuro lejano guardar() descarta todo token como expirado y cada
+        // verificación recorre la firma completa.
+        VerifiedTokenCache cache = cacheVerificados
+                ? new VerifiedTokenCache(CACHE_TOKENS)
+                : new VerifiedTokenCache(CACHE_TOKENS, Clock.fixed(Instant.MAX, ZoneOffset.UTC), Ticker.systemTicker());
+        proveedor = new JwtProviderAdapter(JwtKeyRing.efimero(algoritmo), EXPIRACION_SEGUNDOS, cache,
+                new TokenPrecheck(LONGITUD_MAXIMA));
+        restauranteId = "restaurante".equals(claims) ? 7 : null;
+        token = generarToken();
+    }
+
+    @Benchmark
+    public String generarToken() {
+        return proveedor.generarToken(42, "empleado@plazoleta.com", "EMPLEADO", restauranteId);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> validarToken() {
+        return proveedor.validarToken(token);
+    }
+}
@@ -0,0 +1,53 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash y verificación de contraseñas con {@link PasswordEncoderAdapter} sobre BCrypt por factor de costo.
+ * Cada punto de costo duplica el tiempo; los costos altos se piden con {@code -p costo=13,14}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class BCryptBenchmark {
+
+    private static final String CLAVE = "Clave-Segura-2024";
+
+    @Param({"10", "11", "12"})
+    public int costo;
+
+    private PasswordEncoderAdapter adaptador;
+    private String hash;
+
+    @Setup
+    public void preparar() {
+        adaptador = new PasswordEncoderAdapter(new BCryptPasswordEncoder(costo));
+        hash = adaptador.encode(CLAVE);
+    }
+
+    @Benchmark
+    public String encode() {
+        return adaptador.encode(CLAVE);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return adaptador.matches(CLAVE, hash);
+    }
+}
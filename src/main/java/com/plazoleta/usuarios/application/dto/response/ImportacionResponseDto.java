@@ -0,0 +1,21 @@
+package com.plazoleta.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportacionResponseDto {
+    private int creados;
+    private int rechazados;
+    /** Un resultado por fila, en el orden recibido. */
+    private List<ResultadoImportacionResponseDto> filas;
+}
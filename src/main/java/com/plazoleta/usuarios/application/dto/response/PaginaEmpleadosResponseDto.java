@@ -0,0 +1,20 @@
+package com.plazoleta.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaEmpleadosResponseDto {
+    private List<UsuarioResponseDto> empleados;
+    /** Valor para el parámetro {@code after} de la página siguiente; null en la última página. */
+    private Integer siguiente;
+}
@@ -0,0 +1,19 @@
+package com.plazoleta.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoImportacionResponseDto {
+    private int fila;
+    private String correo;
+    private Integer id;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.plazoleta.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UsuariosPorIdsResponseDto {
+    private List<UsuarioResponseDto> usuarios;
+    private List<Integer> noEncontrados;
+}
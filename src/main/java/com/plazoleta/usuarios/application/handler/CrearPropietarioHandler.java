@@ -2,15 +2,24 @@ package com.plazoleta.usuarios.application.handler;
 
 import com.plazoleta.usuarios.application.dto.CrearEmpleadoDto;
 import com.plazoleta.usuarios.application.dto.CrearPropietarioDto;
+import com.plazoleta.usuarios.application.dto.response.ImportacionResponseDto;
+import com.plazoleta.usuarios.application.dto.response.PaginaEmpleadosResponseDto;
 import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import com.plazoleta.usuarios.application.dto.response.UsuariosPorIdsResponseDto;
 import com.plazoleta.usuarios.application.mapper.UsuarioRequestMapper;
 import com.plazoleta.usuarios.application.mapper.UsuarioResponseMapper;
 import com.plazoleta.usuarios.domain.api.UsuarioServicePort;
 import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.PaginaEmpleados;
+import com.plazoleta.usuarios.domain.model.ResultadoImportacion;
 import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.UsuariosPorIds;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 @Component
 @RequiredArgsConstructor
 public class CrearPropietarioHandler implements IUsuarioHandler {
@@ -31,9 +40,37 @@ public class CrearPropietarioHandler implements IUsuarioHandler {
         usuarioServicePort.crearEmpleado(datos);
     }
 
+    @Override
+    public ImportacionResponseDto importarEmpleados(List<CrearEmpleadoDto> dtos) {
+        List<DatosCreacionUsuario> filas = dtos.stream().map(mapper::toDatosCreacion).toList();
+        List<ResultadoImportacion> resultados = usuarioServicePort.importarEmpleados(filas);
+        int creados = (int) resultados.stream().filter(ResultadoImportacion::isCreado).count();
+        return new ImportacionResponseDto(creados, resultados.size() - creados,
+                responseMapper.toResultadosResponse(resultados));
+    }
+
     @Override
     public UsuarioResponseDto obtenerUsuarioPorId(Integer id) {
         Usuario usuario = usuarioServicePort.obtenerUsuarioPorId(id);
         return usuario != null ? responseMapper.toResponse(usuario) : null;
     }
+
+    @Override
+    public UsuariosPorIdsResponseDto obtenerUsuariosPorIds(List<Integer> ids) {
+        UsuariosPorIds resultado = usuarioServicePort.obtenerUsuariosPorIds(ids);
+        return new UsuariosPorIdsResponseDto(
+                responseMapper.toResponseList(resultado.getEncontrados()),
+                resultado.getNoEncontrados());
+    }
+
+    @Override
+    public PaginaEmpleadosResponseDto listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite) {
+        PaginaEmpleados pagina = usuarioServicePort.listarEmpleados(restauranteId, despuesDeId, limite);
+        return new PaginaEmpleadosResponseDto(responseMapper.toResponseList(pagina.getEmpleados()), pagina.getSiguiente());
+    }
+
+    @Override
+    public void exportarUsuarios(String rol, Integer restauranteId, Consumer<UsuarioResponseDto> consumidor) {
+        usuarioServicePort.exportarUsuarios(rol, restauranteId, usuario -> consumidor.accept(responseMapper.toResponse(usuario)));
+    }
 }
\ No newline at end of file
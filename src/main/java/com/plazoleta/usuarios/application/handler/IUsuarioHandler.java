@@ -2,12 +2,25 @@ package com.plazoleta.usuarios.application.handler;
 
 import com.plazoleta.usuarios.application.dto.CrearEmpleadoDto;
 import com.plazoleta.usuarios.application.dto.CrearPropietarioDto;
+import com.plazoleta.usuarios.application.dto.response.ImportacionResponseDto;
+import com.plazoleta.usuarios.application.dto.response.PaginaEmpleadosResponseDto;
 import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import com.plazoleta.usuarios.application.dto.response.UsuariosPorIdsResponseDto;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IUsuarioHandler {
 
     void crearPropietario(CrearPropietarioDto dto);
     void crearEmpleado(CrearEmpleadoDto dto);
+    ImportacionResponseDto importarEmpleados(List<CrearEmpleadoDto> dtos);
 
     UsuarioResponseDto obtenerUsuarioPorId(Integer id);
+
+    UsuariosPorIdsResponseDto obtenerUsuariosPorIds(List<Integer> ids);
+
+    PaginaEmpleadosResponseDto listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite);
+
+    void exportarUsuarios(String rol, Integer restauranteId, Consumer<UsuarioResponseDto> consumidor);
 }
\ No newline at end of file
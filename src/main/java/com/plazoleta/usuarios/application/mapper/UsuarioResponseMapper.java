@@ -1,14 +1,22 @@
 package com.plazoleta.usuarios.application.mapper;
 
+import com.plazoleta.usuarios.application.dto.response.ResultadoImportacionResponseDto;
 import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import com.plazoleta.usuarios.domain.model.ResultadoImportacion;
 import com.plazoleta.usuarios.domain.model.Usuario;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface UsuarioResponseMapper {
 
     @Mapping(target = "rol", source = "rol.nombre")
     UsuarioResponseDto toResponse(Usuario usuario);
+
+    List<UsuarioResponseDto> toResponseList(List<Usuario> usuarios);
+
+    List<ResultadoImportacionResponseDto> toResultadosResponse(List<ResultadoImportacion> resultados);
 }
\ No newline at end of file
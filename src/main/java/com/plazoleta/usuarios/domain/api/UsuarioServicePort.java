@@ -1,10 +1,20 @@
 package com.plazoleta.usuarios.domain.api;
 
 import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.PaginaEmpleados;
+import com.plazoleta.usuarios.domain.model.ResultadoImportacion;
 import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.UsuariosPorIds;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface UsuarioServicePort {
     void crearPropietario(DatosCreacionUsuario datos);
     void crearEmpleado(DatosCreacionUsuario datos);
+    List<ResultadoImportacion> importarEmpleados(List<DatosCreacionUsuario> filas);
     Usuario obtenerUsuarioPorId(Integer id);
+    UsuariosPorIds obtenerUsuariosPorIds(List<Integer> ids);
+    PaginaEmpleados listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite);
+    void exportarUsuarios(String rol, Integer restauranteId, Consumer<Usuario> consumidor);
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class CampoInvalidoException extends RuntimeException {
+public class CampoInvalidoException extends DominioException {
 
     public CampoInvalidoException(String mensaje) {
         super(mensaje);
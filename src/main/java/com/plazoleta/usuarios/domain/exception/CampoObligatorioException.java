@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class CampoObligatorioException extends RuntimeException {
+public class CampoObligatorioException extends DominioException {
 
     public CampoObligatorioException() {
         super("Falta un campo obligatorio");
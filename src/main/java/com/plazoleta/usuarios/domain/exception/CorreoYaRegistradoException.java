@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class CorreoYaRegistradoException extends RuntimeException {
+public class CorreoYaRegistradoException extends DominioException {
 
     public CorreoYaRegistradoException() {
         super("Ya existe un usuario con este correo electrónico");
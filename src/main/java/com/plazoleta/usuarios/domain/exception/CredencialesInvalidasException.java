@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class CredencialesInvalidasException extends RuntimeException {
+public class CredencialesInvalidasException extends DominioException {
 
     public CredencialesInvalidasException(String mensaje) {
         super(mensaje);
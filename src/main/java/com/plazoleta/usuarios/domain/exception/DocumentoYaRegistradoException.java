@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class DocumentoYaRegistradoException extends RuntimeException {
+public class DocumentoYaRegistradoException extends DominioException {
 
     public DocumentoYaRegistradoException() {
         super("Ya existe un usuario con este número de documento");
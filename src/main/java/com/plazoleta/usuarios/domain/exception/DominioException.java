@@ -0,0 +1,31 @@
+package com.plazoleta.usuarios.domain.exception;
+
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
+
+import java.util.List;
+
+/**
+ * Base de los rechazos del dominio. Son respuestas esperadas (credenciales inválidas, correo repetido,
+ * datos mal formados) y no fallos del programa, así que no capturan la traza de pila: crear una cuesta
+ * lo mismo que cualquier otro objeto aunque llegue una ráfaga de intentos.
+ */
+public abstract class DominioException extends RuntimeException {
+
+    private List<ViolacionCampo> violaciones = List.of();
+
+    protected DominioException(String mensaje) {
+        super(mensaje, null, false, false);
+    }
+
+    /**
+     * Todas las violaciones de la validación que originó esta excepción; vacía si no viene de una.
+     */
+    public List<ViolacionCampo> getViolaciones() {
+        return violaciones;
+    }
+
+    public DominioException conViolaciones(List<ViolacionCampo> violaciones) {
+        this.violaciones = List.copyOf(violaciones);
+        return this;
+    }
+}
@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class EmailInvalidoException extends RuntimeException {
+public class EmailInvalidoException extends DominioException {
 
     public EmailInvalidoException() {
         super("El correo electrónico no tiene un formato válido");
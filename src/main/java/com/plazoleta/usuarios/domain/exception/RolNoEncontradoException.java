@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class RolNoEncontradoException extends RuntimeException {
+public class RolNoEncontradoException extends DominioException {
 
     public RolNoEncontradoException(String mensaje) {
         super(mensaje);
@@ -1,6 +1,6 @@
 package com.plazoleta.usuarios.domain.exception;
 
-public class UsuarioMayorDeEdadException extends RuntimeException {
+public class UsuarioMayorDeEdadException extends DominioException {
 
     public UsuarioMayorDeEdadException() {
         super("El usuario debe ser mayor de edad");
@@ -3,7 +3,7 @@ package com.plazoleta.usuarios.domain.exception;
 import lombok.Getter;
 
 @Getter
-public class ValorExcedeLongitudException extends RuntimeException {
+public class ValorExcedeLongitudException extends DominioException {
 
     private final String campo;
 
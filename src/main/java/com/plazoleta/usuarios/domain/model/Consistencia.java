@@ -0,0 +1,11 @@
+package com.plazoleta.usuarios.domain.model;
+
+/**
+ * Qué tan reciente debe ser el dato que devuelve una lectura de la persistencia.
+ */
+public enum Consistencia {
+    /** Puede servirse desde una réplica o una caché con algo de retraso. */
+    EVENTUAL,
+    /** Debe reflejar todas las escrituras confirmadas: se lee de la base primaria. */
+    FUERTE
+}
@@ -0,0 +1,17 @@
+package com.plazoleta.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Lo mínimo que necesita el login: se lee con una proyección de cuatro columnas, sin hidratar la entidad.
+ */
+@Getter
+@AllArgsConstructor
+public class CredencialesUsuario {
+    private final Integer id;
+    private final String correo;
+    private final String clave;
+    /** Nombre del rol; {@code null} si el usuario no tiene rol asignado. */
+    private final String rol;
+}
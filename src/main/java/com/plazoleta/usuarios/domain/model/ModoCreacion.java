@@ -0,0 +1,11 @@
+package com.plazoleta.usuarios.domain.model;
+
+/**
+ * Cómo detecta la creación de usuarios un correo o documento ya registrado.
+ */
+public enum ModoCreacion {
+    /** Consulta existeCorreo antes de insertar: dos viajes a la base de datos por alta. */
+    VERIFICACION_PREVIA,
+    /** Inserta directamente y la propia inserción informa del conflicto: un solo viaje. */
+    DETECCION_DE_CONFLICTO
+}
@@ -0,0 +1,17 @@
+package com.plazoleta.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página de empleados ordenada por id. {@code siguiente} es el id a enviar como cursor
+ * para pedir la página siguiente; {@code null} cuando ya no quedan más.
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaEmpleados {
+    private final List<Usuario> empleados;
+    private final Integer siguiente;
+}
@@ -0,0 +1,29 @@
+package com.plazoleta.usuarios.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de una fila de la importación. {@code fila} empieza en 1; {@code error} es null si se creó.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResultadoImportacion {
+    private final int fila;
+    private final String correo;
+    private final Integer id;
+    private final String error;
+
+    public static ResultadoImportacion creado(int fila, String correo, Integer id) {
+        return new ResultadoImportacion(fila, correo, id, null);
+    }
+
+    public static ResultadoImportacion rechazado(int fila, String correo, String error) {
+        return new ResultadoImportacion(fila, correo, null, error);
+    }
+
+    public boolean isCreado() {
+        return error == null;
+    }
+}
@@ -4,10 +4,20 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Rol {
+
+    public static final String ADMINISTRADOR = "ADMINISTRADOR";
+    public static final String PROPIETARIO = "PROPIETARIO";
+    public static final String EMPLEADO = "EMPLEADO";
+    public static final String CLIENTE = "CLIENTE";
+    /** Roles que existen en la tabla rol. */
+    public static final List<String> NOMBRES = List.of(ADMINISTRADOR, PROPIETARIO, EMPLEADO, CLIENTE);
+
     private Integer id;
     private String nombre;
 }
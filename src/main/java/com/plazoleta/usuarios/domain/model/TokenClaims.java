@@ -2,17 +2,16 @@ package com.plazoleta.usuarios.domain.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 
+/**
+ * Inmutable: la misma instancia se comparte entre peticiones desde la caché de tokens verificados.
+ */
 @Getter
-@Setter
-@NoArgsConstructor
 @AllArgsConstructor
 public class TokenClaims {
-    private Integer id;
-    private String correo;
-    private String rol;
+    private final Integer id;
+    private final String correo;
+    private final String rol;
     /** ID del restaurante del propietario; solo presente cuando el usuario es PROPIETARIO. */
-    private Integer restauranteId;
-}
\ No newline at end of file
+    private final Integer restauranteId;
+}
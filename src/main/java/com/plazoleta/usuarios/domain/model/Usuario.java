@@ -7,7 +7,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.time.LocalDate;
-import java.time.Period;
 
 @Getter
 @Setter
@@ -29,16 +28,14 @@ public class Usuario {
     private Integer restauranteId;
 
     /**
-     * Metodo factory para crear un Usuario con validación de mayor de edad.
+     * Metodo factory para crear un Usuario. Los datos llegan ya revisados por
+     * {@code ValidadorDatosUsuario}, incluida la mayoría de edad.
      *
      * @param datos Objeto con los datos del usuario
      * @param rol Rol que se asignará al usuario
-     * @return Usuario creado y validado
-     * @throws IllegalArgumentException si el usuario es menor de edad
+     * @return Usuario creado
      */
     public static Usuario crear(DatosCreacionUsuario datos, Rol rol) {
-        validarMayorEdad(datos.getFechaNacimiento());
-
         return Usuario.builder()
                 .nombre(datos.getNombre())
                 .apellido(datos.getApellido())
@@ -51,10 +48,4 @@ public class Usuario {
                 .restauranteId(datos.getRestauranteId())
                 .build();
     }
-
-    private static void validarMayorEdad(LocalDate fechaNacimiento) {
-        if (fechaNacimiento == null || Period.between(fechaNacimiento, LocalDate.now()).getYears() < 18) {
-            throw new IllegalArgumentException("El usuario debe ser mayor de edad");
-        }
-    }
 }
@@ -0,0 +1,17 @@
+package com.plazoleta.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Resultado de una consulta por lote: los usuarios encontrados en el orden en que se pidieron
+ * y los ids que no existen, para que quien consulta no tenga que deducirlos.
+ */
+@Getter
+@AllArgsConstructor
+public class UsuariosPorIds {
+    private final List<Usuario> encontrados;
+    private final List<Integer> noEncontrados;
+}
@@ -0,0 +1,19 @@
+package com.plazoleta.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Un dato de creación de usuario que no cumple una regla. {@code tipo} decide qué excepción de dominio
+ * la representa cuando es la primera encontrada.
+ */
+@Getter
+@AllArgsConstructor
+public class ViolacionCampo {
+
+    public enum Tipo { OBLIGATORIO, INVALIDO, CORREO, EDAD }
+
+    private final String campo;
+    private final String mensaje;
+    private final Tipo tipo;
+}
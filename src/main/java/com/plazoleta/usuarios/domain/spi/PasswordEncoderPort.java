@@ -3,4 +3,10 @@ package com.plazoleta.usuarios.domain.spi;
 public interface PasswordEncoderPort {
     String encode(String password);
     boolean matches(String rawPassword, String encodedPassword);
-}
\ No newline at end of file
+
+    /**
+     * Indica si el hash almacenado se generó con parámetros más débiles que los actuales
+     * y conviene regenerarlo en el próximo login exitoso.
+     */
+    boolean requiereActualizacion(String encodedPassword);
+}
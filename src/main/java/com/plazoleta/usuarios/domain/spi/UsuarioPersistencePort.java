@@ -1,12 +1,56 @@
 package com.plazoleta.usuarios.domain.spi;
 
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
 import com.plazoleta.usuarios.domain.model.Usuario;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UsuarioPersistencePort {
 
     Usuario guardarUsuario(Usuario usuario);
-    boolean existeCorreo(String correo);
-    Usuario obtenerUsuarioPorId(Integer id);
+
+    /**
+     * Inserta el usuario en un solo viaje a la base de datos, sin verificación previa.
+     *
+     * @throws com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException si el correo ya existe
+     * @throws com.plazoleta.usuarios.domain.exception.DocumentoYaRegistradoException si el documento ya existe
+     */
+    Usuario crearUsuario(Usuario usuario);
+
+    /**
+     * Inserta todos los usuarios en lotes, en una sola transacción. Devuelve el id generado de cada uno,
+     * en el mismo orden, o null si su correo o documento ya estaba registrado. Cualquier otro rechazo de
+     * la base de datos hace fallar la llamada completa sin insertar nada.
+     */
+    List<Integer> crearUsuarios(List<Usuario> usuarios);
+    boolean existeCorreo(String correo, Consistencia consistencia);
+
+    default Usuario obtenerUsuarioPorId(Integer id) {
+        return obtenerUsuarioPorId(id, Consistencia.EVENTUAL);
+    }
+
+    Usuario obtenerUsuarioPorId(Integer id, Consistencia consistencia);
+
+    /**
+     * Resuelve todos los ids en una sola consulta. El orden del resultado no está garantizado
+     * y los ids inexistentes simplemente no aparecen.
+     */
+    List<Usuario> obtenerUsuariosPorIds(Collection<Integer> ids);
+
+    /**
+     * Empleados del restaurante con id mayor que {@code despuesDeId}, ordenados por id, como máximo {@code limite}.
+     */
+    List<Usuario> listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite);
+
+    /**
+     * Entrega al consumidor, uno a uno y ordenados por id, los usuarios que cumplen los filtros
+     * (null = sin filtro). Los usuarios se entregan sin la clave.
+     */
+    void recorrerUsuarios(String rol, Integer restauranteId, Consumer<Usuario> consumidor);
     Optional<Usuario> buscarPorCorreo(String correo);
+    Optional<CredencialesUsuario> buscarCredencialesPorCorreo(String correo);
+    void actualizarClave(Integer id, String claveEncriptada);
 }
\ No newline at end of file
@@ -2,12 +2,13 @@ package com.plazoleta.usuarios.domain.usecase;
 
 import com.plazoleta.usuarios.domain.api.AuthServicePort;
 import com.plazoleta.usuarios.domain.exception.CredencialesInvalidasException;
-import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
 import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
 import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 public class LoginUseCase implements AuthServicePort {
 
@@ -16,26 +17,40 @@ public class LoginUseCase implements AuthServicePort {
     private final UsuarioPersistencePort usuarioPersistencePort;
     private final PasswordEncoderPort passwordEncoderPort;
     private final JwtProviderPort jwtProviderPort;
+    private final Executor rehashExecutor;
 
     public LoginUseCase(UsuarioPersistencePort usuarioPersistencePort,
                         PasswordEncoderPort passwordEncoderPort,
-                        JwtProviderPort jwtProviderPort) {
+                        JwtProviderPort jwtProviderPort,
+                        Executor rehashExecutor) {
         this.usuarioPersistencePort = usuarioPersistencePort;
         this.passwordEncoderPort = passwordEncoderPort;
         this.jwtProviderPort = jwtProviderPort;
+        this.rehashExecutor = rehashExecutor;
     }
 
     @Override
     public String login(String correo, String clave, Integer restauranteId) {
-        Optional<Usuario> usuarioOpt = usuarioPersistencePort.buscarPorCorreo(correo);
-        if (usuarioOpt.isEmpty()) {
+        Optional<CredencialesUsuario> credencialesOpt = usuarioPersistencePort.buscarCredencialesPorCorreo(correo);
+        if (credencialesOpt.isEmpty()) {
             throw new CredencialesInvalidasException(CREDENCIALES_INVALIDAS);
         }
-        Usuario usuario = usuarioOpt.get();
-        if (!passwordEncoderPort.matches(clave, usuario.getClave())) {
+        CredencialesUsuario credenciales = credencialesOpt.get();
+        if (!passwordEncoderPort.matches(clave, credenciales.getClave())) {
             throw new CredencialesInvalidasException(CREDENCIALES_INVALIDAS);
         }
-        String rol = usuario.getRol() != null ? usuario.getRol().getNombre() : "";
-        return jwtProviderPort.generarToken(usuario.getId(), usuario.getCorreo(), rol, restauranteId);
+        if (passwordEncoderPort.requiereActualizacion(credenciales.getClave())) {
+            programarActualizacionClave(credenciales.getId(), clave);
+        }
+        String rol = credenciales.getRol() != null ? credenciales.getRol() : "";
+        return jwtProviderPort.generarToken(credenciales.getId(), credenciales.getCorreo(), rol, restauranteId);
+    }
+
+    /**
+     * Regenera el hash con los parámetros actuales fuera del camino de la respuesta.
+     * Solo se hace tras verificar la clave, que es el único momento en que se conoce en claro.
+     */
+    private void programarActualizacionClave(Integer id, String clave) {
+        rehashExecutor.execute(() -> usuarioPersistencePort.actualizarClave(id, passwordEncoderPort.encode(clave)));
     }
-}
\ No newline at end of file
+}
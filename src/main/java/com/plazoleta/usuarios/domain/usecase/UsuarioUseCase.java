@@ -2,32 +2,85 @@ package com.plazoleta.usuarios.domain.usecase;
 
 import com.plazoleta.usuarios.domain.api.UsuarioServicePort;
 import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
-import com.plazoleta.usuarios.domain.exception.EmailInvalidoException;
-import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
+import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
+import com.plazoleta.usuarios.domain.exception.DominioException;
+import com.plazoleta.usuarios.domain.model.Consistencia;
 import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.ModoCreacion;
+import com.plazoleta.usuarios.domain.model.PaginaEmpleados;
+import com.plazoleta.usuarios.domain.model.ResultadoImportacion;
 import com.plazoleta.usuarios.domain.model.Rol;
 import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.UsuariosPorIds;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
 import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
 
-import java.time.LocalDate;
-import java.time.Period;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class UsuarioUseCase implements UsuarioServicePort {
 
+    public static final int LIMITE_MAXIMO_PAGINA = 200;
+    private static final String YA_REGISTRADO = "Ya existe un usuario con este correo electrónico";
+    private static final String CORREO_YA_REGISTRADO = "Correo ya registrado";
+
     private final UsuarioPersistencePort persistencePort;
     private final PasswordEncoderPort passwordEncoderPort;
+    private final ModoCreacion modoCreacion;
+    private final Executor hashExecutor;
+    private final Executor creacionHashExecutor;
+    private final ValidadorDatosUsuario validador;
 
     public UsuarioUseCase(UsuarioPersistencePort persistencePort, PasswordEncoderPort passwordEncoderPort) {
+        this(persistencePort, passwordEncoderPort, ModoCreacion.VERIFICACION_PREVIA);
+    }
+
+    public UsuarioUseCase(UsuarioPersistencePort persistencePort, PasswordEncoderPort passwordEncoderPort,
+                          ModoCreacion modoCreacion) {
+        this(persistencePort, passwordEncoderPort, modoCreacion, Runnable::run);
+    }
+
+    /**
+     * @param hashExecutor donde se calculan en paralelo los hashes de una importación
+     */
+    public UsuarioUseCase(UsuarioPersistencePort persistencePort, PasswordEncoderPort passwordEncoderPort,
+                          ModoCreacion modoCreacion, Executor hashExecutor) {
+        this(persistencePort, passwordEncoderPort, modoCreacion, hashExecutor, Runnable::run,
+                new ValidadorDatosUsuario(Clock.systemDefaultZone()));
+    }
+
+    /**
+     * @param creacionHashExecutor donde se calcula el hash de un alta mientras se verifica el correo; con
+     *                             {@code Runnable::run} el hash y la verificación van uno tras otro
+     */
+    public UsuarioUseCase(UsuarioPersistencePort persistencePort, PasswordEncoderPort passwordEncoderPort,
+                          ModoCreacion modoCreacion, Executor hashExecutor, Executor creacionHashExecutor,
+                          ValidadorDatosUsuario validador) {
         this.persistencePort = persistencePort;
         this.passwordEncoderPort = passwordEncoderPort;
+        this.modoCreacion = modoCreacion;
+        this.hashExecutor = hashExecutor;
+        this.creacionHashExecutor = creacionHashExecutor;
+        this.validador = validador;
     }
 
     @Override
     public void crearPropietario(DatosCreacionUsuario datos) {
-        validar(datos);
+        validador.validar(datos);
         // Encriptar la clave antes de crear el usuario
-        String claveEncriptada = passwordEncoderPort.encode(datos.getClave());
+        String claveEncriptada = encriptarMientrasSeVerifica(datos);
         // Crear datos actualizados con clave encriptada
         DatosCreacionUsuario datosConClaveEncriptada = DatosCreacionUsuario.builder()
                 .nombre(datos.getNombre())
@@ -40,16 +93,133 @@ public class UsuarioUseCase implements UsuarioServicePort {
                 .restauranteId(null)
                 .build();
 
-        Rol rolPropietario = new Rol(null, "PROPIETARIO");
+        Rol rolPropietario = new Rol(null, Rol.PROPIETARIO);
         Usuario usuario = Usuario.crear(datosConClaveEncriptada, rolPropietario);
 
-        persistencePort.guardarUsuario(usuario);
+        persistir(usuario);
     }
 
     @Override
     public void crearEmpleado(DatosCreacionUsuario datos) {
-        validar(datos);
-        String claveEncriptada = passwordEncoderPort.encode(datos.getClave());
+        validador.validar(datos);
+        persistir(empleado(datos, encriptarMientrasSeVerifica(datos)));
+    }
+
+    /**
+     * Valida todas las filas, calcula los hashes de las válidas en paralelo y las inserta juntas.
+     * Una fila inválida no detiene a las demás: cada una recibe su propio resultado. Si la inserción
+     * conjunta falla por un dato que la base rechaza, se reintenta fila por fila para saber cuál fue.
+     */
+    @Override
+    public List<ResultadoImportacion> importarEmpleados(List<DatosCreacionUsuario> filas) {
+        ResultadoImportacion[] resultados = new ResultadoImportacion[filas.size()];
+        List<Integer> validas = new ArrayList<>(filas.size());
+        Set<String> correos = new HashSet<>();
+        Set<String> documentos = new HashSet<>();
+        for (int i = 0; i < filas.size(); i++) {
+            DatosCreacionUsuario datos = filas.get(i);
+            List<ViolacionCampo> violaciones = validador.violaciones(datos);
+            if (!violaciones.isEmpty()) {
+                resultados[i] = ResultadoImportacion.rechazado(i + 1, datos.getCorreo(), mensaje(violaciones));
+                continue;
+            }
+            if (!correos.add(datos.getCorreo()) || !documentos.add(datos.getDocumento())) {
+                resultados[i] = ResultadoImportacion.rechazado(i + 1, datos.getCorreo(),
+                        "Correo o documento repetido en la importación");
+                continue;
+            }
+            validas.add(i);
+        }
+
+        List<CompletableFuture<Usuario>> hashes = new ArrayList<>(validas.size());
+        for (Integer i : validas) {
+            DatosCreacionUsuario datos = filas.get(i);
+            hashes.add(CompletableFuture.supplyAsync(
+                    () -> empleado(datos, passwordEncoderPort.encode(datos.getClave())), hashExecutor));
+        }
+        List<Usuario> usuarios = new ArrayList<>(hashes.size());
+        for (CompletableFuture<Usuario> hash : hashes) {
+            usuarios.add(hash.join());
+        }
+
+        try {
+            List<Integer> ids = persistencePort.crearUsuarios(usuarios);
+            for (int j = 0; j < validas.size(); j++) {
+                int fila = validas.get(j) + 1;
+                String correo = usuarios.get(j).getCorreo();
+                resultados[fila - 1] = ids.get(j) != null
+                        ? ResultadoImportacion.creado(fila, correo, ids.get(j))
+                        : ResultadoImportacion.rechazado(fila, correo, YA_REGISTRADO);
+            }
+        } catch (DominioException e) {
+            // Una fila rompió una restricción que el lote no aísla; se reintenta de a una para saber cuál.
+            // Un fallo de conexión u otro inesperado se propaga: repetirlo fila a fila solo lo multiplicaría.
+            for (int j = 0; j < validas.size(); j++) {
+                int fila = validas.get(j) + 1;
+                resultados[fila - 1] = crearUno(fila, usuarios.get(j));
+            }
+        }
+        return List.of(resultados);
+    }
+
+    @Override
+    public Usuario obtenerUsuarioPorId(Integer id) {
+        return persistencePort.obtenerUsuarioPorId(id);
+    }
+
+    /**
+     * Una sola consulta para todo el lote; los ids repetidos se resuelven una vez y el
+     * resultado conserva el orden de la petición.
+     */
+    @Override
+    public UsuariosPorIds obtenerUsuariosPorIds(List<Integer> ids) {
+        Set<Integer> unicos = new LinkedHashSet<>(ids);
+        Map<Integer, Usuario> porId = new HashMap<>();
+        for (Usuario usuario : persistencePort.obtenerUsuariosPorIds(unicos)) {
+            porId.put(usuario.getId(), usuario);
+        }
+        List<Usuario> encontrados = new ArrayList<>(porId.size());
+        List<Integer> noEncontrados = new ArrayList<>();
+        for (Integer id : unicos) {
+            Usuario usuario = porId.get(id);
+            if (usuario != null) {
+                encontrados.add(usuario);
+            } else {
+                noEncontrados.add(id);
+            }
+        }
+        return new UsuariosPorIds(encontrados, noEncontrados);
+    }
+
+    /**
+     * Paginación por cursor: se pide una fila de más para saber si hay página siguiente sin contar el total.
+     */
+    @Override
+    public PaginaEmpleados listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite) {
+        int tamano = Math.clamp(limite, 1, LIMITE_MAXIMO_PAGINA);
+        List<Usuario> filas = persistencePort.listarEmpleados(
+                restauranteId, despuesDeId != null ? despuesDeId : 0, tamano + 1);
+        if (filas.size() <= tamano) {
+            return new PaginaEmpleados(filas, null);
+        }
+        List<Usuario> pagina = filas.subList(0, tamano);
+        return new PaginaEmpleados(pagina, pagina.get(tamano - 1).getId());
+    }
+
+    @Override
+    public void exportarUsuarios(String rol, Integer restauranteId, Consumer<Usuario> consumidor) {
+        persistencePort.recorrerUsuarios(rol, restauranteId, consumidor);
+    }
+
+    private ResultadoImportacion crearUno(int fila, Usuario usuario) {
+        try {
+            return ResultadoImportacion.creado(fila, usuario.getCorreo(), persistencePort.crearUsuario(usuario).getId());
+        } catch (DominioException e) {
+            return ResultadoImportacion.rechazado(fila, usuario.getCorreo(), e.getMessage());
+        }
+    }
+
+    private Usuario empleado(DatosCreacionUsuario datos, String claveEncriptada) {
         DatosCreacionUsuario datosConClaveEncriptada = DatosCreacionUsuario.builder()
                 .nombre(datos.getNombre())
                 .apellido(datos.getApellido())
@@ -60,31 +230,59 @@ public class UsuarioUseCase implements UsuarioServicePort {
                 .clave(claveEncriptada)
                 .restauranteId(datos.getRestauranteId())
                 .build();
-        // Rol por nombre; en BD se persiste el role_id (adapter resuelve con findByName).
-        Rol rolEmpleado = new Rol(null, "EMPLEADO");
-        Usuario usuario = Usuario.crear(datosConClaveEncriptada, rolEmpleado);
-        persistencePort.guardarUsuario(usuario);
+        // Rol por nombre; en BD se persiste el role_id (el adapter lo resuelve con RoleRegistry).
+        return Usuario.crear(datosConClaveEncriptada, new Rol(null, Rol.EMPLEADO));
     }
 
-    @Override
-    public Usuario obtenerUsuarioPorId(Integer id) {
-        return persistencePort.obtenerUsuarioPorId(id);
+    /**
+     * Los mensajes repetidos (varios campos que faltan) aparecen una sola vez.
+     */
+    private static String mensaje(List<ViolacionCampo> violaciones) {
+        return violaciones.stream().map(ViolacionCampo::getMensaje).distinct().collect(Collectors.joining("; "));
     }
 
-    private void validar(DatosCreacionUsuario datos) {
-        if (!datos.getDocumento().matches("\\d+"))
-            throw new CampoInvalidoException("Documento inválido");
-
-        if (!datos.getCorreo().matches("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$"))
-            throw new EmailInvalidoException();
-
-        if (!datos.getCelular().matches("^\\+?\\d{1,13}$"))
-            throw new CampoInvalidoException("Celular inválido");
-
-        if (Period.between(datos.getFechaNacimiento(), LocalDate.now()).getYears() < 18)
-            throw new UsuarioMayorDeEdadException();
+    /**
+     * Con verificación previa, el hash (~100 ms de CPU) se calcula en el executor de creación mientras este
+     * hilo consulta si el correo ya existe, y el alta espera a ambos. Si el correo está ocupado o la consulta
+     * falla, el hash se cancela antes de salir: si aún no empezó no llega a ejecutarse, y si ya empezó su
+     * resultado se descarta. Ninguna de las dos tareas sigue viva cuando el método termina.
+     */
+    private String encriptarMientrasSeVerifica(DatosCreacionUsuario datos) {
+        if (modoCreacion != ModoCreacion.VERIFICACION_PREVIA) {
+            return passwordEncoderPort.encode(datos.getClave());
+        }
+        CompletableFuture<String> hash = CompletableFuture.supplyAsync(
+                () -> passwordEncoderPort.encode(datos.getClave()), creacionHashExecutor);
+        try {
+            if (persistencePort.existeCorreo(datos.getCorreo(), Consistencia.FUERTE))
+                throw new CampoInvalidoException(CORREO_YA_REGISTRADO);
+        } catch (RuntimeException e) {
+            hash.cancel(true);
+            throw e;
+        }
+        try {
+            return hash.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
 
-        if (persistencePort.existeCorreo(datos.getCorreo()))
-            throw new CampoInvalidoException("Correo ya registrado");
+    /**
+     * En detección de conflicto el correo repetido se informa igual que en la verificación previa, para que el
+     * modo no cambie la respuesta de la API.
+     */
+    private void persistir(Usuario usuario) {
+        if (modoCreacion == ModoCreacion.DETECCION_DE_CONFLICTO) {
+            try {
+                persistencePort.crearUsuario(usuario);
+            } catch (CorreoYaRegistradoException e) {
+                throw new CampoInvalidoException(CORREO_YA_REGISTRADO);
+            }
+        } else {
+            persistencePort.guardarUsuario(usuario);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.plazoleta.usuarios.domain.usecase;
+
+import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
+import com.plazoleta.usuarios.domain.exception.CampoObligatorioException;
+import com.plazoleta.usuarios.domain.exception.DominioException;
+import com.plazoleta.usuarios.domain.exception.EmailInvalidoException;
+import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
+import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo.Tipo;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reglas de los datos de creación de un usuario, revisadas en una sola pasada que junta todas las
+ * violaciones. Los formatos se comprueban carácter a carácter con las mismas reglas que las expresiones
+ * {@code \d+} (documento), {@code ^[\w-.]+@[\w-]+\.[a-zA-Z]{2,}$} (correo) y {@code ^\+?\d{1,13}$}
+ * (celular), sin compilar ni ejecutar un autómata por petición. Un valor vacío en esos tres campos es
+ * un formato inválido; solo la ausencia (null) cuenta como campo obligatorio.
+ */
+public class ValidadorDatosUsuario {
+
+    public static final int EDAD_MINIMA = 18;
+    public static final int LONGITUD_MINIMA_CLAVE = 6;
+    private static final int MAXIMO_DIGITOS_CELULAR = 13;
+
+    private static final String OBLIGATORIO = "Falta un campo obligatorio";
+
+    private final Clock clock;
+
+    public ValidadorDatosUsuario(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Lanza la excepción de la primera violación, en el orden documento, correo, celular, fecha de
+     * nacimiento, nombre, apellido y clave, con la lista completa adjunta.
+     */
+    public void validar(DatosCreacionUsuario datos) {
+        List<ViolacionCampo> violaciones = violaciones(datos);
+        if (!violaciones.isEmpty()) {
+            throw excepcion(violaciones.get(0)).conViolaciones(violaciones);
+        }
+    }
+
+    public List<ViolacionCampo> violaciones(DatosCreacionUsuario datos) {
+        List<ViolacionCampo> violaciones = new ArrayList<>(0);
+
+        String documento = datos.getDocumento();
+        if (documento == null) {
+            violaciones.add(new ViolacionCampo("documento", OBLIGATORIO, Tipo.OBLIGATORIO));
+        } else if (!soloDigitos(documento, 0)) {
+            violaciones.add(new ViolacionCampo("documento", "Documento inválido", Tipo.INVALIDO));
+        }
+
+        String correo = datos.getCorreo();
+        if (correo == null) {
+            violaciones.add(new ViolacionCampo("correo", OBLIGATORIO, Tipo.OBLIGATORIO));
+        } else if (!correoValido(correo)) {
+            violaciones.add(new ViolacionCampo("correo", "El correo electrónico no tiene un formato válido", Tipo.CORREO));
+        }
+
+        String celular = datos.getCelular();
+        if (celular == null) {
+            violaciones.add(new ViolacionCampo("celular", OBLIGATORIO, Tipo.OBLIGATORIO));
+        } else if (!celularValido(celular)) {
+            violaciones.add(new ViolacionCampo("celular", "Celular inválido", Tipo.INVALIDO));
+        }
+
+        LocalDate fechaNacimiento = datos.getFechaNacimiento();
+        if (fechaNacimiento == null) {
+            violaciones.add(new ViolacionCampo("fechaNacimiento", OBLIGATORIO, Tipo.OBLIGATORIO));
+        } else if (ChronoUnit.YEARS.between(fechaNacimiento, LocalDate.now(clock)) < EDAD_MINIMA) {
+            violaciones.add(new ViolacionCampo("fechaNacimiento", "El usuario debe ser mayor de edad", Tipo.EDAD));
+        }
+
+        if (vacio(datos.getNombre())) {
+            violaciones.add(new ViolacionCampo("nombre", OBLIGATORIO, Tipo.OBLIGATORIO));
+        }
+        if (vacio(datos.getApellido())) {
+            violaciones.add(new ViolacionCampo("apellido", OBLIGATORIO, Tipo.OBLIGATORIO));
+        }
+
+        String clave = datos.getClave();
+        if (clave == null) {
+            violaciones.add(new ViolacionCampo("clave", OBLIGATORIO, Tipo.OBLIGATORIO));
+        } else if (clave.length() < LONGITUD_MINIMA_CLAVE) {
+            violaciones.add(new ViolacionCampo("clave",
+                    "La clave debe tener al menos " + LONGITUD_MINIMA_CLAVE + " caracteres", Tipo.INVALIDO));
+        }
+        return violaciones;
+    }
+
+    private static DominioException excepcion(ViolacionCampo violacion) {
+        return switch (violacion.getTipo()) {
+            case OBLIGATORIO -> new CampoObligatorioException(violacion.getMensaje());
+            case INVALIDO -> new CampoInvalidoException(violacion.getMensaje());
+            case CORREO -> new EmailInvalidoException();
+            case EDAD -> new UsuarioMayorDeEdadException();
+        };
+    }
+
+    private static boolean vacio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    private static boolean celularValido(String celular) {
+        int inicio = celular.startsWith("+") ? 1 : 0;
+        return celular.length() - inicio <= MAXIMO_DIGITOS_CELULAR && soloDigitos(celular, inicio);
+    }
+
+    /** Al menos un dígito ASCII desde {@code inicio} hasta el final. */
+    private static boolean soloDigitos(String valor, int inicio) {
+        if (inicio >= valor.length()) {
+            return false;
+        }
+        for (int i = inicio; i < valor.length(); i++) {
+            if (!digito(valor.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Local con letras, dígitos, '_', '.' o '-'; dominio de una sola etiqueta con letras, dígitos, '_' o
+     * '-'; y un TLD de al menos dos letras ASCII.
+     */
+    private static boolean correoValido(String correo) {
+        int arroba = correo.indexOf('@');
+        if (arroba <= 0) {
+            return false;
+        }
+        for (int i = 0; i < arroba; i++) {
+            char c = correo.charAt(i);
+            if (!palabra(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        int punto = correo.indexOf('.', arroba + 1);
+        if (punto <= arroba + 1 || correo.length() - punto - 1 < 2) {
+            return false;
+        }
+        for (int i = arroba + 1; i < punto; i++) {
+            char c = correo.charAt(i);
+            if (!palabra(c) && c != '-') {
+                return false;
+            }
+        }
+        for (int i = punto + 1; i < correo.length(); i++) {
+            if (!letra(correo.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean palabra(char c) {
+        return letra(c) || digito(c) || c == '_';
+    }
+
+    private static boolean letra(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -2,60 +2,76 @@ package com.plazoleta.usuarios.infraestructure.configuration;
 
 import com.plazoleta.usuarios.domain.api.AuthServicePort;
 import com.plazoleta.usuarios.domain.api.UsuarioServicePort;
+import com.plazoleta.usuarios.domain.model.ModoCreacion;
 import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
 import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
 import com.plazoleta.usuarios.domain.usecase.LoginUseCase;
 import com.plazoleta.usuarios.domain.usecase.UsuarioUseCase;
+import com.plazoleta.usuarios.domain.usecase.ValidadorDatosUsuario;
+import com.plazoleta.usuarios.infraestructure.out.cache.UsuarioCacheDecorator;
+import com.plazoleta.usuarios.infraestructure.out.jpa.adapter.ConsistenciaLecturas;
+import com.plazoleta.usuarios.infraestructure.out.jpa.adapter.RoleRegistry;
 import com.plazoleta.usuarios.infraestructure.out.jpa.adapter.UsuarioJpaAdapter;
 import com.plazoleta.usuarios.infraestructure.out.jpa.mapper.UsuarioEntityMapper;
-import com.plazoleta.usuarios.infraestructure.out.jpa.repository.RoleRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioExportacionRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioInsercionRepository;
 import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.time.Clock;
+import java.util.concurrent.Executor;
 
 @Configuration
+@EnableConfigurationProperties(UsuarioCacheProperties.class)
 @RequiredArgsConstructor
 public class BeanConfiguration {
 
     private final UsuarioRepository usuarioRepository;
-    private final RoleRepository roleRepository;
+    private final UsuarioInsercionRepository usuarioInsercionRepository;
+    private final UsuarioExportacionRepository usuarioExportacionRepository;
+    private final ConsistenciaLecturas consistenciaLecturas;
+    private final RoleRegistry roleRegistry;
     private final UsuarioEntityMapper usuarioEntityMapper;
     private final JwtProviderPort jwtProviderPort;
+    private final PasswordEncoderPort passwordEncoderPort;
+    private final UsuarioCacheProperties usuarioCacheProperties;
+    @Qualifier(ExecutorConfiguration.REHASH_EXECUTOR)
+    private final Executor rehashExecutor;
+    @Qualifier(ExecutorConfiguration.IMPORTACION_HASH_POOL)
+    private final Executor importacionHashPool;
+    @Qualifier(ExecutorConfiguration.HASH_EXECUTOR)
+    private final Executor hashExecutor;
 
+    /**
+     * Tipo concreto en la firma para que Spring registre sus métricas (MeterBinder).
+     */
     @Bean
-    public PasswordEncoderPort passwordEncoderPort() {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return new PasswordEncoderPort() {
-            @Override
-            public String encode(String password) {
-                return encoder.encode(password);
-            }
-            @Override
-            public boolean matches(String rawPassword, String encodedPassword) {
-                return encoder.matches(rawPassword, encodedPassword);
-            }
-        };
+    public UsuarioCacheDecorator usuarioPersistencePort() {
+        UsuarioPersistencePort jpaAdapter = new UsuarioJpaAdapter(
+                usuarioRepository, roleRegistry, usuarioEntityMapper, usuarioInsercionRepository,
+                usuarioExportacionRepository, consistenciaLecturas);
+        return new UsuarioCacheDecorator(jpaAdapter,
+                usuarioCacheProperties.getMaximumSize(), usuarioCacheProperties.getTtl());
     }
 
     @Bean
-    public UsuarioPersistencePort usuarioPersistencePort() {
-        return new UsuarioJpaAdapter(usuarioRepository, roleRepository, usuarioEntityMapper);
-    }
-
-    @Bean
-    public UsuarioServicePort usuarioServicePort() {
-        return new UsuarioUseCase(usuarioPersistencePort(), passwordEncoderPort());
+    public UsuarioServicePort usuarioServicePort(@Value("${usuario.creacion.modo}") ModoCreacion modoCreacion) {
+        return new UsuarioUseCase(usuarioPersistencePort(), passwordEncoderPort, modoCreacion, importacionHashPool,
+                hashExecutor, new ValidadorDatosUsuario(Clock.systemDefaultZone()));
     }
 
     @Bean
     public AuthServicePort authServicePort() {
         LoginUseCase loginUseCase = new LoginUseCase(
                 usuarioPersistencePort(),
-                passwordEncoderPort(),
-                jwtProviderPort
+                passwordEncoderPort,
+                jwtProviderPort,
+                rehashExecutor
         );
         return loginUseCase::login;
     }
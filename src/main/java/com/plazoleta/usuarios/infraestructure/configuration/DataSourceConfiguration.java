@@ -0,0 +1,63 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.adapter.ConsistenciaLecturas;
+import com.plazoleta.usuarios.infraestructure.out.jpa.datasource.EnrutadorDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ReplicasProperties.class)
+public class DataSourceConfiguration {
+
+    /**
+     * Sin réplicas configuradas es el mismo pool que crearía Spring Boot a partir de spring.datasource,
+     * incluidos los ajustes de spring.datasource.hikari.
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicasProperties replicasProperties,
+                                 Environment environment) {
+        HikariDataSource primaria = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaria));
+        if (replicasProperties.getNodos().isEmpty()) {
+            return primaria;
+        }
+        primaria.setPoolName("primaria");
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicasProperties.Nodo nodo : replicasProperties.getNodos()) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(nodo.getUrl())
+                    .username(nodo.getUsername())
+                    .password(nodo.getPassword())
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(replicasProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new EnrutadorDataSource(primaria, replicas);
+    }
+
+    @Bean
+    public ConsistenciaLecturas consistenciaLecturas(ReplicasProperties replicasProperties,
+                                                     PlatformTransactionManager transactionManager) {
+        if (replicasProperties.getNodos().isEmpty()) {
+            return ConsistenciaLecturas.sinReplicas();
+        }
+        return new ConsistenciaLecturas(transactionManager, replicasProperties.getVentanaLecturaPropia());
+    }
+}
@@ -0,0 +1,60 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors dedicados a trabajo de CPU (hash de contraseñas) para no ocupar los hilos de Tomcat.
+ */
+@Configuration
+public class ExecutorConfiguration {
+
+    public static final String HASH_EXECUTOR = "hashExecutor";
+    public static final String REHASH_EXECUTOR = "rehashExecutor";
+    public static final String IMPORTACION_HASH_POOL = "importacionHashPool";
+
+    /**
+     * Pool acotado al número de núcleos con cola limitada. Cuando la cola se llena rechaza la tarea
+     * (TaskRejectedException) y el GlobalExceptionHandler responde 503 con Retry-After.
+     */
+    @Bean(name = HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor hashExecutor(@Value("${password.hash-executor.pool-size}") int poolSize,
+                                               @Value("${password.hash-executor.queue-capacity}") int queueCapacity) {
+        int hilos = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Hashes de las importaciones masivas. Pool propio para que una importación de cientos de filas no
+     * llene la cola del executor del login; el número de hilos limita cuántos núcleos puede ocupar.
+     */
+    @Bean(name = IMPORTACION_HASH_POOL)
+    public ForkJoinPool importacionHashPool(@Value("${usuario.importacion.paralelismo}") int paralelismo) {
+        return new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Un solo hilo para regenerar hashes desactualizados tras un login. Si la cola se llena la tarea
+     * se descarta: el hash se volverá a regenerar en el siguiente login del usuario.
+     */
+    @Bean(name = REHASH_EXECUTOR)
+    public ThreadPoolTaskExecutor rehashExecutor(@Value("${password.rehash-executor.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("rehash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.infraestructure.diagnostico.MonitorPinning;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Con spring.threads.virtual.enabled=true Spring Boot atiende cada petición de Tomcat en un hilo virtual.
+ * Los hashes siguen en el executor de hash (ver HashFueraDeHilosVirtuales) y aquí se vigila que ningún
+ * hilo virtual retenga a su portador.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class HilosVirtualesConfiguration {
+
+    @Bean(initMethod = "iniciar")
+    public MonitorPinning monitorPinning(MeterRegistry meterRegistry,
+                                        @Value("${usuario.hilos-virtuales.umbral-pinning}") Duration umbral) {
+        return new MonitorPinning(meterRegistry, umbral);
+    }
+}
@@ -0,0 +1,82 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.GeneradorIdUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class JpaConfiguration {
+
+    /**
+     * Con ids de secuencia Hibernate ya no necesita un INSERT por fila para conocer la clave, así que los
+     * inserts se agrupan en lotes del mismo tamaño que las importaciones JDBC.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer insercionEnLotesCustomizer(
+            @Value("${usuario.id.tamano-asignacion}") int tamanoAsignacion,
+            @Value("${usuario.importacion.tamano-lote}") int tamanoLote) {
+        return properties -> {
+            properties.put(GeneradorIdUsuario.TAMANO_ASIGNACION, tamanoAsignacion);
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, tamanoLote);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    /**
+     * Caché de segundo nivel local en Caffeine. Cada contexto usa su propio gestor para no compartir regiones
+     * entre aplicaciones del mismo classloader (p. ej. en pruebas).
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager segundoNivelCacheManager(
+            @Value("${usuario.segundo-nivel.correos.maximum-size}") long maximoCorreos,
+            @Value("${usuario.segundo-nivel.correos.ttl}") Duration ttlCorreos) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("segundo-nivel:" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(RoleEntity.REGION, region(OptionalLong.empty(), OptionalLong.empty()));
+        cacheManager.createCache(UsuarioEntity.REGION_CORREOS,
+                region(OptionalLong.of(maximoCorreos), OptionalLong.of(ttlCorreos.toNanos())));
+        return cacheManager;
+    }
+
+    /**
+     * Activa el segundo nivel sobre el gestor anterior. Las regiones que no se crearon allí hacen fallar el
+     * arranque en vez de crearse sin límites. Con estadísticas Hibernate publica en Micrometer los aciertos y
+     * fallos por región ({@code hibernate.second.level.cache.requests}) y los de ids naturales.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer segundoNivelCustomizer(
+            CacheManager segundoNivelCacheManager,
+            @Value("${usuario.segundo-nivel.estadisticas}") boolean estadisticas) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, segundoNivelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, estadisticas);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maximo, OptionalLong ttlNanos) {
+        CaffeineConfiguration<Object, Object> configuracion = new CaffeineConfiguration<>();
+        configuracion.setMaximumSize(maximo);
+        configuracion.setExpireAfterWrite(ttlNanos);
+        configuracion.setStatisticsEnabled(true);
+        return configuracion;
+    }
+}
@@ -0,0 +1,37 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.infraestructure.out.security.jwt.JwtKeyRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtConfiguration {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtSigningProperties properties) {
+        String algoritmo = properties.getAlgoritmo();
+        if (properties.getClaves().isEmpty()) {
+            if (!properties.isClaveEfimera()) {
+                throw new IllegalStateException("Sin claves jwt.signing.claves configuradas; para desarrollo o "
+                        + "pruebas se puede activar jwt.signing.clave-efimera");
+            }
+            log.warn("Sin claves jwt.signing configuradas: se usa una clave {} efímera", algoritmo);
+            return JwtKeyRing.efimero(algoritmo);
+        }
+        var claves = properties.getClaves().stream()
+                .map(clave -> new JwtKeyRing.ClaveFirma(
+                        clave.getKid(),
+                        StringUtils.hasText(clave.getPrivateKey())
+                                ? JwtKeyRing.clavePrivada(algoritmo, clave.getPrivateKey())
+                                : null,
+                        JwtKeyRing.clavePublica(algoritmo, clave.getPublicKey())))
+                .toList();
+        log.info("Firmando tokens con {} y kid {}", algoritmo, properties.getKidActivo());
+        return new JwtKeyRing(algoritmo, properties.getKidActivo(), claves);
+    }
+}
@@ -0,0 +1,39 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Claves de firma de tokens (prefijo jwt.signing). Sin claves configuradas el servicio no arranca, salvo con
+ * {@code clave-efimera} activado.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    /** RS256 o EdDSA. */
+    private String algoritmo = "RS256";
+    /** kid de la clave con la que se firman los tokens nuevos. */
+    private String kidActivo;
+    private List<Clave> claves = new ArrayList<>();
+    /**
+     * Solo desarrollo y pruebas: sin claves se genera una al arrancar. Cada instancia firma con la suya y un
+     * reinicio invalida los tokens emitidos.
+     */
+    private boolean claveEfimera;
+
+    @Getter
+    @Setter
+    public static class Clave {
+        private String kid;
+        /** PEM PKCS#8; vacío en claves retiradas que solo verifican tokens emitidos antes de rotar. */
+        private String privateKey;
+        /** PEM X.509. */
+        private String publicKey;
+    }
+}
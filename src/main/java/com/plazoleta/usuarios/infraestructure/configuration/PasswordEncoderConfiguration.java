@@ -0,0 +1,66 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
+import com.plazoleta.usuarios.infraestructure.out.security.password.BCryptCostCalibrator;
+import com.plazoleta.usuarios.infraestructure.out.security.password.HashFueraDeHilosVirtuales;
+import com.plazoleta.usuarios.infraestructure.out.security.password.PasswordEncoderAdapter;
+import com.plazoleta.usuarios.infraestructure.out.security.password.PasswordHashingEngines;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PasswordProperties.class)
+public class PasswordEncoderConfiguration {
+
+    /**
+     * Los hashes nuevos usan password.algoritmo; los de otro motor (o de un costo menor) se regeneran
+     * en el siguiente login (ver LoginUseCase). Con spring.threads.virtual.enabled los hashes pedidos desde
+     * un hilo virtual se calculan en el executor de hash.
+     */
+    @Bean
+    public PasswordEncoderPort passwordEncoderPort(PasswordProperties properties,
+                                                   @Qualifier(ExecutorConfiguration.HASH_EXECUTOR) Executor hashExecutor) {
+        String algoritmo = properties.getAlgoritmo();
+        log.info("Algoritmo de hash para claves nuevas: {}", algoritmo);
+        return new HashFueraDeHilosVirtuales(new PasswordEncoderAdapter(PasswordHashingEngines.delegante(
+                algoritmo,
+                bcrypt(properties.getBcrypt(), PasswordHashingEngines.BCRYPT.equals(algoritmo)),
+                argon2(properties.getArgon2()),
+                pbkdf2(properties.getPbkdf2()))), hashExecutor);
+    }
+
+    /**
+     * Con cost = 0 el costo se calibra al arrancar, solo si BCrypt es el motor activo: en otro caso
+     * BCrypt únicamente verifica hashes existentes y su costo configurado no se usa.
+     */
+    private BCryptPasswordEncoder bcrypt(PasswordProperties.Bcrypt config, boolean activo) {
+        if (config.getCost() > 0) {
+            return new BCryptPasswordEncoder(config.getCost());
+        }
+        if (!activo) {
+            return new BCryptPasswordEncoder();
+        }
+        int costo = BCryptCostCalibrator.calibrar(config.getTargetMillis(), config.getMinCost(), config.getMaxCost());
+        log.info("Costo BCrypt calibrado: {}", costo);
+        return new BCryptPasswordEncoder(costo);
+    }
+
+    private Argon2PasswordEncoder argon2(PasswordProperties.Argon2 config) {
+        return new Argon2PasswordEncoder(config.getSaltLength(), config.getHashLength(),
+                config.getParallelism(), config.getMemoryKib(), config.getIterations());
+    }
+
+    private Pbkdf2PasswordEncoder pbkdf2(PasswordProperties.Pbkdf2 config) {
+        return new Pbkdf2PasswordEncoder("", config.getSaltLength(), config.getIterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
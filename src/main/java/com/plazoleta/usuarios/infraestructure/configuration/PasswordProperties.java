@@ -0,0 +1,47 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parámetros de los motores de hash de contraseñas (prefijo password).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password")
+public class PasswordProperties {
+
+    /** Motor usado para los hashes nuevos: bcrypt, argon2 o pbkdf2. */
+    private String algoritmo = "bcrypt";
+    private final Bcrypt bcrypt = new Bcrypt();
+    private final Argon2 argon2 = new Argon2();
+    private final Pbkdf2 pbkdf2 = new Pbkdf2();
+
+    @Getter
+    @Setter
+    public static class Bcrypt {
+        /** Costo fijo; 0 = calibrar al arrancar para acercarse a targetMillis por hash. */
+        private int cost;
+        private long targetMillis = 80;
+        private int minCost = 10;
+        private int maxCost = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memoryKib = 19456;
+        private int iterations = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Pbkdf2 {
+        private int saltLength = 16;
+        private int iterations = 310000;
+    }
+}
@@ -0,0 +1,33 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de solo lectura de la base de datos (prefijo usuario.replicas).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "usuario.replicas")
+public class ReplicasProperties {
+
+    /** Sin nodos todas las conexiones van a spring.datasource. */
+    private List<Nodo> nodos = new ArrayList<>();
+    /** Tiempo tras una escritura durante el que las lecturas de ese usuario siguen yendo a la primaria. */
+    private Duration ventanaLecturaPropia = Duration.ofSeconds(5);
+    /** Conexiones máximas por réplica. */
+    private int maximumPoolSize = 10;
+
+    @Getter
+    @Setter
+    public static class Nodo {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
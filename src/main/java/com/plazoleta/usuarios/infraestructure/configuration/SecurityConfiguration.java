@@ -1,5 +1,6 @@
 package com.plazoleta.usuarios.infraestructure.configuration;
 
+import com.plazoleta.usuarios.infraestructure.out.security.RutasPublicas;
 import com.plazoleta.usuarios.infraestructure.out.security.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -25,11 +26,13 @@ public class SecurityConfiguration {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/v1/auth/login").permitAll()
+                        .requestMatchers(RutasPublicas.MATCHER).permitAll()
                         .requestMatchers("/api/v1/usuarios/propietario").hasRole("ADMINISTRADOR")
                         .requestMatchers("/api/v1/usuarios/empleado").hasRole("PROPIETARIO")
+                        .requestMatchers("/api/v1/usuarios/exportacion").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/api/v1/usuarios/empleados/importacion").hasRole("PROPIETARIO")
+                        .requestMatchers("/api/v1/usuarios/empleados").hasAnyRole("ADMINISTRADOR", "PROPIETARIO")
                         .requestMatchers("/api/v1/usuarios/**").authenticated()
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,20 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Caché de usuarios por id (prefijo usuario.cache).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "usuario.cache")
+public class UsuarioCacheProperties {
+
+    private long maximumSize = 10000;
+    /** Tiempo máximo que un usuario leído se sirve desde memoria. */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,82 @@
+package com.plazoleta.usuarios.infraestructure.diagnostico;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escucha el evento JFR jdk.VirtualThreadPinned: un hilo virtual que se bloqueó sin soltar a su portador
+ * (dentro de un synchronized o de código nativo). Cada evento suma a la métrica {@value #METRICA} con
+ * origen=jdbc si la pila pasa por Hikari, el driver o Hibernate, y origen=otro en caso contrario. La pila
+ * completa se registra en el log solo la primera vez que aparece cada punto de bloqueo.
+ */
+@Slf4j
+public class MonitorPinning implements AutoCloseable {
+
+    static final String EVENTO = "jdk.VirtualThreadPinned";
+    public static final String METRICA = "jvm.threads.virtual.pinned";
+    private static final List<String> PAQUETES_JDBC = List.of(
+            "com.zaxxer.hikari.", "org.postgresql.", "org.h2.", "org.hibernate.", "java.sql.", "javax.sql.");
+    private static final int MARCOS_EN_LOG = 15;
+
+    private final Counter jdbc;
+    private final Counter otro;
+    private final Set<String> yaRegistrados = ConcurrentHashMap.newKeySet();
+    private final RecordingStream stream;
+
+    public MonitorPinning(MeterRegistry registry, Duration umbral) {
+        this.jdbc = contador(registry, "jdbc");
+        this.otro = contador(registry, "otro");
+        this.stream = new RecordingStream();
+        stream.enable(EVENTO).withThreshold(umbral).withStackTrace();
+        stream.onEvent(EVENTO, evento -> registrar(evento.getDuration(), marcos(evento)));
+    }
+
+    public void iniciar() {
+        stream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    void registrar(Duration duracion, List<String> marcos) {
+        boolean enJdbc = marcos.stream().anyMatch(marco -> PAQUETES_JDBC.stream().anyMatch(marco::startsWith));
+        (enJdbc ? jdbc : otro).increment();
+        String puntoDeBloqueo = marcos.isEmpty() ? "desconocido" : marcos.getFirst();
+        if (yaRegistrados.add(puntoDeBloqueo)) {
+            log.warn("Hilo virtual fijado a su portador durante {} ms (origen {}) en:\n\t{}", duracion.toMillis(),
+                    enJdbc ? "jdbc" : "otro",
+                    String.join("\n\t", marcos.subList(0, Math.min(MARCOS_EN_LOG, marcos.size()))));
+        }
+    }
+
+    private static List<String> marcos(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return List.of();
+        }
+        return evento.getStackTrace().getFrames().stream()
+                .map(MonitorPinning::texto)
+                .toList();
+    }
+
+    private static String texto(RecordedFrame marco) {
+        return marco.getMethod().getType().getName() + "." + marco.getMethod().getName() + ":" + marco.getLineNumber();
+    }
+
+    private static Counter contador(MeterRegistry registry, String origen) {
+        return Counter.builder(METRICA)
+                .description("Bloqueos de hilos virtuales que retuvieron a su hilo portador")
+                .tag("origen", origen)
+                .register(registry);
+    }
+}
@@ -5,93 +5,123 @@ import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
 import com.plazoleta.usuarios.domain.exception.CampoObligatorioException;
 import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.DocumentoYaRegistradoException;
+import com.plazoleta.usuarios.domain.exception.DominioException;
 import com.plazoleta.usuarios.domain.exception.EmailInvalidoException;
 import com.plazoleta.usuarios.domain.exception.RolNoEncontradoException;
 import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
 import com.plazoleta.usuarios.domain.exception.ValorExcedeLongitudException;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
- * Manejador de excepciones que solo trata excepciones específicas del dominio y de validación.
+ * Manejador de excepciones que solo trata excepciones específicas del dominio y de validación. Lo fijo de
+ * cada respuesta (código, estado y campo) se arma una vez; por petición solo se crea el
+ * {@link RespuestaError} con el mensaje y la marca de tiempo, que se reutiliza dentro del mismo milisegundo.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    private static final String KEY_CODIGO = "codigo";
-    private static final String KEY_MENSAJE = "mensaje";
-    private static final String KEY_TIMESTAMP = "timestamp";
-    private static final String KEY_STATUS = "status";
-    private static final String KEY_CAMPO = "campo";
+    private static final String RETRY_AFTER_SEGUNDOS = "1";
+
+    private static final Plantilla CAMPO_INVALIDO = new Plantilla("CAMPO_INVALIDO", HttpStatus.BAD_REQUEST, null);
+    private static final Plantilla EMAIL_INVALIDO = new Plantilla("EMAIL_INVALIDO", HttpStatus.BAD_REQUEST, null);
+    private static final Plantilla EDAD_INSUFICIENTE = new Plantilla("EDAD_INSUFICIENTE", HttpStatus.BAD_REQUEST, null);
+    private static final Plantilla ROL_NO_ENCONTRADO = new Plantilla("ROL_NO_ENCONTRADO", HttpStatus.NOT_FOUND, null);
+    private static final Plantilla CORREO_YA_REGISTRADO = new Plantilla("CORREO_YA_REGISTRADO", HttpStatus.CONFLICT, "correo");
+    private static final Plantilla DOCUMENTO_YA_REGISTRADO =
+            new Plantilla("DOCUMENTO_YA_REGISTRADO", HttpStatus.CONFLICT, "documento");
+    private static final Plantilla VALOR_EXCEDE_LONGITUD = new Plantilla("VALOR_EXCEDE_LONGITUD", HttpStatus.BAD_REQUEST, null);
+    private static final Plantilla CREDENCIALES_INVALIDAS =
+            new Plantilla("CREDENCIALES_INVALIDAS", HttpStatus.UNAUTHORIZED, null);
+    private static final Plantilla CAMPO_OBLIGATORIO = new Plantilla("CAMPO_OBLIGATORIO", HttpStatus.BAD_REQUEST, "desconocido");
+    private static final Plantilla SERVICIO_SATURADO = new Plantilla("SERVICIO_SATURADO", HttpStatus.SERVICE_UNAVAILABLE, null);
+    private static final Plantilla VALIDACION_FALLIDA = new Plantilla("VALIDACION_FALLIDA", HttpStatus.BAD_REQUEST, null);
+
+    private final Clock clock;
+    private volatile MarcaDeTiempo ultimaMarca = new MarcaDeTiempo(Long.MIN_VALUE, null);
+
+    public GlobalExceptionHandler() {
+        this(Clock.systemDefaultZone());
+    }
+
+    GlobalExceptionHandler(Clock clock) {
+        this.clock = clock;
+    }
 
     @ExceptionHandler(CampoInvalidoException.class)
-    public ResponseEntity<Map<String, Object>> handleCampoInvalido(CampoInvalidoException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(createErrorResponse("CAMPO_INVALIDO", ex.getMessage(), HttpStatus.BAD_REQUEST));
+    public ResponseEntity<RespuestaError> handleCampoInvalido(CampoInvalidoException ex) {
+        return responder(CAMPO_INVALIDO, ex);
     }
 
     @ExceptionHandler(EmailInvalidoException.class)
-    public ResponseEntity<Map<String, Object>> handleEmailInvalido(EmailInvalidoException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(createErrorResponse("EMAIL_INVALIDO", ex.getMessage(), HttpStatus.BAD_REQUEST));
+    public ResponseEntity<RespuestaError> handleEmailInvalido(EmailInvalidoException ex) {
+        return responder(EMAIL_INVALIDO, ex);
     }
 
     @ExceptionHandler(UsuarioMayorDeEdadException.class)
-    public ResponseEntity<Map<String, Object>> handleUsuarioMayorDeEdad(UsuarioMayorDeEdadException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(createErrorResponse("EDAD_INSUFICIENTE", ex.getMessage(), HttpStatus.BAD_REQUEST));
+    public ResponseEntity<RespuestaError> handleUsuarioMayorDeEdad(UsuarioMayorDeEdadException ex) {
+        return responder(EDAD_INSUFICIENTE, ex);
     }
 
     @ExceptionHandler(RolNoEncontradoException.class)
-    public ResponseEntity<Map<String, Object>> handleRolNoEncontrado(RolNoEncontradoException ex) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(createErrorResponse("ROL_NO_ENCONTRADO", ex.getMessage(), HttpStatus.NOT_FOUND));
+    public ResponseEntity<RespuestaError> handleRolNoEncontrado(RolNoEncontradoException ex) {
+        return responder(ROL_NO_ENCONTRADO, ex);
     }
 
     @ExceptionHandler(CorreoYaRegistradoException.class)
-    public ResponseEntity<Map<String, Object>> handleCorreoYaRegistrado(CorreoYaRegistradoException ex) {
-        Map<String, Object> response = createErrorResponse("CORREO_YA_REGISTRADO", ex.getMessage(), HttpStatus.CONFLICT);
-        response.put(KEY_CAMPO, "correo");
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    public ResponseEntity<RespuestaError> handleCorreoYaRegistrado(CorreoYaRegistradoException ex) {
+        return responder(CORREO_YA_REGISTRADO, ex);
     }
 
     @ExceptionHandler(DocumentoYaRegistradoException.class)
-    public ResponseEntity<Map<String, Object>> handleDocumentoYaRegistrado(DocumentoYaRegistradoException ex) {
-        Map<String, Object> response = createErrorResponse("DOCUMENTO_YA_REGISTRADO", ex.getMessage(), HttpStatus.CONFLICT);
-        response.put(KEY_CAMPO, "documento");
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    public ResponseEntity<RespuestaError> handleDocumentoYaRegistrado(DocumentoYaRegistradoException ex) {
+        return responder(DOCUMENTO_YA_REGISTRADO, ex);
     }
 
     @ExceptionHandler(ValorExcedeLongitudException.class)
-    public ResponseEntity<Map<String, Object>> handleValorExcedeLongitud(ValorExcedeLongitudException ex) {
-        Map<String, Object> response = createErrorResponse("VALOR_EXCEDE_LONGITUD", ex.getMessage(), HttpStatus.BAD_REQUEST);
-        response.put(KEY_CAMPO, ex.getCampo());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    public ResponseEntity<RespuestaError> handleValorExcedeLongitud(ValorExcedeLongitudException ex) {
+        return ResponseEntity.status(VALOR_EXCEDE_LONGITUD.status())
+                .body(VALOR_EXCEDE_LONGITUD.respuesta(ex.getMessage(), null, timestamp(), ex.getCampo()));
     }
 
     @ExceptionHandler(CredencialesInvalidasException.class)
-    public ResponseEntity<Map<String, Object>> handleCredencialesInvalidas(CredencialesInvalidasException ex) {
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(createErrorResponse("CREDENCIALES_INVALIDAS", ex.getMessage(), HttpStatus.UNAUTHORIZED));
+    public ResponseEntity<RespuestaError> handleCredencialesInvalidas(CredencialesInvalidasException ex) {
+        return responder(CREDENCIALES_INVALIDAS, ex);
     }
 
     @ExceptionHandler(CampoObligatorioException.class)
-    public ResponseEntity<Map<String, Object>> handleCampoObligatorio(CampoObligatorioException ex) {
-        Map<String, Object> response = createErrorResponse("CAMPO_OBLIGATORIO", ex.getMessage(), HttpStatus.BAD_REQUEST);
-        response.put(KEY_CAMPO, "desconocido");
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    public ResponseEntity<RespuestaError> handleCampoObligatorio(CampoObligatorioException ex) {
+        return responder(CAMPO_OBLIGATORIO, ex);
+    }
+
+    /**
+     * Executor de hash saturado (cola llena): se rechaza rápido en lugar de encolar la petición.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<RespuestaError> handleServicioSaturado(RejectedExecutionException ex) {
+        return ResponseEntity.status(SERVICIO_SATURADO.status())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SEGUNDOS)
+                .body(SERVICIO_SATURADO.respuesta(
+                        "El servicio está ocupado, intente nuevamente en unos segundos", null, timestamp(), null));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public ResponseEntity<RespuestaError> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -99,22 +129,55 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put(KEY_CODIGO, "VALIDACION_FALLIDA");
-        response.put(KEY_MENSAJE, "Los datos enviados no cumplen con las validaciones requeridas");
-        response.put("errores", errors);
-        response.put(KEY_TIMESTAMP, LocalDateTime.now().toString());
-        response.put(KEY_STATUS, HttpStatus.BAD_REQUEST.value());
+        return ResponseEntity.status(VALIDACION_FALLIDA.status())
+                .body(VALIDACION_FALLIDA.respuesta(
+                        "Los datos enviados no cumplen con las validaciones requeridas", errors, timestamp(), null));
+    }
+
+    /**
+     * Si el rechazo viene de la validación de datos, {@code campo} es el de la primera violación y, cuando
+     * hay varias, {@code errores} las lista todas por campo.
+     */
+    private ResponseEntity<RespuestaError> responder(Plantilla plantilla, DominioException ex) {
+        List<ViolacionCampo> violaciones = ex.getViolaciones();
+        String campo = violaciones.isEmpty() ? plantilla.campo() : violaciones.get(0).getCampo();
+        return ResponseEntity.status(plantilla.status())
+                .body(plantilla.respuesta(ex.getMessage(), errores(violaciones), timestamp(), campo));
+    }
+
+    private static Map<String, String> errores(List<ViolacionCampo> violaciones) {
+        if (violaciones.size() < 2) {
+            return null;
+        }
+        Map<String, String> errores = new LinkedHashMap<>();
+        for (ViolacionCampo violacion : violaciones) {
+            errores.put(violacion.getCampo(), violacion.getMensaje());
+        }
+        return errores;
+    }
+
+    /**
+     * Hora local con precisión de milisegundos. En una ráfaga de rechazos varias respuestas caen en el
+     * mismo milisegundo y comparten el texto ya formateado.
+     */
+    private String timestamp() {
+        long ahora = clock.millis();
+        MarcaDeTiempo marca = ultimaMarca;
+        if (marca.millis() != ahora) {
+            LocalDateTime hora = LocalDateTime.ofInstant(Instant.ofEpochMilli(ahora), clock.getZone());
+            marca = new MarcaDeTiempo(ahora, hora.truncatedTo(ChronoUnit.MILLIS).toString());
+            ultimaMarca = marca;
+        }
+        return marca.texto();
+    }
+
+    private record Plantilla(String codigo, HttpStatus status, String campo) {
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        RespuestaError respuesta(String mensaje, Map<String, String> errores, String timestamp, String campo) {
+            return new RespuestaError(codigo, mensaje, errores, timestamp, status.value(), campo);
+        }
     }
 
-    private Map<String, Object> createErrorResponse(String codigo, String mensaje, HttpStatus status) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put(KEY_CODIGO, codigo);
-        response.put(KEY_MENSAJE, mensaje);
-        response.put(KEY_TIMESTAMP, LocalDateTime.now().toString());
-        response.put(KEY_STATUS, status.value());
-        return response;
+    private record MarcaDeTiempo(long millis, String texto) {
     }
-}
\ No newline at end of file
+}
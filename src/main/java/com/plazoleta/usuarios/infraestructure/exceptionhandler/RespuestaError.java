@@ -0,0 +1,18 @@
+package com.plazoleta.usuarios.infraestructure.exceptionhandler;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Cuerpo de las respuestas de error. El orden de los componentes es el del JSON; {@code errores} solo
+ * aparece en las validaciones de formulario y {@code campo} cuando el error apunta a un campo concreto.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RespuestaError(String codigo,
+                             String mensaje,
+                             Map<String, String> errores,
+                             String timestamp,
+                             int status,
+                             String campo) {
+}
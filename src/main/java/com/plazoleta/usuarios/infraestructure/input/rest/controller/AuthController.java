@@ -1,6 +1,7 @@
 package com.plazoleta.usuarios.infraestructure.input.rest.controller;
 
 import com.plazoleta.usuarios.domain.api.AuthServicePort;
+import com.plazoleta.usuarios.infraestructure.configuration.ExecutorConfiguration;
 import com.plazoleta.usuarios.infraestructure.input.rest.dto.LoginRequestDto;
 import com.plazoleta.usuarios.infraestructure.input.rest.dto.LoginResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,11 +10,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -22,15 +26,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthServicePort authServicePort;
+    @Qualifier(ExecutorConfiguration.HASH_EXECUTOR)
+    private final Executor hashExecutor;
 
+    /**
+     * El login (verificación BCrypt) se ejecuta en el executor de hash; el hilo de Tomcat queda libre
+     * mientras tanto. Si la cola del executor está llena se responde 503 de inmediato.
+     */
     @Operation(summary = "Iniciar sesión")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Token generado correctamente"),
-            @ApiResponse(responseCode = "401", description = "Credenciales inválidas")
+            @ApiResponse(responseCode = "401", description = "Credenciales inválidas"),
+            @ApiResponse(responseCode = "503", description = "Servicio saturado, reintentar según Retry-After")
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
-        String token = authServicePort.login(request.getCorreo(), request.getClave(), request.getRestauranteId());
-        return ResponseEntity.ok(new LoginResponseDto(token));
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@Valid @RequestBody LoginRequestDto request) {
+        return CompletableFuture
+                .supplyAsync(() -> authServicePort.login(
+                        request.getCorreo(), request.getClave(), request.getRestauranteId()), hashExecutor)
+                .thenApply(token -> ResponseEntity.ok(new LoginResponseDto(token)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.controller;
+
+import com.plazoleta.usuarios.infraestructure.out.security.RutasPublicas;
+import com.plazoleta.usuarios.infraestructure.out.security.jwt.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@Tag(name = "JWKS", description = "Claves públicas para verificar los tokens emitidos")
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyRing keyRing, @Value("${jwt.jwks.max-age-seconds}") long maxAgeSeconds) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    /**
+     * Claves públicas para que los demás servicios verifiquen los tokens localmente. El max-age debe
+     * ser menor que el tiempo entre publicar una clave nueva y activarla.
+     */
+    @Operation(summary = "Claves públicas de firma de tokens (JWK Set)")
+    @GetMapping(RutasPublicas.JWKS_PATH)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(keyRing.jwks());
+    }
+}
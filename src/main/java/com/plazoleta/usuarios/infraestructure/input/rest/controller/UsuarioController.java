@@ -2,11 +2,20 @@ package com.plazoleta.usuarios.infraestructure.input.rest.controller;
 
 import com.plazoleta.usuarios.application.dto.CrearEmpleadoDto;
 import com.plazoleta.usuarios.application.dto.CrearPropietarioDto;
+import com.plazoleta.usuarios.application.dto.response.ImportacionResponseDto;
+import com.plazoleta.usuarios.application.dto.response.PaginaEmpleadosResponseDto;
 import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import com.plazoleta.usuarios.application.dto.response.UsuariosPorIdsResponseDto;
 import com.plazoleta.usuarios.application.handler.IUsuarioHandler;
+import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
 import com.plazoleta.usuarios.domain.model.TokenClaims;
 import com.plazoleta.usuarios.infraestructure.input.rest.dto.CrearEmpleadoRequestDto;
 import com.plazoleta.usuarios.infraestructure.input.rest.dto.CrearPropietarioRequestDto;
+import com.plazoleta.usuarios.infraestructure.input.rest.dto.UsuariosPorIdsRequestDto;
+import com.plazoleta.usuarios.infraestructure.input.rest.exportacion.ExportadorUsuarios;
+import com.plazoleta.usuarios.infraestructure.input.rest.exportacion.FormatoExportacion;
+import com.plazoleta.usuarios.infraestructure.input.rest.importacion.LectorCsvEmpleados;
+import com.plazoleta.usuarios.infraestructure.input.rest.importacion.LimitesImportacion;
 import com.plazoleta.usuarios.infraestructure.input.rest.mapper.CrearEmpleadoRestMapper;
 import com.plazoleta.usuarios.infraestructure.input.rest.mapper.CrearPropietarioRestMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,16 +25,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/usuarios")
@@ -33,9 +52,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Usuarios", description = "API para gestión de usuarios")
 public class UsuarioController {
 
+    private static final String ROL_ADMINISTRADOR = "ADMINISTRADOR";
+    /** Solo la exportación tiene este plazo; el resto de peticiones asíncronas conserva el de Spring MVC. */
+    static final Duration TIEMPO_MAXIMO_EXPORTACION = Duration.ofMinutes(30);
+
     private final IUsuarioHandler usuarioHandler;
     private final CrearPropietarioRestMapper crearPropietarioRestMapper;
     private final CrearEmpleadoRestMapper crearEmpleadoRestMapper;
+    private final ExportadorUsuarios exportadorUsuarios;
 
     @Operation(summary = "Obtener usuario por ID")
     @ApiResponses(value = {
@@ -53,6 +77,94 @@ public class UsuarioController {
         return ResponseEntity.ok(usuario);
     }
 
+    @Operation(summary = "Obtener varios usuarios por ID",
+            description = "Resuelve hasta " + UsuariosPorIdsRequestDto.MAXIMO_IDS + " ids en una sola consulta. "
+                    + "Los usuarios se devuelven en el orden pedido y los ids inexistentes se listan en noEncontrados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta resuelta",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UsuariosPorIdsResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, con nulos o demasiado larga", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<UsuariosPorIdsResponseDto> obtenerUsuariosPorIds(
+            @Valid @RequestBody UsuariosPorIdsRequestDto requestDto) {
+        return ResponseEntity.ok(usuarioHandler.obtenerUsuariosPorIds(requestDto.getIds()));
+    }
+
+    @Operation(summary = "Importar empleados",
+            description = "Crea los empleados del restaurante del propietario autenticado a partir de un arreglo JSON "
+                    + "(mismos campos que al crear un empleado) o de un CSV con encabezado. Cada fila se valida por "
+                    + "separado y la respuesta indica, fila por fila, el id creado o el motivo del rechazo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importación procesada",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ImportacionResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Archivo mal formado o demasiadas filas", content = @Content),
+            @ApiResponse(responseCode = "403", description = "El token no tiene restaurante", content = @Content),
+            @ApiResponse(responseCode = "413", description = "El cuerpo supera "
+                    + LimitesImportacion.MAXIMO_BYTES + " bytes", content = @Content)
+    })
+    @PostMapping(value = "/empleados/importacion", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportacionResponseDto> importarEmpleados(
+            HttpServletRequest request,
+            @RequestBody List<CrearEmpleadoRequestDto> filas) {
+        return importar(request, filas);
+    }
+
+    @Operation(summary = "Importar empleados desde CSV",
+            description = "Columnas: nombre,apellido,documento,celular,fechaNacimiento (yyyy-MM-dd),correo,clave")
+    @PostMapping(value = "/empleados/importacion", consumes = "text/csv")
+    public ResponseEntity<ImportacionResponseDto> importarEmpleadosCsv(
+            HttpServletRequest request,
+            @RequestBody String csv) {
+        return importar(request, LectorCsvEmpleados.leer(csv));
+    }
+
+    @Operation(summary = "Listar empleados de un restaurante",
+            description = "Paginación por cursor ordenada por id: para la página siguiente se envía en after "
+                    + "el valor de siguiente de la respuesta anterior. Un propietario solo ve su restaurante.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de empleados",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PaginaEmpleadosResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "El restaurante no es del propietario autenticado", content = @Content)
+    })
+    @GetMapping("/empleados")
+    public ResponseEntity<PaginaEmpleadosResponseDto> listarEmpleados(
+            HttpServletRequest request,
+            @RequestParam Integer restauranteId,
+            @RequestParam(required = false) Integer after,
+            @RequestParam(defaultValue = "50") int limite) {
+        TokenClaims claims = (TokenClaims) request.getAttribute("tokenClaims");
+        if (!puedeVerEmpleados(claims, restauranteId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(usuarioHandler.listarEmpleados(restauranteId, after, limite));
+    }
+
+    @Operation(summary = "Exportar usuarios",
+            description = "Envía los usuarios a medida que se leen de la base de datos, en NDJSON o CSV. "
+                    + "Filtros opcionales por rol y restaurante. La clave nunca se incluye.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso", content = @Content)
+    })
+    @GetMapping("/exportacion")
+    public WebAsyncTask<Void> exportarUsuarios(
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacion formato,
+            @RequestParam(required = false) String rol,
+            @RequestParam(required = false) Integer restauranteId,
+            HttpServletResponse response) {
+        response.setContentType(formato.getMediaType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("usuarios." + formato.getExtension()).build().toString());
+        return new WebAsyncTask<>(TIEMPO_MAXIMO_EXPORTACION.toMillis(), () -> {
+            exportadorUsuarios.escribir(formato, response.getOutputStream(),
+                    consumidor -> usuarioHandler.exportarUsuarios(rol, restauranteId, consumidor));
+            return null;
+        });
+    }
+
     @Operation(summary = "Crear un propietario")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Propietario creado", content = @Content),
@@ -86,4 +198,30 @@ public class UsuarioController {
         usuarioHandler.crearEmpleado(dto);
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
+
+    private ResponseEntity<ImportacionResponseDto> importar(HttpServletRequest request,
+                                                           List<CrearEmpleadoRequestDto> filas) {
+        TokenClaims claims = (TokenClaims) request.getAttribute("tokenClaims");
+        if (claims == null || claims.getRestauranteId() == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (filas.isEmpty() || filas.size() > LimitesImportacion.MAXIMO_FILAS) {
+            throw new CampoInvalidoException("La importación debe tener entre 1 y " + LimitesImportacion.MAXIMO_FILAS + " filas");
+        }
+        List<CrearEmpleadoDto> dtos = new ArrayList<>(filas.size());
+        for (CrearEmpleadoRequestDto fila : filas) {
+            // Una fila null llega vacía al caso de uso, que la rechaza por campos obligatorios
+            CrearEmpleadoDto dto = crearEmpleadoRestMapper.toApplicationDto(fila != null ? fila : new CrearEmpleadoRequestDto());
+            dto.setRestauranteId(claims.getRestauranteId());
+            dtos.add(dto);
+        }
+        return ResponseEntity.ok(usuarioHandler.importarEmpleados(dtos));
+    }
+
+    private static boolean puedeVerEmpleados(TokenClaims claims, Integer restauranteId) {
+        if (claims == null) {
+            return false;
+        }
+        return ROL_ADMINISTRADOR.equals(claims.getRol()) || restauranteId.equals(claims.getRestauranteId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UsuariosPorIdsRequestDto {
+
+    public static final int MAXIMO_IDS = 500;
+
+    @NotEmpty(message = "Debe enviar al menos un id")
+    @Size(max = MAXIMO_IDS, message = "No se pueden consultar más de " + MAXIMO_IDS + " ids por petición")
+    private List<@NotNull(message = "Los ids no pueden ser nulos") Integer> ids;
+}
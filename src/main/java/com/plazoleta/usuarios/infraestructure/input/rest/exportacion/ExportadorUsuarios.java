@@ -0,0 +1,114 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.exportacion;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Escribe cada usuario en cuanto llega de la base de datos, sin acumularlos: la memoria usada
+ * es la del búfer de salida, no la del total de filas.
+ */
+@Component
+public class ExportadorUsuarios {
+
+    static final String ENCABEZADO_CSV = "id,nombre,apellido,documento,celular,fechaNacimiento,correo,rol";
+    private static final String INICIO_DE_FORMULA = "=+-@\t\r";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritorJson;
+
+    public ExportadorUsuarios(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.escritorJson = objectMapper.writerFor(UsuarioResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * @param filas recibe el consumidor al que debe entregar cada usuario
+     */
+    public void escribir(FormatoExportacion formato, OutputStream salida,
+                         Consumer<Consumer<UsuarioResponseDto>> filas) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        try {
+            if (formato == FormatoExportacion.CSV) {
+                writer.write(ENCABEZADO_CSV);
+                writer.write('\n');
+                filas.accept(usuario -> escribirCsv(writer, usuario));
+            } else {
+                JsonGenerator generador = objectMapper.getFactory().createGenerator(writer)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                filas.accept(usuario -> escribirJson(generador, usuario));
+                generador.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void escribirJson(JsonGenerator generador, UsuarioResponseDto usuario) {
+        try {
+            escritorJson.writeValue(generador, usuario);
+            generador.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void escribirCsv(Writer writer, UsuarioResponseDto usuario) {
+        try {
+            writer.write(campo(usuario.getId()));
+            writer.write(',');
+            writer.write(campo(usuario.getNombre()));
+            writer.write(',');
+            writer.write(campo(usuario.getApellido()));
+            writer.write(',');
+            writer.write(campo(usuario.getDocumento()));
+            writer.write(',');
+            writer.write(campo(usuario.getCelular()));
+            writer.write(',');
+            writer.write(campo(usuario.getFechaNacimiento()));
+            writer.write(',');
+            writer.write(campo(usuario.getCorreo()));
+            writer.write(',');
+            writer.write(campo(usuario.getRol()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Comillas solo cuando el valor las necesita (RFC 4180). Un valor que empieza como una fórmula de hoja
+     * de cálculo ({@code = + - @}, tabulador o retorno de carro) se antepone con {@code '} para que no se
+     * evalúe al abrir el archivo; el celular con prefijo internacional sale como {@code '+57...}.
+     */
+    static String campo(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (!texto.isEmpty() && INICIO_DE_FORMULA.indexOf(texto.charAt(0)) >= 0) {
+            texto = "'" + texto;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + texto.replace("\"", "\"\"") + '"';
+            }
+        }
+        return texto;
+    }
+}
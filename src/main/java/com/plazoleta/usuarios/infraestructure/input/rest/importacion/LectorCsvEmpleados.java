@@ -0,0 +1,126 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.importacion;
+
+import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
+import com.plazoleta.usuarios.infraestructure.input.rest.dto.CrearEmpleadoRequestDto;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lee un CSV (RFC 4180) con encabezado. Las columnas se identifican por nombre, en cualquier orden:
+ * nombre, apellido, documento, celular, fechaNacimiento (yyyy-MM-dd), correo y clave. Un archivo mal
+ * formado se rechaza completo; la validación de cada fila la hace el caso de uso.
+ */
+public final class LectorCsvEmpleados {
+
+    static final List<String> COLUMNAS = List.of(
+            "nombre", "apellido", "documento", "celular", "fechaNacimiento", "correo", "clave");
+
+    private LectorCsvEmpleados() {
+    }
+
+    public static List<CrearEmpleadoRequestDto> leer(String csv) {
+        List<List<String>> registros = registros(csv);
+        if (registros.isEmpty()) {
+            throw new CampoInvalidoException("El archivo CSV está vacío");
+        }
+        Map<String, Integer> posiciones = new HashMap<>();
+        List<String> encabezado = registros.get(0);
+        for (int i = 0; i < encabezado.size(); i++) {
+            posiciones.put(encabezado.get(i).trim(), i);
+        }
+        for (String columna : COLUMNAS) {
+            if (!posiciones.containsKey(columna)) {
+                throw new CampoInvalidoException("Falta la columna " + columna + " en el encabezado del CSV");
+            }
+        }
+        List<CrearEmpleadoRequestDto> filas = new ArrayList<>(registros.size() - 1);
+        for (int i = 1; i < registros.size(); i++) {
+            List<String> registro = registros.get(i);
+            CrearEmpleadoRequestDto dto = new CrearEmpleadoRequestDto();
+            dto.setNombre(valor(registro, posiciones, "nombre"));
+            dto.setApellido(valor(registro, posiciones, "apellido"));
+            dto.setDocumento(valor(registro, posiciones, "documento"));
+            dto.setCelular(valor(registro, posiciones, "celular"));
+            dto.setFechaNacimiento(fecha(valor(registro, posiciones, "fechaNacimiento"), i));
+            dto.setCorreo(valor(registro, posiciones, "correo"));
+            dto.setClave(valor(registro, posiciones, "clave"));
+            filas.add(dto);
+        }
+        return filas;
+    }
+
+    private static String valor(List<String> registro, Map<String, Integer> posiciones, String columna) {
+        int posicion = posiciones.get(columna);
+        if (posicion >= registro.size() || registro.get(posicion).isEmpty()) {
+            return null;
+        }
+        return registro.get(posicion);
+    }
+
+    private static LocalDate fecha(String valor, int fila) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(valor.trim());
+        } catch (DateTimeParseException e) {
+            throw new CampoInvalidoException("Fila " + fila + ": fecha de nacimiento inválida, se espera yyyy-MM-dd");
+        }
+    }
+
+    /**
+     * Separa el texto en registros y campos respetando comillas dobles, comas y saltos de línea entre comillas.
+     * Las líneas vacías se ignoran.
+     */
+    static List<List<String>> registros(String csv) {
+        List<List<String>> registros = new ArrayList<>();
+        List<String> registro = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        int i = csv.startsWith("\uFEFF") ? 1 : 0;
+        for (; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (entreComillas) {
+                if (c != '"') {
+                    campo.append(c);
+                } else if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreComillas = false;
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                registro.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                cerrarRegistro(registros, registro, campo);
+                registro = new ArrayList<>();
+            } else {
+                campo.append(c);
+            }
+        }
+        if (entreComillas) {
+            throw new CampoInvalidoException("El CSV tiene comillas sin cerrar");
+        }
+        cerrarRegistro(registros, registro, campo);
+        return registros;
+    }
+
+    private static void cerrarRegistro(List<List<String>> registros, List<String> registro, StringBuilder campo) {
+        registro.add(campo.toString());
+        campo.setLength(0);
+        if (registro.size() > 1 || !registro.get(0).isEmpty()) {
+            registros.add(registro);
+        }
+    }
+}
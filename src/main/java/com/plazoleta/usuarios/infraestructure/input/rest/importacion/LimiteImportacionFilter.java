@@ -0,0 +1,123 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.importacion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Limita el cuerpo de una importación antes de que se convierta en JSON o CSV: un Content-Length mayor que
+ * {@link LimitesImportacion#MAXIMO_BYTES} se rechaza con 413 sin leerlo, y un cuerpo sin longitud declarada
+ * se corta al superarlo (la conversión falla con 400), se lea como bytes o como texto.
+ */
+@Component
+public class LimiteImportacionFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LimitesImportacion.RUTA.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (request.getContentLengthLong() > LimitesImportacion.MAXIMO_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                    "La importación no puede superar " + LimitesImportacion.MAXIMO_BYTES + " bytes");
+            return;
+        }
+        filterChain.doFilter(new CuerpoLimitado(request), response);
+    }
+
+    private static final class CuerpoLimitado extends HttpServletRequestWrapper {
+
+        private ServletInputStream limitado;
+        private BufferedReader lector;
+
+        CuerpoLimitado(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (limitado == null) {
+                limitado = new Limitado(super.getInputStream());
+            }
+            return limitado;
+        }
+
+        /** El lector del contenedor leería el cuerpo sin pasar por el límite; se arma sobre el flujo limitado. */
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (lector == null) {
+                String codificacion = getCharacterEncoding();
+                Charset charset = codificacion != null ? Charset.forName(codificacion) : StandardCharsets.UTF_8;
+                lector = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return lector;
+        }
+    }
+
+    private static final class Limitado extends ServletInputStream {
+
+        private final ServletInputStream destino;
+        private long leidos;
+
+        Limitado(ServletInputStream destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = destino.read();
+            if (b >= 0) {
+                contar(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = destino.read(b, off, len);
+            if (n > 0) {
+                contar(n);
+            }
+            return n;
+        }
+
+        private void contar(int n) throws IOException {
+            leidos += n;
+            if (leidos > LimitesImportacion.MAXIMO_BYTES) {
+                throw new IOException("La importación supera " + LimitesImportacion.MAXIMO_BYTES + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return destino.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return destino.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            destino.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.importacion;
+
+/**
+ * Topes de la importación de empleados. Los usan UsuarioController (filas) y LimiteImportacionFilter
+ * (bytes del cuerpo), así el filtro no depende del controlador.
+ */
+public final class LimitesImportacion {
+
+    public static final String RUTA = "/api/v1/usuarios/empleados/importacion";
+    public static final int MAXIMO_FILAS = 1000;
+    /** 1 KiB por fila permitida. */
+    public static final long MAXIMO_BYTES = MAXIMO_FILAS * 1024L;
+
+    private LimitesImportacion() {
+    }
+}
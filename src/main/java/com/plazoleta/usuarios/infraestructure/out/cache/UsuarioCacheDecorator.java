@@ -0,0 +1,203 @@
+package com.plazoleta.usuarios.infraestructure.out.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Caché de lectura delante de {@link UsuarioPersistencePort#obtenerUsuarioPorId} y su variante por lote, la consulta que hacen
+ * los demás servicios para comprobar el rol de un usuario. Se acota por tamaño y TTL, se invalida al
+ * guardar o cambiar la clave, y nunca guarda el hash de la clave. Una lectura {@link Consistencia#FUERTE}
+ * salta la caché y refresca la entrada con lo leído. Publica aciertos y fallos como
+ * métricas de caché con el nombre {@value #NOMBRE}.
+ */
+public class UsuarioCacheDecorator implements UsuarioPersistencePort, MeterBinder {
+
+    static final String NOMBRE = "usuarios.por-id";
+
+    private final UsuarioPersistencePort delegado;
+    private final AsyncCache<Integer, Usuario> porId;
+
+    public UsuarioCacheDecorator(UsuarioPersistencePort delegado, long maximumSize, Duration ttl) {
+        this(delegado, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    UsuarioCacheDecorator(UsuarioPersistencePort delegado, long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegado = delegado;
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Cada llamada devuelve una copia para que quien la reciba no altere la entrada compartida. Un fallo deja en
+     * la caché un futuro sin completar y lee la base en el hilo que llamó, fuera del {@code synchronized} del mapa:
+     * quien pida el mismo id espera ese futuro (un hilo virtual se aparca, no se fija a su portador). Si se
+     * invalida el id mientras tanto, el futuro sale del mapa y lo leído ya no se guarda.
+     */
+    @Override
+    public Usuario obtenerUsuarioPorId(Integer id, Consistencia consistencia) {
+        CompletableFuture<Usuario> nuevo = new CompletableFuture<>();
+        if (consistencia == Consistencia.FUERTE) {
+            porId.put(id, nuevo);
+        } else {
+            CompletableFuture<Usuario> enCache = porId.get(id, (clave, executor) -> nuevo);
+            if (enCache != nuevo) {
+                return copiaONull(esperar(enCache));
+            }
+        }
+        try {
+            Usuario leido = sinClave(consistencia == Consistencia.FUERTE
+                    ? delegado.obtenerUsuarioPorId(id, consistencia)
+                    : delegado.obtenerUsuarioPorId(id));
+            nuevo.complete(leido);
+            return copiaONull(leido);
+        } catch (RuntimeException e) {
+            nuevo.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Los ids que ya están en caché no llegan al delegado; el resto se pide en una sola llamada.
+     */
+    @Override
+    public List<Usuario> obtenerUsuariosPorIds(Collection<Integer> ids) {
+        Map<Integer, Usuario> enCache = esperar(porId.getAll(ids,
+                (faltantes, executor) -> CompletableFuture.completedFuture(cargar(faltantes))));
+        List<Usuario> usuarios = new ArrayList<>(enCache.size());
+        for (Usuario usuario : enCache.values()) {
+            usuarios.add(copia(usuario));
+        }
+        return usuarios;
+    }
+
+    @Override
+    public Usuario guardarUsuario(Usuario usuario) {
+        Usuario guardado = delegado.guardarUsuario(usuario);
+        invalidar(usuario.getId());
+        if (guardado != null) {
+            invalidar(guardado.getId());
+        }
+        return guardado;
+    }
+
+    @Override
+    public Usuario crearUsuario(Usuario usuario) {
+        return delegado.crearUsuario(usuario);
+    }
+
+    @Override
+    public List<Integer> crearUsuarios(List<Usuario> usuarios) {
+        return delegado.crearUsuarios(usuarios);
+    }
+
+    @Override
+    public boolean existeCorreo(String correo, Consistencia consistencia) {
+        return delegado.existeCorreo(correo, consistencia);
+    }
+
+    @Override
+    public List<Usuario> listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite) {
+        return delegado.listarEmpleados(restauranteId, despuesDeId, limite);
+    }
+
+    @Override
+    public void recorrerUsuarios(String rol, Integer restauranteId, Consumer<Usuario> consumidor) {
+        delegado.recorrerUsuarios(rol, restauranteId, consumidor);
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorCorreo(String correo) {
+        return delegado.buscarPorCorreo(correo);
+    }
+
+    @Override
+    public Optional<CredencialesUsuario> buscarCredencialesPorCorreo(String correo) {
+        return delegado.buscarCredencialesPorCorreo(correo);
+    }
+
+    @Override
+    public void actualizarClave(Integer id, String claveEncriptada) {
+        delegado.actualizarClave(id, claveEncriptada);
+        invalidar(id);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId.synchronous(), NOMBRE);
+    }
+
+    private Map<Integer, Usuario> cargar(Collection<? extends Integer> faltantes) {
+        Map<Integer, Usuario> cargados = new HashMap<>();
+        for (Usuario usuario : delegado.obtenerUsuariosPorIds(new ArrayList<>(faltantes))) {
+            cargados.put(usuario.getId(), sinClave(usuario));
+        }
+        return cargados;
+    }
+
+    private void invalidar(Integer id) {
+        if (id != null) {
+            porId.synchronous().invalidate(id);
+        }
+    }
+
+    /** Espera una carga ajena y relanza su fallo tal cual, sin envolverlo. */
+    private static <T> T esperar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException causa ? causa : e;
+        }
+    }
+
+    private static Usuario copiaONull(Usuario usuario) {
+        return usuario == null ? null : copia(usuario);
+    }
+
+    private static Usuario sinClave(Usuario usuario) {
+        if (usuario == null) {
+            return null;
+        }
+        Usuario copia = copia(usuario);
+        copia.setClave(null);
+        return copia;
+    }
+
+    private static Usuario copia(Usuario usuario) {
+        return Usuario.builder()
+                .id(usuario.getId())
+                .nombre(usuario.getNombre())
+                .apellido(usuario.getApellido())
+                .documento(usuario.getDocumento())
+                .celular(usuario.getCelular())
+                .fechaNacimiento(usuario.getFechaNacimiento())
+                .correo(usuario.getCorreo())
+                .clave(usuario.getClave())
+                .rol(usuario.getRol())
+                .restauranteId(usuario.getRestauranteId())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Decide si una lectura puede ir a una réplica. Va a la primaria si se pide {@link Consistencia#FUERTE} o
+ * si alguna de sus claves (id, correo, restaurante) se escribió desde esta instancia hace menos de la
+ * ventana configurada, para que quien acaba de crear un usuario lo encuentre aunque la réplica vaya
+ * retrasada. Sin réplicas las lecturas se ejecutan tal cual.
+ */
+public class ConsistenciaLecturas {
+
+    private final TransactionTemplate replica;
+    private final TransactionTemplate primaria;
+    private final Cache<Object, Boolean> escriturasRecientes;
+
+    public ConsistenciaLecturas(PlatformTransactionManager transactionManager, Duration ventana) {
+        this(transactionManager, ventana, Ticker.systemTicker());
+    }
+
+    ConsistenciaLecturas(PlatformTransactionManager transactionManager, Duration ventana, Ticker ticker) {
+        this.replica = new TransactionTemplate(transactionManager);
+        this.replica.setReadOnly(true);
+        this.primaria = new TransactionTemplate(transactionManager);
+        this.escriturasRecientes = Caffeine.newBuilder()
+                .expireAfterWrite(ventana)
+                .ticker(ticker)
+                .build();
+    }
+
+    private ConsistenciaLecturas() {
+        this.replica = null;
+        this.primaria = null;
+        this.escriturasRecientes = null;
+    }
+
+    public static ConsistenciaLecturas sinReplicas() {
+        return new ConsistenciaLecturas();
+    }
+
+    /** Clave que agrupa los empleados de un restaurante. */
+    public static Object restaurante(Integer restauranteId) {
+        return restauranteId != null ? new EmpleadosDe(restauranteId) : null;
+    }
+
+    public <T> T leer(Consistencia consistencia, Supplier<T> lectura, Object... claves) {
+        if (replica == null) {
+            return lectura.get();
+        }
+        TransactionTemplate plantilla = consistencia == Consistencia.FUERTE || escritoHacePoco(claves)
+                ? primaria
+                : replica;
+        return plantilla.execute(estado -> lectura.get());
+    }
+
+    public void registrarEscritura(Object... claves) {
+        if (escriturasRecientes == null) {
+            return;
+        }
+        for (Object clave : claves) {
+            if (clave != null) {
+                escriturasRecientes.put(clave, Boolean.TRUE);
+            }
+        }
+    }
+
+    private boolean escritoHacePoco(Object[] claves) {
+        for (Object clave : claves) {
+            if (clave != null && escriturasRecientes.getIfPresent(clave) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record EmpleadosDe(Integer restauranteId) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.adapter;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.RoleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Copia en memoria de la tabla usuarios.rol (nombre → id), cargada al arrancar. Las consultas no tocan
+ * la base de datos: se entrega una referencia de Hibernate con el id, que basta para la FK al insertar un
+ * usuario. Un nombre desconocido se da por inexistente sin releer la tabla; si la carga al arrancar falló
+ * se reintenta en la primera consulta, y para recargar a demanda está {@link #refrescar()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private final EntityManager entityManager;
+    private volatile Map<String, Integer> idsPorNombre;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarAlArrancar() {
+        try {
+            refrescar();
+        } catch (DataAccessException e) {
+            log.warn("No se pudieron cargar los roles al arrancar; se reintentará en la primera consulta", e);
+        }
+    }
+
+    public void refrescar() {
+        idsPorNombre = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(RoleEntity::getName, RoleEntity::getId));
+        log.info("Roles cargados: {}", idsPorNombre.keySet());
+    }
+
+    /**
+     * {@code getReference} no consulta la base; el proxy solo lleva el id, así que quien necesite el nombre
+     * lo toma de la petición y no del proxy.
+     */
+    public Optional<RoleEntity> referencia(String nombre) {
+        Map<String, Integer> actual = idsPorNombre;
+        if (actual == null) {
+            refrescar();
+            actual = idsPorNombre;
+        }
+        Integer id = actual.get(nombre);
+        return id != null ? Optional.of(entityManager.getReference(RoleEntity.class, id)) : Optional.empty();
+    }
+}
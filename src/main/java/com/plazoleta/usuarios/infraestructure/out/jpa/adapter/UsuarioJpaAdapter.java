@@ -1,36 +1,65 @@
 package com.plazoleta.usuarios.infraestructure.out.jpa.adapter;
 
+import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.RolNoEncontradoException;
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.domain.model.Rol;
 import com.plazoleta.usuarios.domain.model.Usuario;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
 import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
 import com.plazoleta.usuarios.infraestructure.out.jpa.exception.DataIntegrityExceptionTranslator;
 import com.plazoleta.usuarios.infraestructure.out.jpa.mapper.UsuarioEntityMapper;
-import com.plazoleta.usuarios.infraestructure.out.jpa.repository.RoleRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioExportacionRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioInsercionRepository;
 import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class UsuarioJpaAdapter implements UsuarioPersistencePort {
 
     private final UsuarioRepository usuarioRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final UsuarioEntityMapper mapper;
+    private final UsuarioInsercionRepository usuarioInsercionRepository;
+    private final UsuarioExportacionRepository usuarioExportacionRepository;
+    private final ConsistenciaLecturas lecturas;
 
     @Override
     public Usuario guardarUsuario(Usuario usuario) {
-        UsuarioEntity entity = mapper.toEntity(usuario);
-        String nombreRol = usuario.getRol() != null && usuario.getRol().getNombre() != null
-                ? usuario.getRol().getNombre()
-                : "PROPIETARIO";
-        entity.setRole(roleRepository.findByName(nombreRol).orElseThrow(
-                () -> new RolNoEncontradoException("Rol " + nombreRol + " no encontrado en la base de datos")
-        ));
+        UsuarioEntity entity = aEntidadConRol(usuario);
         try {
             UsuarioEntity savedEntity = usuarioRepository.save(entity);
-            return mapper.toDomain(savedEntity);
+            registrarEscritura(savedEntity);
+            return aDominio(savedEntity, usuario);
+        } catch (DataIntegrityViolationException e) {
+            DataIntegrityExceptionTranslator.throwSpecific(e);
+            return null;
+        }
+    }
+
+    /**
+     * Un correo repetido no inserta nada; un documento repetido llega como violación de integridad.
+     */
+    @Override
+    public Usuario crearUsuario(Usuario usuario) {
+        UsuarioEntity entity = aEntidadConRol(usuario);
+        try {
+            Optional<Integer> id = usuarioInsercionRepository.insertarSiNoExiste(entity);
+            if (id.isEmpty()) {
+                throw new CorreoYaRegistradoException();
+            }
+            entity.setId(id.get());
+            registrarEscritura(entity);
+            return aDominio(entity, usuario);
         } catch (DataIntegrityViolationException e) {
             DataIntegrityExceptionTranslator.throwSpecific(e);
             return null;
@@ -38,19 +67,104 @@ public class UsuarioJpaAdapter implements UsuarioPersistencePort {
     }
 
     @Override
-    public boolean existeCorreo(String correo) {
-        return usuarioRepository.existsByCorreo(correo);
+    public List<Integer> crearUsuarios(List<Usuario> usuarios) {
+        List<UsuarioEntity> entidades = usuarios.stream().map(this::aEntidadConRol).toList();
+        try {
+            Map<String, Integer> ids = usuarioInsercionRepository.insertarLoteSiNoExiste(entidades);
+            List<Integer> resultado = new ArrayList<>(entidades.size());
+            for (UsuarioEntity entidad : entidades) {
+                Integer id = ids.get(entidad.getCorreo());
+                if (id != null) {
+                    entidad.setId(id);
+                    registrarEscritura(entidad);
+                }
+                resultado.add(id);
+            }
+            return resultado;
+        } catch (DataIntegrityViolationException e) {
+            DataIntegrityExceptionTranslator.throwSpecific(e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean existeCorreo(String correo, Consistencia consistencia) {
+        return lecturas.leer(consistencia, () -> usuarioRepository.existsByCorreo(correo), correo);
     }
 
     @Override
-    public Usuario obtenerUsuarioPorId(Integer id) {
-        UsuarioEntity entity = usuarioRepository.findById(id.longValue()).orElse(null);
+    public Usuario obtenerUsuarioPorId(Integer id, Consistencia consistencia) {
+        UsuarioEntity entity = lecturas.leer(consistencia,
+                () -> usuarioRepository.findById(id.longValue()).orElse(null), id);
         return entity != null ? mapper.toDomain(entity) : null;
     }
 
+    @Override
+    public List<Usuario> obtenerUsuariosPorIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return lecturas.leer(Consistencia.EVENTUAL, () -> usuarioRepository.buscarPorIds(ids), ids.toArray()).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Usuario> listarEmpleados(Integer restauranteId, Integer despuesDeId, int limite) {
+        return lecturas.leer(Consistencia.EVENTUAL,
+                        () -> usuarioRepository.buscarEmpleadosDespuesDe(
+                                restauranteId, Rol.EMPLEADO, despuesDeId, Limit.of(limite)),
+                        ConsistenciaLecturas.restaurante(restauranteId)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void recorrerUsuarios(String rol, Integer restauranteId, Consumer<Usuario> consumidor) {
+        usuarioExportacionRepository.recorrer(rol, restauranteId, entity -> consumidor.accept(mapper.toDomain(entity)));
+    }
+
     @Override
     public Optional<Usuario> buscarPorCorreo(String correo) {
-        return usuarioRepository.findByCorreo(correo)
+        return lecturas.leer(Consistencia.EVENTUAL, () -> usuarioRepository.findByCorreo(correo), correo)
                 .map(mapper::toDomain);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<CredencialesUsuario> buscarCredencialesPorCorreo(String correo) {
+        return lecturas.leer(Consistencia.EVENTUAL, () -> usuarioRepository.buscarCredencialesPorCorreo(correo), correo);
+    }
+
+    @Override
+    public void actualizarClave(Integer id, String claveEncriptada) {
+        usuarioRepository.actualizarClave(id, claveEncriptada);
+        lecturas.registrarEscritura(id);
+    }
+
+    private UsuarioEntity aEntidadConRol(Usuario usuario) {
+        UsuarioEntity entity = mapper.toEntity(usuario);
+        String nombreRol = nombreRol(usuario);
+        entity.setRole(roleRegistry.referencia(nombreRol).orElseThrow(
+                () -> new RolNoEncontradoException("Rol " + nombreRol + " no encontrado en la base de datos")
+        ));
+        return entity;
+    }
+
+    /** Tras una escritura el rol es la referencia sin inicializar de RoleRegistry: su nombre es el pedido. */
+    private Usuario aDominio(UsuarioEntity entity, Usuario usuario) {
+        Usuario escrito = mapper.toDomain(entity);
+        escrito.setRol(new Rol(entity.getRole().getId(), nombreRol(usuario)));
+        return escrito;
+    }
+
+    private static String nombreRol(Usuario usuario) {
+        return usuario.getRol() != null && usuario.getRol().getNombre() != null
+                ? usuario.getRol().getNombre()
+                : Rol.PROPIETARIO;
+    }
+
+    private void registrarEscritura(UsuarioEntity entity) {
+        lecturas.registrarEscritura(entity.getId(), entity.getCorreo(),
+                ConsistenciaLecturas.restaurante(entity.getRestaurantId()));
+    }
+}
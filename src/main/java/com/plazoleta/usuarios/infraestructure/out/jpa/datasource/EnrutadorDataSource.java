@@ -0,0 +1,72 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envía las transacciones de solo lectura a las réplicas, repartidas en turno rotativo, y todo lo demás a
+ * la primaria. La conexión física se pide al ejecutar la primera sentencia, cuando la transacción ya marcó
+ * la conexión como de solo lectura; por eso la decisión depende de {@code @Transactional(readOnly = true)}
+ * y no del método que se llame.
+ */
+@Slf4j
+public class EnrutadorDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final List<DataSource> todos;
+
+    public EnrutadorDataSource(DataSource primaria, List<DataSource> replicas) {
+        super(primaria);
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos una réplica");
+        }
+        setReadOnlyDataSource(new RotacionDataSource(List.copyOf(replicas)));
+        this.todos = new ArrayList<>(replicas);
+        this.todos.addFirst(primaria);
+    }
+
+    @Override
+    public void close() {
+        for (DataSource dataSource : todos) {
+            if (dataSource instanceof AutoCloseable cerrable) {
+                try {
+                    cerrable.close();
+                } catch (Exception e) {
+                    log.warn("No se pudo cerrar el pool {}", dataSource, e);
+                }
+            }
+        }
+    }
+
+    private static final class RotacionDataSource extends AbstractDataSource {
+
+        private final List<DataSource> replicas;
+        private final AtomicInteger turno = new AtomicInteger();
+
+        private RotacionDataSource(List<DataSource> replicas) {
+            this.replicas = replicas;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return siguiente().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return siguiente().getConnection(username, password);
+        }
+
+        private DataSource siguiente() {
+            return replicas.get(Math.floorMod(turno.getAndIncrement(), replicas.size()));
+        }
+    }
+}
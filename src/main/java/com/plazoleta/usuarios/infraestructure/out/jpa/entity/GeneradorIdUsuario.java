@@ -0,0 +1,35 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+import java.util.Properties;
+
+/**
+ * Secuencia con optimizador pooled-lo: cada nextval reserva un bloque de {@value #TAMANO_ASIGNACION}
+ * ids que se reparten en memoria, y al no depender de la clave generada por el INSERT Hibernate puede
+ * agruparlos en lotes JDBC. El incremento de la secuencia debe coincidir con el tamaño de asignación;
+ * si no, Hibernate se niega a arrancar. UsuarioInsercionRepository reparte los ids con la misma regla.
+ */
+public class GeneradorIdUsuario extends SequenceStyleGenerator {
+
+    public static final String ESQUEMA = "usuarios";
+    public static final String SECUENCIA = "usuario_id_seq";
+    /** Ajuste de Hibernate con el tamaño del bloque; se alimenta de usuario.id.tamano-asignacion. */
+    public static final String TAMANO_ASIGNACION = "plazoleta.usuario.id.tamano-asignacion";
+    public static final int TAMANO_ASIGNACION_POR_DEFECTO = 50;
+
+    @Override
+    public void configure(Type type, Properties parametros, ServiceRegistry serviceRegistry) {
+        Object tamano = serviceRegistry.requireService(ConfigurationService.class).getSettings()
+                .getOrDefault(TAMANO_ASIGNACION, TAMANO_ASIGNACION_POR_DEFECTO);
+        parametros.put(PersistentIdentifierGenerator.SCHEMA, ESQUEMA);
+        parametros.put(SEQUENCE_PARAM, SECUENCIA);
+        parametros.put(INCREMENT_PARAM, tamano.toString());
+        parametros.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parametros, serviceRegistry);
+    }
+}
@@ -5,13 +5,23 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
+/**
+ * Tabla de referencia que no cambia en ejecución: se cachea en el segundo nivel como solo lectura.
+ */
 @Entity
 @Table(name = "rol", schema = "usuarios")
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = RoleEntity.REGION)
 @Getter
 @Setter
 public class RoleEntity {
 
+    public static final String REGION = "usuarios.rol";
+
     @Id
     private Integer id;
 
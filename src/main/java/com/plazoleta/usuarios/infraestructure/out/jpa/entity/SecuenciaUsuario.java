@@ -0,0 +1,16 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Id tomado de usuarios.usuario_id_seq mediante {@link GeneradorIdUsuario}.
+ */
+@IdGeneratorType(GeneradorIdUsuario.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SecuenciaUsuario {
+}
@@ -2,25 +2,49 @@ package com.plazoleta.usuarios.infraestructure.out.jpa.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "usuario", schema = "usuarios")
+@Table(name = "usuario", schema = "usuarios", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_usuario_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_usuario_document_number", columnNames = "document_number")
+}, indexes = {
+        // Creado en producción por db/idx_usuario_restaurant_id_id.sql
+        @Index(name = "idx_usuario_restaurant_id_id", columnList = "restaurant_id, id")
+})
+@NamedEntityGraph(name = UsuarioEntity.CON_ROL, attributeNodes = @NamedAttributeNode("role"))
+@NaturalIdCache(region = UsuarioEntity.REGION_CORREOS)
 @Getter
 @Setter
 public class UsuarioEntity {
 
+    /**
+     * Correo → id en el segundo nivel. La fila no se cachea: guardaría el hash de la clave.
+     */
+    public static final String REGION_CORREOS = "usuarios.usuario-por-correo";
+
+    /**
+     * El rol es perezoso; las lecturas que devuelven el usuario al dominio lo traen en la misma consulta
+     * con este grafo o con un {@code join fetch}.
+     */
+    public static final String CON_ROL = "UsuarioEntity.conRol";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SecuenciaUsuario
     private Integer id;
 
     @Column(name = "first_name")
@@ -32,19 +56,20 @@ public class UsuarioEntity {
     @Column(name = "document_number")
     private String documento;
 
-    @Column(name = "phone")
+    @Column(name = "phone", length = 13)
     private String celular;
 
     @Column(name = "birth_date")
     private LocalDate fechaNacimiento;
 
+    @NaturalId(mutable = true)
     @Column(name = "email")
     private String correo;
 
     @Column(name = "password")
     private String clave;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id")
     private RoleEntity role;
 
@@ -4,18 +4,167 @@ import com.plazoleta.usuarios.domain.exception.CampoObligatorioException;
 import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.DocumentoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.ValorExcedeLongitudException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Excepciones de integridad de base de datos (Spring) a excepciones del dominio.
+ * <p>
+ * Se decide por el SQLState de la SQLException original y por el nombre de la constraint o columna
+ * afectada, buscados en tablas fijas. La columna de un valor demasiado largo sale del detalle del error de
+ * PostgreSQL o del mensaje del driver ({@code column "PHONE ..."}); si el driver no la nombra, el campo queda
+ * como desconocido. El texto del mensaje de Spring (que depende del idioma de la base de datos) solo se usa
+ * cuando no hay SQLException.
  */
 public final class DataIntegrityExceptionTranslator {
 
+    public static final String UK_EMAIL = "uk_usuario_email";
+    public static final String UK_DOCUMENTO = "uk_usuario_document_number";
+
+    static final String UNIQUE_VIOLATION = "23505";
+    static final String STRING_DATA_RIGHT_TRUNCATION = "22001";
+    static final String NOT_NULL_VIOLATION = "23502";
+
+    /** Nombres propios y los que PostgreSQL asigna por defecto a UNIQUE (tabla_columna_key). */
+    private static final Map<String, Supplier<RuntimeException>> POR_CONSTRAINT = Map.of(
+            UK_EMAIL, CorreoYaRegistradoException::new,
+            "usuario_email_key", CorreoYaRegistradoException::new,
+            UK_DOCUMENTO, DocumentoYaRegistradoException::new,
+            "usuario_document_number_key", DocumentoYaRegistradoException::new
+    );
+
+    private static final Map<String, Supplier<RuntimeException>> LONGITUD_POR_COLUMNA = Map.of(
+            "phone", () -> new ValorExcedeLongitudException(
+                    "El número de celular no puede tener más de 13 caracteres", "celular"),
+            "document_number", () -> new ValorExcedeLongitudException(
+                    "El número de documento excede la longitud máxima permitida", "documento"),
+            "email", () -> new ValorExcedeLongitudException(
+                    "El correo electrónico excede la longitud máxima permitida", "correo"),
+            "first_name", () -> new ValorExcedeLongitudException(
+                    "El nombre excede la longitud máxima permitida", "nombre"),
+            "last_name", () -> new ValorExcedeLongitudException(
+                    "El apellido excede la longitud máxima permitida", "apellido"),
+            "password", () -> new ValorExcedeLongitudException(
+                    "La contraseña excede la longitud máxima permitida", "clave")
+    );
+
+    /** Columna nombrada por el driver en el mensaje de 22001, p. ej. H2: {@code column "PHONE CHARACTER VARYING(13)"}. */
+    private static final Pattern COLUMNA_EN_MENSAJE =
+            Pattern.compile("column \"?([\\w.\"]+)", Pattern.CASE_INSENSITIVE);
+
+    /** Orden de búsqueda en el mensaje cuando no hay SQLException. */
+    private static final String[] COLUMNAS_EN_ORDEN = {
+            "phone", "document_number", "email", "first_name", "last_name", "password"
+    };
+
     private DataIntegrityExceptionTranslator() {
     }
 
     public static void throwSpecific(DataIntegrityViolationException ex) {
-        String mensaje = ex.getMessage();
+        SQLException sqlException = sqlException(ex);
+        if (sqlException != null && sqlException.getSQLState() != null) {
+            throw porSqlState(ex, sqlException);
+        }
+        throwPorMensaje(ex.getMessage());
+    }
+
+    private static RuntimeException porSqlState(DataIntegrityViolationException ex, SQLException sqlException) {
+        return switch (sqlException.getSQLState()) {
+            case UNIQUE_VIOLATION -> porConstraint(constraint(ex, sqlException)).get();
+            case STRING_DATA_RIGHT_TRUNCATION -> {
+                Supplier<RuntimeException> excepcion = LONGITUD_POR_COLUMNA.get(normalizar(columna(sqlException)));
+                yield excepcion != null
+                        ? excepcion.get()
+                        : new ValorExcedeLongitudException("El valor excede la longitud máxima permitida", "desconocido");
+            }
+            case NOT_NULL_VIOLATION -> new CampoObligatorioException();
+            default -> new CampoObligatorioException("Error al guardar los datos en la base de datos");
+        };
+    }
+
+    /**
+     * Constraint sin nombre conocido (p. ej. generado por el motor): se mira qué columna nombra.
+     */
+    private static Supplier<RuntimeException> porConstraint(String constraint) {
+        Supplier<RuntimeException> excepcion = POR_CONSTRAINT.get(normalizar(constraint));
+        if (excepcion != null) {
+            return excepcion;
+        }
+        String minusculas = constraint != null ? constraint.toLowerCase(Locale.ROOT) : "";
+        if (minusculas.contains("email")) {
+            return CorreoYaRegistradoException::new;
+        }
+        if (minusculas.contains("document")) {
+            return DocumentoYaRegistradoException::new;
+        }
+        return () -> new CorreoYaRegistradoException("Ya existe un registro con estos datos");
+    }
+
+    private static SQLException sqlException(Throwable ex) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql) {
+                return sql;
+            }
+        }
+        return null;
+    }
+
+    private static String constraint(Throwable ex, SQLException sqlException) {
+        ServerErrorMessage detalle = detallePostgres(sqlException);
+        if (detalle != null && detalle.getConstraint() != null) {
+            return detalle.getConstraint();
+        }
+        for (Throwable causa = ex; causa != null && causa != sqlException; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion) {
+                return violacion.getConstraintName();
+            }
+        }
+        return null;
+    }
+
+    private static String columna(SQLException sqlException) {
+        ServerErrorMessage detalle = detallePostgres(sqlException);
+        if (detalle != null && detalle.getColumn() != null) {
+            return detalle.getColumn();
+        }
+        Matcher matcher = sqlException.getMessage() != null
+                ? COLUMNA_EN_MENSAJE.matcher(sqlException.getMessage())
+                : null;
+        return matcher != null && matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static ServerErrorMessage detallePostgres(SQLException sqlException) {
+        return sqlException instanceof PSQLException psql ? psql.getServerErrorMessage() : null;
+    }
+
+    /**
+     * Deja solo el nombre: sin esquema, en minúsculas y sin el sufijo de índice que añade H2
+     * ("USUARIOS.UK_USUARIO_EMAIL_INDEX_8 ON USUARIOS.USUARIO(EMAIL ...)").
+     */
+    private static String normalizar(String nombre) {
+        if (nombre == null) {
+            return "";
+        }
+        String resultado = nombre.toLowerCase(Locale.ROOT);
+        int espacio = resultado.indexOf(' ');
+        if (espacio >= 0) {
+            resultado = resultado.substring(0, espacio);
+        }
+        resultado = resultado.substring(resultado.lastIndexOf('.') + 1).replace("\"", "");
+        int indice = resultado.indexOf("_index_");
+        return indice >= 0 ? resultado.substring(0, indice) : resultado;
+    }
+
+    private static void throwPorMensaje(String mensaje) {
         if (mensaje == null) {
             throw new CampoObligatorioException("Error al guardar los datos en la base de datos");
         }
@@ -54,30 +203,14 @@ public final class DataIntegrityExceptionTranslator {
     }
 
     private static void throwValueTooLong(String mensaje) {
-        if (mensaje.contains("phone") || mensaje.contains("varying(13)")) {
-            throw new ValorExcedeLongitudException(
-                    "El número de celular no puede tener más de 13 caracteres", "celular");
-        }
-        if (mensaje.contains("document_number")) {
-            throw new ValorExcedeLongitudException(
-                    "El número de documento excede la longitud máxima permitida", "documento");
-        }
-        if (mensaje.contains("email")) {
-            throw new ValorExcedeLongitudException(
-                    "El correo electrónico excede la longitud máxima permitida", "correo");
-        }
-        if (mensaje.contains("first_name")) {
-            throw new ValorExcedeLongitudException(
-                    "El nombre excede la longitud máxima permitida", "nombre");
-        }
-        if (mensaje.contains("last_name")) {
-            throw new ValorExcedeLongitudException(
-                    "El apellido excede la longitud máxima permitida", "apellido");
+        if (mensaje.contains("varying(13)")) {
+            throw LONGITUD_POR_COLUMNA.get("phone").get();
         }
-        if (mensaje.contains("password")) {
-            throw new ValorExcedeLongitudException(
-                    "La contraseña excede la longitud máxima permitida", "clave");
+        for (String columna : COLUMNAS_EN_ORDEN) {
+            if (mensaje.contains(columna)) {
+                throw LONGITUD_POR_COLUMNA.get(columna).get();
+            }
         }
         throw new ValorExcedeLongitudException("El valor excede la longitud máxima permitida", "desconocido");
     }
-}
\ No newline at end of file
+}
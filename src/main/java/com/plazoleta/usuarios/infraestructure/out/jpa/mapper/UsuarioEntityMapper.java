@@ -4,6 +4,7 @@ import com.plazoleta.usuarios.domain.model.Rol;
 import com.plazoleta.usuarios.domain.model.Usuario;
 import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
 import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -18,9 +19,10 @@ public interface UsuarioEntityMapper {
     @Mapping(target = "restaurantId", source = "restauranteId")
     UsuarioEntity toEntity(Usuario usuario);
 
+    /** Una referencia sin inicializar solo aporta el id: leer el nombre la cargaría fuera de su sesión. */
     default Rol rolFromEntity(RoleEntity entity) {
         if (entity == null) return null;
-        return new Rol(entity.getId(), entity.getName());
+        return new Rol(entity.getId(), Hibernate.isInitialized(entity) ? entity.getName() : null);
     }
 
     default RoleEntity rolToEntity(Rol rol) {
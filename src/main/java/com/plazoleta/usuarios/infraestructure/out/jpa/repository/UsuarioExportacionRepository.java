@@ -0,0 +1,75 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.function.Consumer;
+
+/**
+ * Recorre usuarios fila a fila con un cursor de solo avance: el driver trae {@code fetchSize} filas por
+ * viaje y cada una se entrega al consumidor sin acumularlas, así la memoria no crece con el resultado.
+ * La transacción es necesaria para que PostgreSQL use el cursor en lugar de cargar todo el resultado.
+ * Nunca se selecciona la columna de la clave.
+ */
+@Repository
+public class UsuarioExportacionRepository {
+
+    static final String SELECT = "SELECT u.id, u.first_name, u.last_name, u.document_number, u.phone, u.birth_date, "
+            + "u.email, u.restaurant_id, u.role_id, r.name AS role_name "
+            + "FROM usuarios.usuario u LEFT JOIN usuarios.rol r ON r.id = u.role_id WHERE 1 = 1";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UsuarioExportacionRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                        @Value("${usuario.exportacion.fetch-size}") int fetchSize) {
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        cursor.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(cursor);
+    }
+
+    /**
+     * @param rol           nombre del rol, o null para todos
+     * @param restauranteId restaurante, o null para todos
+     */
+    @Transactional(readOnly = true)
+    public void recorrer(String rol, Integer restauranteId, Consumer<UsuarioEntity> consumidor) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        MapSqlParameterSource parametros = new MapSqlParameterSource();
+        if (rol != null) {
+            sql.append(" AND r.name = :rol");
+            parametros.addValue("rol", rol);
+        }
+        if (restauranteId != null) {
+            sql.append(" AND u.restaurant_id = :restauranteId");
+            parametros.addValue("restauranteId", restauranteId);
+        }
+        sql.append(" ORDER BY u.id");
+        jdbcTemplate.query(sql.toString(), parametros, rs -> {
+            UsuarioEntity usuario = new UsuarioEntity();
+            usuario.setId(rs.getInt("id"));
+            usuario.setNombre(rs.getString("first_name"));
+            usuario.setApellido(rs.getString("last_name"));
+            usuario.setDocumento(rs.getString("document_number"));
+            usuario.setCelular(rs.getString("phone"));
+            Date fechaNacimiento = rs.getDate("birth_date");
+            usuario.setFechaNacimiento(fechaNacimiento != null ? fechaNacimiento.toLocalDate() : null);
+            usuario.setCorreo(rs.getString("email"));
+            usuario.setRestaurantId(rs.getObject("restaurant_id", Integer.class));
+            String nombreRol = rs.getString("role_name");
+            if (nombreRol != null) {
+                RoleEntity role = new RoleEntity();
+                role.setId(rs.getInt("role_id"));
+                role.setName(nombreRol);
+                usuario.setRole(role);
+            }
+            consumidor.accept(usuario);
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.GeneradorIdUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Inserción de usuarios que no falla ante un correo repetido: si el correo ya existe no inserta nada y
+ * devuelve vacío. En PostgreSQL es un INSERT ... ON CONFLICT (email) DO NOTHING; en otras bases (H2 en
+ * pruebas) un INSERT ... SELECT ... WHERE NOT EXISTS sobre el correo. Cualquier otra restricción (un
+ * documento repetido, un valor demasiado largo) sigue fallando con su propia excepción. Para importaciones
+ * la misma sentencia se envía en lotes JDBC.
+ * <p>
+ * El id se asigna antes de insertar con los mismos bloques pooled-lo que usa Hibernate
+ * ({@link GeneradorIdUsuario}): un nextval por cada {@code tamanoAsignacion} usuarios.
+ */
+@Repository
+public class UsuarioInsercionRepository {
+
+    private static final String COLUMNAS = "id, first_name, last_name, document_number, phone, birth_date, email, "
+            + "password, role_id, restaurant_id";
+    private static final String VALORES = ":id, :nombre, :apellido, :documento, :celular, :fechaNacimiento, :correo, "
+            + ":clave, :rolId, :restauranteId";
+
+    static final String INSERT_POSTGRES = "INSERT INTO usuarios.usuario (" + COLUMNAS + ") VALUES (" + VALORES + ")"
+            + " ON CONFLICT (email) DO NOTHING";
+    static final String INSERT_GENERICO = "INSERT INTO usuarios.usuario (" + COLUMNAS + ") SELECT " + VALORES
+            + " WHERE NOT EXISTS (SELECT 1 FROM usuarios.usuario WHERE email = :correo)";
+
+    private static final String SECUENCIA = GeneradorIdUsuario.ESQUEMA + "." + GeneradorIdUsuario.SECUENCIA;
+    static final String NEXTVAL_POSTGRES = "SELECT nextval('" + SECUENCIA + "')";
+    static final String NEXTVAL_GENERICO = "SELECT NEXT VALUE FOR " + SECUENCIA;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int tamanoLote;
+    private final int tamanoAsignacion;
+    private volatile Boolean postgres;
+    private final ReentrantLock bloque = new ReentrantLock();
+    private long siguienteId;
+    private long finBloque;
+
+    public UsuarioInsercionRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                      @Value("${usuario.importacion.tamano-lote}") int tamanoLote,
+                                      @Value("${usuario.id.tamano-asignacion}") int tamanoAsignacion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanoLote = tamanoLote;
+        this.tamanoAsignacion = tamanoAsignacion;
+    }
+
+    /**
+     * @return id generado, o vacío si ya existe un usuario con el mismo correo.
+     */
+    public Optional<Integer> insertarSiNoExiste(UsuarioEntity usuario) {
+        int id = siguienteId();
+        int filas = jdbcTemplate.update(esPostgres() ? INSERT_POSTGRES : INSERT_GENERICO, parametros(id, usuario));
+        return filas == 0 ? Optional.empty() : Optional.of(id);
+    }
+
+    /**
+     * Inserta en lotes de {@code tamanoLote} sentencias dentro de una sola transacción: si una fila falla por
+     * algo distinto a un correo repetido no queda nada insertado. Los correos deben ser únicos
+     * dentro de la lista.
+     *
+     * @return id generado por correo; los correos ausentes chocaron con un usuario existente.
+     */
+    @Transactional
+    public Map<String, Integer> insertarLoteSiNoExiste(List<UsuarioEntity> usuarios) {
+        String sql = esPostgres() ? INSERT_POSTGRES : INSERT_GENERICO;
+        Map<String, Integer> ids = new HashMap<>();
+        for (int desde = 0; desde < usuarios.size(); desde += tamanoLote) {
+            List<UsuarioEntity> lote = usuarios.subList(desde, Math.min(desde + tamanoLote, usuarios.size()));
+            int[] idsLote = new int[lote.size()];
+            SqlParameterSource[] parametros = new SqlParameterSource[lote.size()];
+            for (int i = 0; i < lote.size(); i++) {
+                idsLote[i] = siguienteId();
+                parametros[i] = parametros(idsLote[i], lote.get(i));
+            }
+            int[] filas = jdbcTemplate.batchUpdate(sql, parametros);
+            for (int i = 0; i < filas.length; i++) {
+                if (filas[i] > 0) {
+                    ids.put(lote.get(i).getCorreo(), idsLote[i]);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Mismo reparto que el optimizador pooled-lo: el valor de la secuencia es el primero del bloque. El
+     * nextval se hace con un ReentrantLock y no con synchronized: un hilo virtual que espera la base de datos
+     * dentro de un monitor retiene su hilo portador.
+     */
+    private int siguienteId() {
+        bloque.lock();
+        try {
+            if (siguienteId >= finBloque) {
+                Long inicio = jdbcTemplate.getJdbcTemplate()
+                        .queryForObject(esPostgres() ? NEXTVAL_POSTGRES : NEXTVAL_GENERICO, Long.class);
+                siguienteId = inicio;
+                finBloque = inicio + tamanoAsignacion;
+            }
+            return Math.toIntExact(siguienteId++);
+        } finally {
+            bloque.unlock();
+        }
+    }
+
+    private static SqlParameterSource parametros(int id, UsuarioEntity usuario) {
+        return new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("nombre", usuario.getNombre())
+                .addValue("apellido", usuario.getApellido())
+                .addValue("documento", usuario.getDocumento())
+                .addValue("celular", usuario.getCelular())
+                .addValue("fechaNacimiento", usuario.getFechaNacimiento())
+                .addValue("correo", usuario.getCorreo())
+                .addValue("clave", usuario.getClave())
+                .addValue("rolId", usuario.getRole() != null ? usuario.getRole().getId() : null)
+                .addValue("restauranteId", usuario.getRestaurantId());
+    }
+
+    private boolean esPostgres() {
+        Boolean actual = postgres;
+        if (actual == null) {
+            try {
+                String producto = JdbcUtils.extractDatabaseMetaData(
+                        jdbcTemplate.getJdbcTemplate().getDataSource(), DatabaseMetaData::getDatabaseProductName);
+                actual = "PostgreSQL".equals(producto);
+            } catch (MetaDataAccessException e) {
+                throw new DataAccessResourceFailureException("No se pudo identificar la base de datos", e);
+            }
+            postgres = actual;
+        }
+        return actual;
+    }
+}
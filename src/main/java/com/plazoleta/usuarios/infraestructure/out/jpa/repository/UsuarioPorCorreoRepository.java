@@ -0,0 +1,17 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+
+import java.util.Optional;
+
+/**
+ * Búsquedas por correo a través del id natural de {@link UsuarioEntity}.
+ */
+public interface UsuarioPorCorreoRepository {
+
+    Optional<UsuarioEntity> findByCorreo(String correo);
+
+    /** Inicio de sesión: proyección sin entidad, leída por clave primaria. */
+    Optional<CredencialesUsuario> buscarCredencialesPorCorreo(String correo);
+}
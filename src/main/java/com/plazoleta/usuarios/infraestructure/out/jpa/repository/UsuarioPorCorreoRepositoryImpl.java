@@ -0,0 +1,53 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.graph.RootGraph;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * El correo se resuelve a id desde la caché de ids naturales y la fila se lee por clave primaria; en un
+ * fallo se lee por correo. En ambos casos el rol viene en la misma consulta ({@link UsuarioEntity#CON_ROL}).
+ * Es transaccional porque el mapeo a dominio ocurre fuera de la sesión y sin réplicas no hay transacción
+ * alrededor.
+ */
+@RequiredArgsConstructor
+public class UsuarioPorCorreoRepositoryImpl implements UsuarioPorCorreoRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Optional<UsuarioEntity> findByCorreo(String correo) {
+        Session session = entityManager.unwrap(Session.class);
+        return session.bySimpleNaturalId(UsuarioEntity.class)
+                .withLoadGraph((RootGraph<UsuarioEntity>) session.getEntityGraph(UsuarioEntity.CON_ROL))
+                .loadOptional(correo);
+    }
+
+    /**
+     * Las credenciales salen de la misma carga que {@link #findByCorreo}. Si la entidad traída por la
+     * resolución en caché ya no tiene ese correo (un cambio hecho fuera de Hibernate no la invalida), se
+     * descartan las resoluciones guardadas y se vuelve a buscar: nunca se devuelven las credenciales de otro
+     * usuario.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CredencialesUsuario> buscarCredencialesPorCorreo(String correo) {
+        Optional<UsuarioEntity> usuario = findByCorreo(correo);
+        if (usuario.isPresent() && !correo.equals(usuario.get().getCorreo())) {
+            Session session = entityManager.unwrap(Session.class);
+            session.getSessionFactory().getCache().evictNaturalIdData(UsuarioEntity.class);
+            session.detach(usuario.get());
+            usuario = findByCorreo(correo);
+        }
+        return usuario.map(entidad -> new CredencialesUsuario(entidad.getId(), entidad.getCorreo(), entidad.getClave(),
+                entidad.getRole() != null ? entidad.getRole().getName() : null));
+    }
+}
@@ -1,11 +1,51 @@
 package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
 
 import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UsuarioRepository extends JpaRepository<UsuarioEntity, Long> {
-    boolean existsByCorreo(String correo);
-    Optional<UsuarioEntity> findByCorreo(String correo);
+/**
+ * Cada lectura trae solo lo que su caso de uso necesita: el rol es perezoso y se une en la misma consulta
+ * donde se devuelve el usuario completo. {@code PresupuestoSentenciasTest} fija cuántas sentencias puede
+ * lanzar cada camino.
+ */
+public interface UsuarioRepository extends JpaRepository<UsuarioEntity, Long>, UsuarioPorCorreoRepository {
+
+    /** Consulta por usuario (GET por id). */
+    @Override
+    @EntityGraph(UsuarioEntity.CON_ROL)
+    Optional<UsuarioEntity> findById(Long id);
+
+    @Query("select count(u) > 0 from UsuarioEntity u where u.correo = :correo")
+    boolean existsByCorreo(@Param("correo") String correo);
+
+    @Query("select u from UsuarioEntity u left join fetch u.role where u.id in :ids")
+    List<UsuarioEntity> buscarPorIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Búsqueda por cursor sobre el índice (restaurant_id, id): el costo no depende de cuántas páginas
+     * se hayan recorrido antes. El rol se filtra sobre la fila de usuarios.rol unida por clave primaria;
+     * como solo los empleados tienen restaurant_id, el filtro no descarta filas del índice y este no
+     * necesita role_id.
+     */
+    @Query("select u from UsuarioEntity u join fetch u.role r "
+            + "where u.restaurantId = :restauranteId and r.name = :rol and u.id > :despuesDeId order by u.id")
+    List<UsuarioEntity> buscarEmpleadosDespuesDe(@Param("restauranteId") Integer restauranteId,
+                                                 @Param("rol") String rol,
+                                                 @Param("despuesDeId") Integer despuesDeId,
+                                                 Limit limite);
+
+    @Transactional
+    @Modifying
+    @Query("update UsuarioEntity u set u.clave = :clave where u.id = :id")
+    int actualizarClave(@Param("id") Integer id, @Param("clave") String clave);
 }
\ No newline at end of file
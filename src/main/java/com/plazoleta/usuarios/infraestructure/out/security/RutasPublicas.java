@@ -0,0 +1,30 @@
+package com.plazoleta.usuarios.infraestructure.out.security;
+
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+
+/**
+ * Rutas accesibles sin token. El mismo matcher lo usan SecurityConfiguration (permitAll) y
+ * JwtAuthenticationFilter (no procesa el token en estas rutas), así no pueden divergir.
+ */
+public final class RutasPublicas {
+
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    static final String[] PATRONES = {
+            "/api/v1/auth/login",
+            JWKS_PATH,
+            "/swagger-ui/**",
+            "/v3/api-docs/**"
+    };
+
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(Arrays.stream(PATRONES)
+            .map(patron -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(patron))
+            .toList());
+
+    private RutasPublicas() {
+    }
+}
@@ -1,7 +1,9 @@
 package com.plazoleta.usuarios.infraestructure.out.security.filter;
 
+import com.plazoleta.usuarios.domain.model.Rol;
 import com.plazoleta.usuarios.domain.model.TokenClaims;
 import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
+import com.plazoleta.usuarios.infraestructure.out.security.RutasPublicas;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,13 +11,18 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -25,8 +32,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String ROLE_PREFIX = "ROLE_";
 
+    /** Authorities inmutables por rol, creadas una vez; "" corresponde a un token sin rol. */
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_POR_ROL =
+            Stream.concat(Rol.NOMBRES.stream(), Stream.of(""))
+                    .collect(Collectors.toUnmodifiableMap(Function.identity(), JwtAuthenticationFilter::authorities));
+
     private final JwtProviderPort jwtProviderPort;
 
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return RutasPublicas.MATCHER.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
@@ -40,12 +57,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (claimsOpt.isPresent()) {
                 TokenClaims claims = claimsOpt.get();
                 request.setAttribute("tokenClaims", claims);
-                String role = claims.getRol() != null ? claims.getRol() : "";
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(ROLE_PREFIX + role);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         claims.getCorreo(),
                         null,
-                        Collections.singletonList(authority)
+                        authoritiesDe(claims.getRol())
                 );
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -53,4 +68,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static List<GrantedAuthority> authoritiesDe(String rol) {
+        String clave = rol != null ? rol : "";
+        List<GrantedAuthority> authorities = AUTHORITIES_POR_ROL.get(clave);
+        return authorities != null ? authorities : authorities(clave);
+    }
+
+    private static List<GrantedAuthority> authorities(String rol) {
+        return List.of(new SimpleGrantedAuthority(ROLE_PREFIX + rol));
+    }
+}
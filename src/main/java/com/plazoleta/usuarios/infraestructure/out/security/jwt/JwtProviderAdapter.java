@@ -3,13 +3,14 @@ package com.plazoleta.usuarios.infraestructure.out.security.jwt;
 import com.plazoleta.usuarios.domain.model.TokenClaims;
 import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.Optional;
 
@@ -20,13 +21,27 @@ public class JwtProviderAdapter implements JwtProviderPort {
     private static final String CLAIM_ROLE = "role";
     private static final String CLAIM_RESTAURANT_ID = "restaurant_id";
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
     private final long expirationSeconds;
+    /** Inmutable y thread-safe: se construye una vez y se comparte entre peticiones. */
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenPrecheck tokenPrecheck;
 
-    public JwtProviderAdapter(@Value("${jwt.secret}") String secret,
-                              @Value("${jwt.expiration-seconds}") long expirationSeconds) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtProviderAdapter(JwtKeyRing keyRing,
+                              @Value("${jwt.expiration-seconds}") long expirationSeconds,
+                              VerifiedTokenCache verifiedTokenCache,
+                              TokenPrecheck tokenPrecheck) {
+        this.keyRing = keyRing;
         this.expirationSeconds = expirationSeconds;
+        this.parser = Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return keyRing.clavePublica(header.getKeyId()).orElse(null);
+            }
+        }).build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenPrecheck = tokenPrecheck;
     }
 
     @Override
@@ -40,7 +55,9 @@ public class JwtProviderAdapter implements JwtProviderPort {
         Date issuedAt = new Date(now);
         Date expiration = new Date(now + expirationSeconds * 1000);
 
+        JwtKeyRing.ClaveFirma clave = keyRing.activa();
         var builder = Jwts.builder()
+                .header().keyId(clave.kid()).and()
                 .subject(String.valueOf(id))
                 .claim(CLAIM_EMAIL, correo)
                 .claim(CLAIM_ROLE, rol)
@@ -49,22 +66,34 @@ public class JwtProviderAdapter implements JwtProviderPort {
         if (restauranteId != null) {
             builder.claim(CLAIM_RESTAURANT_ID, restauranteId);
         }
-        return builder.signWith(secretKey).compact();
+        return builder.signWith(clave.privada(), keyRing.algoritmo()).compact();
     }
 
+    /**
+     * Un token ya verificado se resuelve desde la caché sin decodificar el payload, repetir la firma ni
+     * parsear JSON hasta que expira. Los demás, si están malformados o expirados, se descartan sin
+     * excepciones antes de llegar a JJWT.
+     */
     @Override
     public Optional<TokenClaims> validarToken(String token) {
+        if (token != null) {
+            Optional<TokenClaims> enCache = verifiedTokenCache.obtener(token);
+            if (enCache.isPresent()) {
+                return enCache;
+            }
+        }
+        if (!tokenPrecheck.aceptable(token)) {
+            return Optional.empty();
+        }
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
             Integer id = Integer.valueOf(claims.getSubject());
             String correo = claims.get(CLAIM_EMAIL, String.class);
             String rol = claims.get(CLAIM_ROLE, String.class);
             Integer restauranteId = claims.get(CLAIM_RESTAURANT_ID, Integer.class);
-            return Optional.of(new TokenClaims(id, correo, rol, restauranteId));
+            TokenClaims tokenClaims = new TokenClaims(id, correo, rol, restauranteId);
+            verifiedTokenCache.guardar(token, tokenClaims, claims.getExpiration());
+            return Optional.of(tokenClaims);
         } catch (Exception e) {
             return Optional.empty();
         }
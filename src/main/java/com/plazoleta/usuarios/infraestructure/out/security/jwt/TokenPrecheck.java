@@ -0,0 +1,147 @@
+package com.plazoleta.usuarios.infraestructure.out.security.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Revisión estructural de un token antes de verificar la firma: longitud, tres segmentos base64url no
+ * vacíos y, si el payload lo permite, el claim exp. Descarta la basura sin lanzar excepciones y cuenta
+ * los rechazos por motivo ({@value #METRICA}).
+ */
+@Component
+public class TokenPrecheck implements MeterBinder {
+
+    static final String METRICA = "jwt.tokens.rechazados";
+
+    public enum Motivo { LONGITUD, FORMATO, ALFABETO, EXPIRADO }
+
+    /** Un exp con más dígitos está tan lejos en el futuro que no interesa parsearlo. */
+    private static final int MAX_DIGITOS_EXP = 12;
+    private static final byte[] CLAIM_EXP = "\"exp\":".getBytes(StandardCharsets.US_ASCII);
+
+    private final int longitudMaxima;
+    private final Clock clock;
+    private final Map<Motivo, LongAdder> rechazos = new EnumMap<>(Motivo.class);
+
+    @Autowired
+    public TokenPrecheck(@Value("${jwt.precheck.max-length}") int longitudMaxima) {
+        this(longitudMaxima, Clock.systemUTC());
+    }
+
+    TokenPrecheck(int longitudMaxima, Clock clock) {
+        this.longitudMaxima = longitudMaxima;
+        this.clock = clock;
+        for (Motivo motivo : Motivo.values()) {
+            rechazos.put(motivo, new LongAdder());
+        }
+    }
+
+    /**
+     * @return true si el token puede pasar a la verificación de firma.
+     */
+    public boolean aceptable(String token) {
+        Motivo motivo = evaluar(token);
+        if (motivo == null) {
+            return true;
+        }
+        rechazos.get(motivo).increment();
+        return false;
+    }
+
+    public long rechazos(Motivo motivo) {
+        return rechazos.get(motivo).sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        rechazos.forEach((motivo, contador) -> FunctionCounter.builder(METRICA, contador, LongAdder::sum)
+                .tag("motivo", motivo.name().toLowerCase(Locale.ROOT))
+                .description("Tokens descartados antes de verificar la firma")
+                .register(registry));
+    }
+
+    private Motivo evaluar(String token) {
+        if (token == null || token.isEmpty() || token.length() > longitudMaxima) {
+            return Motivo.LONGITUD;
+        }
+        int primerPunto = -1;
+        int segundoPunto = -1;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (primerPunto < 0) {
+                    primerPunto = i;
+                } else if (segundoPunto < 0) {
+                    segundoPunto = i;
+                } else {
+                    return Motivo.FORMATO;
+                }
+            } else if (!esBase64Url(c)) {
+                return Motivo.ALFABETO;
+            }
+        }
+        if (primerPunto <= 0 || segundoPunto <= primerPunto + 1 || segundoPunto == token.length() - 1) {
+            return Motivo.FORMATO;
+        }
+        if ((segundoPunto - primerPunto - 1) % 4 == 1) {
+            return Motivo.FORMATO;
+        }
+        return expirado(token, primerPunto + 1, segundoPunto) ? Motivo.EXPIRADO : null;
+    }
+
+    private static boolean esBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    /**
+     * Busca "exp": seguido de dígitos en el payload decodificado. Si no aparece en esa forma se deja la
+     * decisión a JJWT.
+     */
+    private boolean expirado(String token, int inicio, int fin) {
+        byte[] payload = Base64.getUrlDecoder().decode(token.substring(inicio, fin));
+        int posicion = indexOf(payload, CLAIM_EXP);
+        if (posicion < 0) {
+            return false;
+        }
+        int i = posicion + CLAIM_EXP.length;
+        while (i < payload.length && payload[i] == ' ') {
+            i++;
+        }
+        long exp = 0;
+        int digitos = 0;
+        while (i < payload.length && payload[i] >= '0' && payload[i] <= '9') {
+            if (++digitos > MAX_DIGITOS_EXP) {
+                return false;
+            }
+            exp = exp * 10 + (payload[i] - '0');
+            i++;
+        }
+        return digitos > 0 && exp * 1000 <= clock.millis();
+    }
+
+    private static int indexOf(byte[] datos, byte[] patron) {
+        for (int i = 0; i <= datos.length - patron.length; i++) {
+            int j = 0;
+            while (j < patron.length && datos[i + j] == patron[j]) {
+                j++;
+            }
+            if (j == patron.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
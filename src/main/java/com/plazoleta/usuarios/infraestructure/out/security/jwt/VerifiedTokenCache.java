@@ -0,0 +1,111 @@
+package com.plazoleta.usuarios.infraestructure.out.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.plazoleta.usuarios.domain.model.TokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché acotada de tokens cuya firma ya fue verificada. La clave es el SHA-256 del token (no se guarda
+ * el token en claro) y cada entrada vive hasta la expiración del propio token. Aciertos y fallos se
+ * publican como métricas de caché con el nombre {@value #NOMBRE}.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    static final String NOMBRE = "jwt.tokens.verificados";
+
+    private final Cache<String, Entrada> cache;
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size}") long maximumSize) {
+        this(maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(long maximumSize, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new HastaExpiracionDelToken())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TokenClaims> obtener(String token) {
+        Entrada entrada = cache.getIfPresent(digest(token));
+        return entrada != null ? Optional.of(entrada.claims()) : Optional.empty();
+    }
+
+    /**
+     * Los tokens sin expiración no se guardan: la caché solo recuerda lo que caduca por sí mismo.
+     */
+    public void guardar(String token, TokenClaims claims, Date expiracion) {
+        if (expiracion == null || !expiracion.toInstant().isAfter(clock.instant())) {
+            return;
+        }
+        cache.put(digest(token), new Entrada(claims, expiracion.getTime()));
+    }
+
+    public long aciertos() {
+        return cache.stats().hitCount();
+    }
+
+    public long fallos() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NOMBRE);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private record Entrada(TokenClaims claims, long expiraEnMillis) {
+    }
+
+    private final class HastaExpiracionDelToken implements Expiry<String, Entrada> {
+
+        @Override
+        public long expireAfterCreate(String key, Entrada entrada, long currentTime) {
+            long restanteMillis = Math.max(0, entrada.expiraEnMillis() - clock.millis());
+            return TimeUnit.MILLISECONDS.toNanos(restanteMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entrada entrada, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entrada, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entrada entrada, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calcula el costo BCrypt que más se acerca (sin pasarse) a un tiempo objetivo por hash en esta máquina.
+ * Mide varios hashes con el costo mínimo tras un calentamiento y extrapola desde la mediana: cada punto de
+ * costo duplica el tiempo. La mediana descarta la medición que caiga en una pausa de GC o de compilación.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final String MUESTRA = "calibracion-bcrypt";
+    static final int CALENTAMIENTO = 3;
+    static final int MEDICIONES = 5;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrar(long objetivoMillis, int costoMinimo, int costoMaximo) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(costoMinimo);
+        // Hashes de calentamiento para no medir la compilación JIT
+        for (int i = 0; i < CALENTAMIENTO; i++) {
+            encoder.encode(MUESTRA);
+        }
+        long[] medidosNanos = new long[MEDICIONES];
+        for (int i = 0; i < MEDICIONES; i++) {
+            long inicio = System.nanoTime();
+            encoder.encode(MUESTRA);
+            medidosNanos[i] = Math.max(1, System.nanoTime() - inicio);
+        }
+        return costoParaObjetivo(mediana(medidosNanos), TimeUnit.MILLISECONDS.toNanos(objetivoMillis),
+                costoMinimo, costoMaximo);
+    }
+
+    static long mediana(long[] medidosNanos) {
+        long[] ordenados = medidosNanos.clone();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2];
+    }
+
+    static int costoParaObjetivo(long medidoNanos, long objetivoNanos, int costoMinimo, int costoMaximo) {
+        int costo = costoMinimo;
+        long estimadoNanos = medidoNanos;
+        while (costo < costoMaximo && estimadoNanos * 2 <= objetivoNanos) {
+            estimadoNanos *= 2;
+            costo++;
+        }
+        return costo;
+    }
+}
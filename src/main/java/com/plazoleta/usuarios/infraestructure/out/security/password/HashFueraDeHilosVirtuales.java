@@ -0,0 +1,51 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Un hash BCrypt ocupa la CPU ~100 ms sin bloquearse en ningún momento, así que en un hilo virtual retiene a
+ * su portador todo ese tiempo y deja sin hilos a las peticiones que solo esperan a la base de datos. Desde
+ * un hilo virtual el cálculo se entrega al executor de hash (hilos de plataforma, acotado) y el hilo virtual
+ * se suspende hasta el resultado; desde cualquier otro hilo se calcula en el sitio.
+ */
+@RequiredArgsConstructor
+public class HashFueraDeHilosVirtuales implements PasswordEncoderPort {
+
+    private final PasswordEncoderPort delegado;
+    private final Executor hashExecutor;
+
+    @Override
+    public String encode(String password) {
+        return calcular(() -> delegado.encode(password));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return calcular(() -> delegado.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean requiereActualizacion(String encodedPassword) {
+        return delegado.requiereActualizacion(encodedPassword);
+    }
+
+    private <T> T calcular(Supplier<T> hash) {
+        if (!Thread.currentThread().isVirtual()) {
+            return hash.get();
+        }
+        try {
+            return CompletableFuture.supplyAsync(hash, hashExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@RequiredArgsConstructor
+public class PasswordEncoderAdapter implements PasswordEncoderPort {
+
+    private final PasswordEncoder encoder;
+
+    @Override
+    public String encode(String password) {
+        return encoder.encode(password);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return encoder.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean requiereActualizacion(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+}
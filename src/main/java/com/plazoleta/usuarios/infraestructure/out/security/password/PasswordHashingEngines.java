@@ -0,0 +1,36 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import java.util.Map;
+
+/**
+ * Motores de hash soportados. Los hashes se guardan con el prefijo {id} del motor que los generó,
+ * así BCrypt, Argon2id y PBKDF2 conviven en la misma columna. Los hashes sin prefijo (anteriores
+ * a este formato) se verifican con BCrypt.
+ */
+public final class PasswordHashingEngines {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordHashingEngines() {
+    }
+
+    public static DelegatingPasswordEncoder delegante(String idParaCodificar,
+                                                      BCryptPasswordEncoder bcrypt,
+                                                      Argon2PasswordEncoder argon2,
+                                                      Pbkdf2PasswordEncoder pbkdf2) {
+        Map<String, PasswordEncoder> motores = Map.of(BCRYPT, bcrypt, ARGON2, argon2, PBKDF2, pbkdf2);
+        if (!motores.containsKey(idParaCodificar)) {
+            throw new IllegalArgumentException("Algoritmo de hash no soportado: " + idParaCodificar);
+        }
+        DelegatingPasswordEncoder delegante = new DelegatingPasswordEncoder(idParaCodificar, motores);
+        delegante.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegante;
+    }
+}
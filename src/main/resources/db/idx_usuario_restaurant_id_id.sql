@@ -0,0 +1,8 @@
+-- Índice del listado de empleados por cursor (restaurant_id, id > :despuesDeId order by id); UsuarioEntity lo
+-- declara, pero con ddl-auto=validate Hibernate no lo crea. El filtro por rol (r.name = 'EMPLEADO') se
+-- resuelve en la fila de usuarios.rol; solo los empleados tienen restaurant_id, así que no hace falta role_id.
+-- CONCURRENTLY no bloquea las escrituras mientras se construye y no puede ir dentro de una transacción:
+-- ejecutar este archivo solo. Si se interrumpe queda un índice INVALID; borrarlo (DROP INDEX CONCURRENTLY)
+-- y volver a ejecutar.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_usuario_restaurant_id_id ON usuarios.usuario (restaurant_id, id);
@@ -0,0 +1,25 @@
+-- Migración de usuarios.usuario.id de IDENTITY/serial a la secuencia con bloques pooled-lo (GeneradorIdUsuario).
+-- Corte con las escrituras detenidas, en este orden:
+--   1. Detener (o dejar en solo lectura) todas las instancias de la versión anterior.
+--   2. Ejecutar este archivo.
+--   3. Arrancar la versión nueva.
+-- No es seguro convivir: la versión anterior toma ids de a uno de la secuencia de IDENTITY, y la nueva reparte
+-- bloques de 50 a partir de cada nextval; contra la misma secuencia, los dos repartos se pisan.
+-- El INCREMENT BY debe ser igual a usuario.id.tamano-asignacion (50 por defecto).
+
+BEGIN;
+
+-- Si quedara alguna escritura en curso, espera a que termine y bloquea las nuevas hasta el COMMIT
+LOCK TABLE usuarios.usuario IN EXCLUSIVE MODE;
+
+-- Una columna IDENTITY es dueña de su secuencia; al quitar la identidad se elimina y se crea de nuevo.
+ALTER TABLE usuarios.usuario ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS usuarios.usuario_id_seq OWNED BY usuarios.usuario.id;
+ALTER SEQUENCE usuarios.usuario_id_seq INCREMENT BY 50;
+-- Margen de 1000 sobre el máximo: los ids de una instancia anterior rezagada no alcanzan el primer bloque
+SELECT setval('usuarios.usuario_id_seq', (SELECT COALESCE(MAX(id), 0) + 1000 FROM usuarios.usuario), false);
+
+ALTER TABLE usuarios.usuario ALTER COLUMN id SET DEFAULT nextval('usuarios.usuario_id_seq');
+
+COMMIT;
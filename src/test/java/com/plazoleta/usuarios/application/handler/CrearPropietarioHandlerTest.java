@@ -2,24 +2,36 @@ package com.plazoleta.usuarios.application.handler;
 
 import com.plazoleta.usuarios.application.dto.CrearEmpleadoDto;
 import com.plazoleta.usuarios.application.dto.CrearPropietarioDto;
+import com.plazoleta.usuarios.application.dto.response.ImportacionResponseDto;
+import com.plazoleta.usuarios.application.dto.response.PaginaEmpleadosResponseDto;
+import com.plazoleta.usuarios.application.dto.response.ResultadoImportacionResponseDto;
 import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import com.plazoleta.usuarios.application.dto.response.UsuariosPorIdsResponseDto;
 import com.plazoleta.usuarios.application.mapper.UsuarioRequestMapper;
 import com.plazoleta.usuarios.application.mapper.UsuarioResponseMapper;
 import com.plazoleta.usuarios.domain.api.UsuarioServicePort;
 import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.PaginaEmpleados;
+import com.plazoleta.usuarios.domain.model.ResultadoImportacion;
 import com.plazoleta.usuarios.domain.model.Rol;
 import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.UsuariosPorIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -45,6 +57,82 @@ class CrearPropietarioHandlerTest {
         handler = new CrearPropietarioHandler(usuarioServicePort, mapper, responseMapper);
     }
 
+    @Test
+    void deberiaMapearElLoteConservandoLosNoEncontrados() {
+        // Arrange
+        Usuario usuario = new Usuario();
+        UsuarioResponseDto responseDto = new UsuarioResponseDto();
+        when(usuarioServicePort.obtenerUsuariosPorIds(List.of(1, 2)))
+                .thenReturn(new UsuariosPorIds(List.of(usuario), List.of(2)));
+        when(responseMapper.toResponseList(List.of(usuario))).thenReturn(List.of(responseDto));
+
+        // Act
+        UsuariosPorIdsResponseDto resultado = handler.obtenerUsuariosPorIds(List.of(1, 2));
+
+        // Assert
+        assertEquals(List.of(responseDto), resultado.getUsuarios());
+        assertEquals(List.of(2), resultado.getNoEncontrados());
+    }
+
+    @Test
+    void deberiaMapearLaPaginaDeEmpleadosConSuCursor() {
+        // Arrange
+        Usuario empleado = new Usuario();
+        UsuarioResponseDto responseDto = new UsuarioResponseDto();
+        when(usuarioServicePort.listarEmpleados(3, 20, 10))
+                .thenReturn(new PaginaEmpleados(List.of(empleado), 21));
+        when(responseMapper.toResponseList(List.of(empleado))).thenReturn(List.of(responseDto));
+
+        // Act
+        PaginaEmpleadosResponseDto resultado = handler.listarEmpleados(3, 20, 10);
+
+        // Assert
+        assertEquals(List.of(responseDto), resultado.getEmpleados());
+        assertEquals(21, resultado.getSiguiente());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deberiaMapearCadaUsuarioExportado() {
+        // Arrange
+        Usuario usuario = new Usuario();
+        UsuarioResponseDto responseDto = new UsuarioResponseDto();
+        when(responseMapper.toResponse(usuario)).thenReturn(responseDto);
+        doAnswer(invocacion -> {
+            ((Consumer<Usuario>) invocacion.getArgument(2)).accept(usuario);
+            return null;
+        }).when(usuarioServicePort).exportarUsuarios(eq("EMPLEADO"), eq(null), any());
+        List<UsuarioResponseDto> recibidos = new ArrayList<>();
+
+        // Act
+        handler.exportarUsuarios("EMPLEADO", null, recibidos::add);
+
+        // Assert
+        assertEquals(List.of(responseDto), recibidos);
+    }
+
+    @Test
+    void deberiaImportarEmpleadosYContarCreadosYRechazados() {
+        // Arrange
+        CrearEmpleadoDto dto = new CrearEmpleadoDto();
+        DatosCreacionUsuario datos = crearDatosCreacion();
+        List<ResultadoImportacion> resultados = List.of(ResultadoImportacion.creado(1, "a@b.com", 5),
+                ResultadoImportacion.rechazado(2, "c@d.com", "Documento inválido"));
+        List<ResultadoImportacionResponseDto> filas = List.of(new ResultadoImportacionResponseDto(),
+                new ResultadoImportacionResponseDto());
+        when(mapper.toDatosCreacion(dto)).thenReturn(datos);
+        when(usuarioServicePort.importarEmpleados(List.of(datos, datos))).thenReturn(resultados);
+        when(responseMapper.toResultadosResponse(resultados)).thenReturn(filas);
+
+        // Act
+        ImportacionResponseDto respuesta = handler.importarEmpleados(List.of(dto, dto));
+
+        // Assert
+        assertEquals(1, respuesta.getCreados());
+        assertEquals(1, respuesta.getRechazados());
+        assertEquals(filas, respuesta.getFilas());
+    }
+
     @Test
     void deberiaLlamarAlServicePortParaCrearPropietario() {
         // Arrange
@@ -0,0 +1,182 @@
+package com.plazoleta.usuarios.benchmark;
+
+import com.plazoleta.usuarios.PlazoletaMsUsuariosApplication;
+import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
+import com.plazoleta.usuarios.infraestructure.diagnostico.MonitorPinning;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RPS máximas sostenidas de GET /api/v1/usuarios/{id} con los hilos de plataforma de Tomcat y con hilos
+ * virtuales. Cada modo arranca la aplicación completa sobre H2 con la caché de usuarios desactivada y
+ * {@code benchmark.latencia-micros} (20 ms) por consulta, y se carga con concurrencia creciente; la cifra
+ * sostenida es la mejor con menos de 1% de errores, y se informa con su p99. En una máquina con pocos
+ * núcleos la CPU (JWT, filtros, JSON y el propio cliente) satura antes que los hilos de Tomcat, y las dos
+ * cifras se acercan. Se ejecuta con {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class HilosVirtualesBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HilosVirtualesBenchmarkTest.class);
+
+    private static final int[] CONCURRENCIA = {50, 100, 200, 400, 800};
+    private static final Duration DURACION_NIVEL = Duration.ofSeconds(5);
+    private static final Duration CALENTAMIENTO = Duration.ofSeconds(3);
+    private static final int CONEXIONES_BD = 400;
+
+    @Test
+    void deberiaCompararLasRpsSostenidasConYSinHilosVirtuales() throws Exception {
+        // Act
+        Nivel plataforma = medirModo(false);
+        Nivel virtuales = medirModo(true);
+
+        // Assert
+        log.info(String.format("RPS sostenidas  plataforma: %,.0f (concurrencia %d, p99 %d ms)  "
+                        + "virtuales: %,.0f (concurrencia %d, p99 %d ms)",
+                plataforma.rps(), plataforma.concurrencia(), plataforma.p99Millis(),
+                virtuales.rps(), virtuales.concurrencia(), virtuales.p99Millis()));
+        assertTrue(plataforma.rps() > 0);
+        assertTrue(virtuales.rps() > 0);
+    }
+
+    private Nivel medirModo(boolean hilosVirtuales) throws Exception {
+        String modo = hilosVirtuales ? "virtuales" : "plataforma";
+        Duration latencia = LatenciaSimulada.configurada(20_000);
+        try (ConfigurableApplicationContext contexto = arrancar(modo, hilosVirtuales, latencia)) {
+            String token = prepararDatos(contexto);
+            int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + puerto + "/api/v1/usuarios/1");
+            try (HttpClient cliente = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                cargar(cliente, uri, token, CONCURRENCIA[0], CALENTAMIENTO);
+                log.info("{} (latencia BD {} ms, {} conexiones)", modo, latencia.toMillis(), CONEXIONES_BD);
+                Nivel mejor = new Nivel(0, 0, 0, 0);
+                for (int concurrencia : CONCURRENCIA) {
+                    Nivel nivel = cargar(cliente, uri, token, concurrencia, DURACION_NIVEL);
+                    log.info(String.format("  concurrencia %4d: %,8.0f rps  p99 %5d ms  errores %.2f%%",
+                            concurrencia, nivel.rps(), nivel.p99Millis(), nivel.porcentajeErrores()));
+                    if (nivel.sostenible() && nivel.rps() > mejor.rps()) {
+                        mejor = nivel;
+                    }
+                }
+                if (hilosVirtuales) {
+                    double fijados = contexto.getBean(MeterRegistry.class).find(MonitorPinning.METRICA).counters()
+                            .stream().mapToDouble(Counter::count).sum();
+                    log.info("  hilos virtuales fijados a su portador: {}", Math.round(fijados));
+                }
+                return mejor;
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext arrancar(String modo, boolean hilosVirtuales, Duration latencia) {
+        return new SpringApplicationBuilder(PlazoletaMsUsuariosApplication.class)
+                .profiles("test")
+                .initializers(contexto -> contexto.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String nombre) {
+                        return bean instanceof DataSource dataSource && "dataSource".equals(nombre)
+                                ? LatenciaSimulada.envolver(dataSource, latencia)
+                                : bean;
+                    }
+                }))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + hilosVirtuales,
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + modo
+                                + ";DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS usuarios",
+                        "--spring.datasource.hikari.maximum-pool-size=" + CONEXIONES_BD,
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--usuario.cache.maximum-size=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level." + HilosVirtualesBenchmarkTest.class.getName() + "=INFO");
+    }
+
+    private static String prepararDatos(ConfigurableApplicationContext contexto) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(contexto.getBean(DataSource.class));
+        jdbcTemplate.update("INSERT INTO usuarios.rol (id, name) VALUES (1, 'ADMINISTRADOR')");
+        jdbcTemplate.update("INSERT INTO usuarios.usuario (id, first_name, last_name, document_number, phone, "
+                + "birth_date, email, password, role_id) VALUES (1, 'Ana', 'Gómez', '1', '+573001234567', "
+                + "DATE '1990-05-20', 'admin@mail.com', '{bcrypt}hash', 1)");
+        return contexto.getBean(JwtProviderPort.class).generarToken(1, "admin@mail.com", "ADMINISTRADOR");
+    }
+
+    private static Nivel cargar(HttpClient cliente, URI uri, String token, int concurrencia, Duration duracion)
+            throws Exception {
+        HttpRequest peticion = HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).GET().build();
+        long fin = System.nanoTime() + duracion.toNanos();
+        List<Future<long[]>> trabajadores = new ArrayList<>();
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrencia; i++) {
+                trabajadores.add(hilos.submit(() -> peticionesHasta(cliente, peticion, fin)));
+            }
+        }
+        List<Long> latencias = new ArrayList<>();
+        long errores = 0;
+        for (Future<long[]> trabajador : trabajadores) {
+            for (long resultado : trabajador.get()) {
+                if (resultado < 0) {
+                    errores++;
+                } else {
+                    latencias.add(resultado);
+                }
+            }
+        }
+        long[] ordenadas = latencias.stream().mapToLong(Long::longValue).sorted().toArray();
+        long p99 = ordenadas.length == 0 ? 0 : ordenadas[(int) Math.min(ordenadas.length - 1, ordenadas.length * 0.99)];
+        double segundos = duracion.toNanos() / 1e9;
+        return new Nivel(concurrencia, ordenadas.length / segundos, Duration.ofNanos(p99).toMillis(),
+                100.0 * errores / Math.max(1, errores + ordenadas.length));
+    }
+
+    /** Latencia en nanos de cada petición correcta, o -1 por cada error. */
+    private static long[] peticionesHasta(HttpClient cliente, HttpRequest peticion, long fin) {
+        long[] resultados = new long[1024];
+        int total = 0;
+        while (System.nanoTime() < fin) {
+            long inicio = System.nanoTime();
+            long resultado;
+            try {
+                HttpResponse<Void> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.discarding());
+                resultado = respuesta.statusCode() == 200 ? System.nanoTime() - inicio : -1;
+            } catch (Exception e) {
+                resultado = -1;
+            }
+            if (total == resultados.length) {
+                resultados = Arrays.copyOf(resultados, total * 2);
+            }
+            resultados[total++] = resultado;
+        }
+        return Arrays.copyOf(resultados, total);
+    }
+
+    private record Nivel(int concurrencia, double rps, long p99Millis, double porcentajeErrores) {
+
+        boolean sostenible() {
+            return porcentajeErrores < 1;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.plazoleta.usuarios.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.GeneradorIdUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.function.IntFunction;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara insertar usuarios con id IDENTITY (un INSERT por fila para leer la clave) contra la secuencia
+ * pooled-lo de {@link GeneradorIdUsuario} con lotes JDBC. Se ejecuta con {@code gradle benchmark}; por
+ * defecto sobre H2 en memoria, sumando {@code benchmark.latencia-micros} (200 µs) a cada viaje a la base de
+ * datos para simular la red. Para medir contra PostgreSQL:
+ * {@code -Dbenchmark.jdbc.url=... -Dbenchmark.jdbc.user=... -Dbenchmark.jdbc.password=...}.
+ * <p>
+ * La tabla con IDENTITY se mapea con {@code benchmark/usuario-identidad.orm.xml} y solo se registra en la
+ * configuración de Hibernate de esta clase: una clase con {@code @Entity} en el classpath de pruebas la
+ * recogería el escaneo de entidades de Spring Boot y crearía la tabla en los demás contextos.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InsercionPorSecuenciaBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InsercionPorSecuenciaBenchmarkTest.class);
+
+    private static final int FILAS = 20_000;
+    private static final int TAMANO_LOTE = 100;
+    private static final int RONDAS = 3;
+
+    private static final String URL_H2 = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+
+    private SessionFactory sessionFactory;
+
+    @BeforeAll
+    void setUp() {
+        // Sin la configuración de Spring Boot el nivel por defecto es DEBUG y el log dominaría la medición
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        ((ch.qos.logback.classic.Logger) log).setLevel(Level.INFO);
+        String url = System.getProperty("benchmark.jdbc.url", URL_H2);
+        Configuration configuracion = new Configuration()
+                .addAnnotatedClass(UsuarioEntity.class)
+                .addAnnotatedClass(RoleEntity.class)
+                .addResource("benchmark/usuario-identidad.orm.xml");
+        if (URL_H2.equals(url)) {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL(URL_H2);
+            configuracion.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE,
+                    LatenciaSimulada.envolver(h2, LatenciaSimulada.configurada(200)));
+        } else {
+            configuracion.setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.jdbc.user"))
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.jdbc.password"));
+        }
+        sessionFactory = configuracion
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(TAMANO_LOTE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .setProperty(GeneradorIdUsuario.TAMANO_ASIGNACION, "50")
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void deberiaInsertarMasRapidoConSecuenciaYLotesQueConIdentity() {
+        // Act
+        Medicion identidad = medir("IDENTITY", InsercionPorSecuenciaBenchmarkTest::usuarioIdentidad);
+        Medicion secuencia = medir("SEQUENCE pooled-lo", InsercionPorSecuenciaBenchmarkTest::usuarioSecuencia);
+
+        // Assert
+        log.info("secuencia/identity: {}x filas por segundo",
+                String.format("%.2f", secuencia.filasPorSegundo() / identidad.filasPorSegundo()));
+        assertTrue(secuencia.sentencias() * 10 < identidad.sentencias());
+    }
+
+    private Medicion medir(String nombre, IntFunction<Object> fabrica) {
+        insertar(fabrica, 0);
+        long mejorNanos = Long.MAX_VALUE;
+        long sentencias = 0;
+        for (int ronda = 1; ronda <= RONDAS; ronda++) {
+            sessionFactory.getStatistics().clear();
+            long inicio = System.nanoTime();
+            insertar(fabrica, ronda * FILAS);
+            mejorNanos = Math.min(mejorNanos, System.nanoTime() - inicio);
+            sentencias = sessionFactory.getStatistics().getPrepareStatementCount();
+        }
+        Medicion medicion = new Medicion(FILAS * 1e9 / mejorNanos, sentencias);
+        log.info(String.format("%-20s %,10.0f filas/s %,8d sentencias preparadas por %,d filas",
+                nombre, medicion.filasPorSegundo(), medicion.sentencias(), FILAS));
+        return medicion;
+    }
+
+    private void insertar(IntFunction<Object> fabrica, int desde) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < FILAS; i++) {
+                session.persist(fabrica.apply(desde + i));
+                if ((i + 1) % TAMANO_LOTE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    private static Object usuarioSecuencia(int numero) {
+        UsuarioEntity usuario = new UsuarioEntity();
+        usuario.setNombre("Ana");
+        usuario.setDocumento(String.valueOf(numero));
+        usuario.setCorreo("usuario" + numero + "@mail.com");
+        usuario.setClave("{bcrypt}hash");
+        return usuario;
+    }
+
+    private static Object usuarioIdentidad(int numero) {
+        UsuarioIdentidad usuario = new UsuarioIdentidad();
+        usuario.nombre = "Ana";
+        usuario.documento = String.valueOf(numero);
+        usuario.correo = "usuario" + numero + "@mail.com";
+        usuario.clave = "{bcrypt}hash";
+        return usuario;
+    }
+
+    private record Medicion(double filasPorSegundo, long sentencias) {
+    }
+
+    /**
+     * Mapeada en {@code benchmark/usuario-identidad.orm.xml}; sin anotaciones para que nada más la escanee. Los
+     * campos son públicos porque Hibernate busca así los atributos que declara el XML.
+     */
+    static class UsuarioIdentidad {
+
+        public Integer id;
+
+        public String nombre;
+
+        public String documento;
+
+        public String correo;
+
+        public String clave;
+    }
+}
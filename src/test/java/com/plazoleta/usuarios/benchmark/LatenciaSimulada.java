@@ -0,0 +1,58 @@
+package com.plazoleta.usuarios.benchmark;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/**
+ * Envuelve un DataSource en memoria (H2) para que cada ejecución de sentencia, incluido cada executeBatch
+ * completo, tarde lo que tardaría un viaje de red a la base de datos.
+ */
+public final class LatenciaSimulada {
+
+    /** Latencia por viaje; se puede cambiar con -Dbenchmark.latencia-micros. */
+    public static Duration configurada(long microsPorDefecto) {
+        return Duration.ofNanos(Long.getLong("benchmark.latencia-micros", microsPorDefecto) * 1000);
+    }
+
+    public static DataSource envolver(DataSource destino, Duration latencia) {
+        long nanos = latencia.toNanos();
+        return proxy(DataSource.class, destino, resultado -> resultado instanceof Connection conexion
+                ? proxy(Connection.class, conexion, sentencia -> sentencia instanceof Statement s
+                        ? proxy(interfazDe(s), s, r -> r, nanos) : sentencia, 0)
+                : resultado, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Statement> interfazDe(Statement sentencia) {
+        for (Class<?> tipo : new Class<?>[]{CallableStatement.class, PreparedStatement.class}) {
+            if (tipo.isInstance(sentencia)) {
+                return (Class<Statement>) tipo;
+            }
+        }
+        return Statement.class;
+    }
+
+    private static <T> T proxy(Class<T> tipo, T destino, UnaryOperator<Object> envolver, long latenciaEjecucion) {
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (instancia, metodo, args) -> {
+            if (latenciaEjecucion > 0 && metodo.getName().startsWith("execute")) {
+                LockSupport.parkNanos(latenciaEjecucion);
+            }
+            try {
+                return envolver.apply(metodo.invoke(destino, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+
+    private LatenciaSimulada() {
+    }
+}
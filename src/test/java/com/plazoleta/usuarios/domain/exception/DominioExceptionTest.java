@@ -0,0 +1,29 @@
+package com.plazoleta.usuarios.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DominioExceptionTest {
+
+    @Test
+    void deberiaCrearseSinTrazaDePila() {
+        List<DominioException> excepciones = List.of(
+                new CredencialesInvalidasException("Credenciales inválidas"),
+                new CorreoYaRegistradoException(),
+                new ValorExcedeLongitudException("Demasiado largo", "nombre"));
+
+        for (DominioException excepcion : excepciones) {
+            assertEquals(0, excepcion.getStackTrace().length);
+        }
+    }
+
+    @Test
+    void deberiaIgnorarExcepcionesSuprimidas() {
+        CorreoYaRegistradoException excepcion = new CorreoYaRegistradoException();
+
+        excepcion.addSuppressed(new IllegalStateException("cierre"));
+
+        assertEquals(0, excepcion.getSuppressed().length);
+    }
+}
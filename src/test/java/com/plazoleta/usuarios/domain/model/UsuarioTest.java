@@ -5,7 +5,6 @@ import java.time.LocalDate;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class UsuarioTest {
 
@@ -41,57 +40,6 @@ class UsuarioTest {
         assertEquals(rol, usuario.getRol());
     }
 
-    @Test
-    void deberiaLanzarExcepcionCuandoUsuarioEsMenorDeEdad() {
-        // Arrange
-        LocalDate fechaNacimiento = LocalDate.now().minusYears(17);
-        Rol rol = new Rol(2, "PROPIETARIO");
-
-        DatosCreacionUsuario datos = DatosCreacionUsuario.builder()
-                .nombre("Juan")
-                .apellido("Pérez")
-                .documento("12345678")
-                .celular("+573001234567")
-                .fechaNacimiento(fechaNacimiento)
-                .correo("juan@example.com")
-                .clave("password123")
-                .restauranteId(null)
-                .build();
-
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                () -> Usuario.crear(datos, rol)
-        );
-
-        assertEquals("El usuario debe ser mayor de edad", exception.getMessage());
-    }
-
-    @Test
-    void deberiaLanzarExcepcionCuandoFechaNacimientoEsNull() {
-        // Arrange
-        Rol rol = new Rol(2, "PROPIETARIO");
-
-        DatosCreacionUsuario datos = DatosCreacionUsuario.builder()
-                .nombre("Juan")
-                .apellido("Pérez")
-                .documento("12345678")
-                .celular("+573001234567")
-                .fechaNacimiento(null)
-                .correo("juan@example.com")
-                .clave("password123")
-                .restauranteId(null)
-                .build();
-
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                () -> Usuario.crear(datos, rol)
-        );
-
-        assertEquals("El usuario debe ser mayor de edad", exception.getMessage());
-    }
-
     @Test
     void deberiaCrearUsuarioConExactamente18Anios() {
         // Arrange
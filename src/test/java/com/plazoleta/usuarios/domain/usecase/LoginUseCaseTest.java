@@ -1,8 +1,7 @@
 package com.plazoleta.usuarios.domain.usecase;
 
 import com.plazoleta.usuarios.domain.exception.CredencialesInvalidasException;
-import com.plazoleta.usuarios.domain.model.Rol;
-import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
 import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
 import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
@@ -17,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,7 +37,7 @@ class LoginUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        loginUseCase = new LoginUseCase(usuarioPersistencePort, passwordEncoderPort, jwtProviderPort);
+        loginUseCase = new LoginUseCase(usuarioPersistencePort, passwordEncoderPort, jwtProviderPort, Runnable::run);
     }
 
     @Test
@@ -44,10 +45,10 @@ class LoginUseCaseTest {
         // Arrange
         String correo = "usuario@mail.com";
         String clave = "clave123";
-        Usuario usuario = crearUsuarioConRol(correo, "claveEncriptada", "PROPIETARIO");
+        CredencialesUsuario usuario = crearCredenciales(correo, "claveEncriptada", "PROPIETARIO");
         String tokenEsperado = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...";
 
-        when(usuarioPersistencePort.buscarPorCorreo(correo)).thenReturn(Optional.of(usuario));
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(usuario));
         when(passwordEncoderPort.matches(clave, usuario.getClave())).thenReturn(true);
         when(jwtProviderPort.generarToken(usuario.getId(), usuario.getCorreo(), "PROPIETARIO", null)).thenReturn(tokenEsperado);
 
@@ -56,7 +57,7 @@ class LoginUseCaseTest {
 
         // Assert
         assertEquals(tokenEsperado, token);
-        verify(usuarioPersistencePort).buscarPorCorreo(correo);
+        verify(usuarioPersistencePort).buscarCredencialesPorCorreo(correo);
         verify(passwordEncoderPort).matches(clave, usuario.getClave());
         verify(jwtProviderPort).generarToken(usuario.getId(), usuario.getCorreo(), "PROPIETARIO", null);
     }
@@ -67,7 +68,7 @@ class LoginUseCaseTest {
         String correo = "noexiste@mail.com";
         String clave = "clave123";
 
-        when(usuarioPersistencePort.buscarPorCorreo(correo)).thenReturn(Optional.empty());
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.empty());
 
         // Act & Assert
         CredencialesInvalidasException exception = assertThrows(
@@ -75,7 +76,7 @@ class LoginUseCaseTest {
                 () -> loginUseCase.login(correo, clave, null)
         );
         assertEquals("Credenciales inválidas", exception.getMessage());
-        verify(usuarioPersistencePort).buscarPorCorreo(correo);
+        verify(usuarioPersistencePort).buscarCredencialesPorCorreo(correo);
         verify(passwordEncoderPort, org.mockito.Mockito.never()).matches(anyString(), anyString());
         verify(jwtProviderPort, org.mockito.Mockito.never()).generarToken(anyInt(), anyString(), anyString(), any());
     }
@@ -85,9 +86,9 @@ class LoginUseCaseTest {
         // Arrange
         String correo = "usuario@mail.com";
         String clave = "claveIncorrecta";
-        Usuario usuario = crearUsuarioConRol(correo, "claveEncriptada", "PROPIETARIO");
+        CredencialesUsuario usuario = crearCredenciales(correo, "claveEncriptada", "PROPIETARIO");
 
-        when(usuarioPersistencePort.buscarPorCorreo(correo)).thenReturn(Optional.of(usuario));
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(usuario));
         when(passwordEncoderPort.matches(clave, usuario.getClave())).thenReturn(false);
 
         // Act & Assert
@@ -96,17 +97,84 @@ class LoginUseCaseTest {
                 () -> loginUseCase.login(correo, clave, null)
         );
         assertEquals("Credenciales inválidas", exception.getMessage());
-        verify(usuarioPersistencePort).buscarPorCorreo(correo);
+        verify(usuarioPersistencePort).buscarCredencialesPorCorreo(correo);
         verify(passwordEncoderPort).matches(clave, usuario.getClave());
         verify(jwtProviderPort, org.mockito.Mockito.never()).generarToken(anyInt(), anyString(), anyString(), any());
     }
 
-    private Usuario crearUsuarioConRol(String correo, String claveEncriptada, String nombreRol) {
-        Usuario usuario = new Usuario();
-        usuario.setId(1);
-        usuario.setCorreo(correo);
-        usuario.setClave(claveEncriptada);
-        usuario.setRol(new Rol(null, nombreRol));
-        return usuario;
+    @Test
+    void deberiaRegenerarHashCuandoRequiereActualizacion() {
+        // Arrange
+        String correo = "usuario@mail.com";
+        String clave = "clave123";
+        CredencialesUsuario usuario = crearCredenciales(correo, "hashCostoViejo", "EMPLEADO");
+
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(usuario));
+        when(passwordEncoderPort.matches(clave, "hashCostoViejo")).thenReturn(true);
+        when(passwordEncoderPort.requiereActualizacion("hashCostoViejo")).thenReturn(true);
+        when(passwordEncoderPort.encode(clave)).thenReturn("hashCostoNuevo");
+        when(jwtProviderPort.generarToken(usuario.getId(), correo, "EMPLEADO", null)).thenReturn("token");
+
+        // Act
+        String token = loginUseCase.login(correo, clave, null);
+
+        // Assert
+        assertEquals("token", token);
+        verify(usuarioPersistencePort).actualizarClave(usuario.getId(), "hashCostoNuevo");
+    }
+
+    @Test
+    void noDeberiaRegenerarHashCuandoEstaActualizado() {
+        // Arrange
+        String correo = "usuario@mail.com";
+        String clave = "clave123";
+        CredencialesUsuario usuario = crearCredenciales(correo, "hashActual", "EMPLEADO");
+
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(usuario));
+        when(passwordEncoderPort.matches(clave, "hashActual")).thenReturn(true);
+        when(passwordEncoderPort.requiereActualizacion("hashActual")).thenReturn(false);
+
+        // Act
+        loginUseCase.login(correo, clave, null);
+
+        // Assert
+        verify(passwordEncoderPort, never()).encode(anyString());
+        verify(usuarioPersistencePort, never()).actualizarClave(any(), anyString());
+    }
+
+    @Test
+    void noDeberiaRegenerarHashCuandoClaveEsIncorrecta() {
+        // Arrange
+        String correo = "usuario@mail.com";
+        CredencialesUsuario usuario = crearCredenciales(correo, "hashCostoViejo", "EMPLEADO");
+
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(usuario));
+        when(passwordEncoderPort.matches("otraClave", "hashCostoViejo")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(CredencialesInvalidasException.class, () -> loginUseCase.login(correo, "otraClave", null));
+        verify(passwordEncoderPort, never()).requiereActualizacion(eq("hashCostoViejo"));
+        verify(usuarioPersistencePort, never()).actualizarClave(any(), anyString());
+    }
+
+    @Test
+    void deberiaGenerarTokenConRolVacioCuandoUsuarioNoTieneRol() {
+        // Arrange
+        String correo = "usuario@mail.com";
+        CredencialesUsuario usuario = crearCredenciales(correo, "hashActual", null);
+
+        when(usuarioPersistencePort.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(usuario));
+        when(passwordEncoderPort.matches("clave123", "hashActual")).thenReturn(true);
+        when(jwtProviderPort.generarToken(1, correo, "", null)).thenReturn("token");
+
+        // Act
+        String token = loginUseCase.login(correo, "clave123", null);
+
+        // Assert
+        assertEquals("token", token);
+    }
+
+    private CredencialesUsuario crearCredenciales(String correo, String claveEncriptada, String nombreRol) {
+        return new CredencialesUsuario(1, correo, claveEncriptada, nombreRol);
     }
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.plazoleta.usuarios.domain.usecase;
 
 import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
+import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.EmailInvalidoException;
 import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
+import com.plazoleta.usuarios.domain.model.Consistencia;
 import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.ModoCreacion;
+import com.plazoleta.usuarios.domain.model.PaginaEmpleados;
+import com.plazoleta.usuarios.domain.model.ResultadoImportacion;
 import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.model.UsuariosPorIds;
 import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +21,26 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -43,12 +63,156 @@ class UsuarioUseCaseTest {
         useCase = new UsuarioUseCase(persistencePort, passwordEncoderPort);
     }
 
+    @Test
+    void deberiaResolverElLoteEnOrdenYReportarLosInexistentes() {
+        // Arrange
+        Usuario tres = Usuario.builder().id(3).build();
+        Usuario uno = Usuario.builder().id(1).build();
+        when(persistencePort.obtenerUsuariosPorIds(new LinkedHashSet<>(List.of(3, 7, 1))))
+                .thenReturn(List.of(uno, tres));
+
+        // Act
+        UsuariosPorIds resultado = useCase.obtenerUsuariosPorIds(List.of(3, 7, 1, 3));
+
+        // Assert
+        assertEquals(List.of(tres, uno), resultado.getEncontrados());
+        assertEquals(List.of(7), resultado.getNoEncontrados());
+        verify(persistencePort, times(1)).obtenerUsuariosPorIds(any());
+    }
+
+    @Test
+    void deberiaPedirUnaFilaDeMasYDevolverElCursorSiguiente() {
+        // Arrange
+        List<Usuario> filas = List.of(Usuario.builder().id(11).build(), Usuario.builder().id(12).build(),
+                Usuario.builder().id(13).build());
+        when(persistencePort.listarEmpleados(5, 10, 3)).thenReturn(filas);
+
+        // Act
+        PaginaEmpleados pagina = useCase.listarEmpleados(5, 10, 2);
+
+        // Assert
+        assertEquals(2, pagina.getEmpleados().size());
+        assertEquals(12, pagina.getSiguiente());
+    }
+
+    @Test
+    void deberiaEmpezarDesdeElPrincipioYMarcarLaUltimaPagina() {
+        // Arrange
+        when(persistencePort.listarEmpleados(5, 0, UsuarioUseCase.LIMITE_MAXIMO_PAGINA + 1))
+                .thenReturn(List.of(Usuario.builder().id(1).build()));
+
+        // Act
+        PaginaEmpleados pagina = useCase.listarEmpleados(5, null, 10_000);
+
+        // Assert
+        assertEquals(1, pagina.getEmpleados().size());
+        assertNull(pagina.getSiguiente());
+    }
+
+    @Test
+    void deberiaExportarDelegandoElRecorridoEnLaPersistencia() {
+        // Arrange
+        Consumer<Usuario> consumidor = usuario -> { };
+
+        // Act
+        useCase.exportarUsuarios("EMPLEADO", 7, consumidor);
+
+        // Assert
+        verify(persistencePort).recorrerUsuarios("EMPLEADO", 7, consumidor);
+    }
+
+    @Test
+    void deberiaImportarLasFilasValidasYReportarCadaRechazo() {
+        // Arrange
+        AtomicInteger tareas = new AtomicInteger();
+        Executor executor = tarea -> {
+            tareas.incrementAndGet();
+            tarea.run();
+        };
+        useCase = new UsuarioUseCase(persistencePort, passwordEncoderPort, ModoCreacion.VERIFICACION_PREVIA, executor);
+        List<DatosCreacionUsuario> filas = List.of(
+                fila("ana@b.com", "111", "clave123"),
+                fila("sin-arroba", "222", "clave123"),
+                fila("ana@b.com", "333", "clave123"),
+                fila("luis@b.com", "444", "corta"),
+                fila("eva@b.com", "555", "clave123"),
+                fila(null, "666", "clave123"));
+        when(passwordEncoderPort.encode("clave123")).thenReturn("hash");
+        when(persistencePort.crearUsuarios(anyList())).thenReturn(Arrays.asList(10, null));
+
+        // Act
+        List<ResultadoImportacion> resultados = useCase.importarEmpleados(filas);
+
+        // Assert
+        assertEquals(6, resultados.size());
+        assertEquals(10, resultados.get(0).getId());
+        assertTrue(resultados.get(0).isCreado());
+        assertEquals("El correo electrónico no tiene un formato válido", resultados.get(1).getError());
+        assertEquals("Correo o documento repetido en la importación", resultados.get(2).getError());
+        assertEquals("La clave debe tener al menos 6 caracteres", resultados.get(3).getError());
+        assertEquals("Ya existe un usuario con este correo electrónico", resultados.get(4).getError());
+        assertEquals(5, resultados.get(4).getFila());
+        assertEquals("Falta un campo obligatorio", resultados.get(5).getError());
+        assertEquals(2, tareas.get());
+        verify(persistencePort, never()).existeCorreo(anyString(), any());
+    }
+
+    @Test
+    void deberiaReintentarFilaPorFilaCuandoElLoteFalla() {
+        // Arrange
+        List<DatosCreacionUsuario> filas = List.of(fila("ana@b.com", "111", "clave123"), fila("eva@b.com", "555", "clave123"));
+        when(passwordEncoderPort.encode("clave123")).thenReturn("hash");
+        when(persistencePort.crearUsuarios(anyList())).thenThrow(new CampoInvalidoException("Valor demasiado largo"));
+        when(persistencePort.crearUsuario(any(Usuario.class))).thenAnswer(invocacion -> {
+            Usuario usuario = invocacion.getArgument(0);
+            if (usuario.getCorreo().startsWith("eva")) {
+                throw new CampoInvalidoException("Valor demasiado largo");
+            }
+            usuario.setId(7);
+            return usuario;
+        });
+
+        // Act
+        List<ResultadoImportacion> resultados = useCase.importarEmpleados(filas);
+
+        // Assert
+        assertEquals(7, resultados.get(0).getId());
+        assertFalse(resultados.get(1).isCreado());
+        assertEquals("Valor demasiado largo", resultados.get(1).getError());
+        verify(persistencePort, times(2)).crearUsuario(any(Usuario.class));
+    }
+
+    @Test
+    void deberiaPropagarUnFalloInesperadoDelLoteSinReintentarFilaPorFila() {
+        // Arrange
+        List<DatosCreacionUsuario> filas = List.of(fila("ana@b.com", "111", "clave123"), fila("eva@b.com", "555", "clave123"));
+        when(passwordEncoderPort.encode("clave123")).thenReturn("hash");
+        when(persistencePort.crearUsuarios(anyList())).thenThrow(new IllegalStateException("Connection refused"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> useCase.importarEmpleados(filas));
+        verify(persistencePort, never()).crearUsuario(any(Usuario.class));
+    }
+
+    @Test
+    void deberiaPropagarUnFalloInesperadoDeUnaFilaSinExponerSuMensaje() {
+        // Arrange
+        List<DatosCreacionUsuario> filas = List.of(fila("ana@b.com", "111", "clave123"));
+        when(passwordEncoderPort.encode("clave123")).thenReturn("hash");
+        when(persistencePort.crearUsuarios(anyList())).thenThrow(new CampoInvalidoException("Valor demasiado largo"));
+        when(persistencePort.crearUsuario(any(Usuario.class)))
+                .thenThrow(new IllegalStateException("ERROR: relation usuarios.usuario does not exist"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> useCase.importarEmpleados(filas));
+    }
+
     @Test
     void deberiaCrearPropietarioConDatosValidos() {
         // Arrange
         DatosCreacionUsuario datos = crearDatosValidos();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -56,7 +220,7 @@ class UsuarioUseCaseTest {
         useCase.crearPropietario(datos);
 
         // Assert
-        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo());
+        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo(), Consistencia.FUERTE);
         verify(passwordEncoderPort, times(1)).encode("password123");
         verify(persistencePort, times(1)).guardarUsuario(any(Usuario.class));
     }
@@ -151,7 +315,7 @@ class UsuarioUseCaseTest {
                 .restauranteId(null)
                 .build();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -191,7 +355,7 @@ class UsuarioUseCaseTest {
         // Arrange
         DatosCreacionUsuario datos = crearDatosValidos();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(true);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(true);
 
         // Act & Assert
         CampoInvalidoException exception = assertThrows(
@@ -200,7 +364,67 @@ class UsuarioUseCaseTest {
         );
 
         assertEquals("Correo ya registrado", exception.getMessage());
-        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo());
+        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo(), Consistencia.FUERTE);
+        verify(persistencePort, never()).guardarUsuario(any());
+    }
+
+    @Test
+    void deberiaCalcularElHashMientrasSeVerificaElCorreo() {
+        // Arrange
+        CountDownLatch hashEmpezado = new CountDownLatch(1);
+        CountDownLatch consultaEmpezada = new CountDownLatch(1);
+        AtomicBoolean solapados = new AtomicBoolean(true);
+        useCase = conExecutorDeCreacion(tarea -> new Thread(tarea).start());
+        when(passwordEncoderPort.encode("password123")).thenAnswer(invocacion -> {
+            hashEmpezado.countDown();
+            solapados.compareAndSet(true, consultaEmpezada.await(5, TimeUnit.SECONDS));
+            return "hash";
+        });
+        when(persistencePort.existeCorreo(anyString(), any())).thenAnswer(invocacion -> {
+            consultaEmpezada.countDown();
+            solapados.compareAndSet(true, hashEmpezado.await(5, TimeUnit.SECONDS));
+            return false;
+        });
+
+        // Act
+        useCase.crearEmpleado(crearDatosValidos());
+
+        // Assert
+        assertTrue(solapados.get());
+        ArgumentCaptor<Usuario> captor = ArgumentCaptor.forClass(Usuario.class);
+        verify(persistencePort).guardarUsuario(captor.capture());
+        assertEquals("hash", captor.getValue().getClave());
+    }
+
+    @Test
+    void deberiaCancelarElHashPendienteCuandoElCorreoYaExiste() {
+        // Arrange
+        List<Runnable> encoladas = new ArrayList<>();
+        useCase = conExecutorDeCreacion(encoladas::add);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(true);
+
+        // Act
+        assertThrows(CampoInvalidoException.class, () -> useCase.crearPropietario(crearDatosValidos()));
+        encoladas.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, encoladas.size());
+        verify(passwordEncoderPort, never()).encode(anyString());
+        verify(persistencePort, never()).guardarUsuario(any());
+    }
+
+    @Test
+    void deberiaPropagarElErrorDelHashSinEnvolver() {
+        // Arrange
+        useCase = conExecutorDeCreacion(tarea -> new Thread(tarea).start());
+        when(passwordEncoderPort.encode(anyString())).thenThrow(new IllegalStateException("motor no disponible"));
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> useCase.crearEmpleado(crearDatosValidos()));
+
+        // Assert
+        assertEquals("motor no disponible", exception.getMessage());
         verify(persistencePort, never()).guardarUsuario(any());
     }
 
@@ -212,7 +436,7 @@ class UsuarioUseCaseTest {
         String claveEncriptada = "passwordEncriptada";
         ArgumentCaptor<Usuario> usuarioCaptor = ArgumentCaptor.forClass(Usuario.class);
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(claveOriginal)).thenReturn(claveEncriptada);
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -231,7 +455,7 @@ class UsuarioUseCaseTest {
         DatosCreacionUsuario datos = crearDatosValidos();
         ArgumentCaptor<Usuario> usuarioCaptor = ArgumentCaptor.forClass(Usuario.class);
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -260,7 +484,7 @@ class UsuarioUseCaseTest {
                 .restauranteId(null)
                 .build();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -285,7 +509,7 @@ class UsuarioUseCaseTest {
                 .restauranteId(null)
                 .build();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -301,7 +525,7 @@ class UsuarioUseCaseTest {
         // Arrange
         DatosCreacionUsuario datos = crearDatosValidos();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -309,7 +533,7 @@ class UsuarioUseCaseTest {
         useCase.crearEmpleado(datos);
 
         // Assert
-        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo());
+        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo(), Consistencia.FUERTE);
         verify(passwordEncoderPort, times(1)).encode("password123");
         verify(persistencePort, times(1)).guardarUsuario(any(Usuario.class));
     }
@@ -320,7 +544,7 @@ class UsuarioUseCaseTest {
         DatosCreacionUsuario datos = crearDatosValidos();
         ArgumentCaptor<Usuario> usuarioCaptor = ArgumentCaptor.forClass(Usuario.class);
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(false);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(false);
         when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
         when(persistencePort.guardarUsuario(any(Usuario.class))).thenReturn(new Usuario());
 
@@ -339,7 +563,7 @@ class UsuarioUseCaseTest {
         // Arrange
         DatosCreacionUsuario datos = crearDatosValidos();
 
-        when(persistencePort.existeCorreo(anyString())).thenReturn(true);
+        when(persistencePort.existeCorreo(anyString(), any())).thenReturn(true);
 
         // Act & Assert
         CampoInvalidoException exception = assertThrows(
@@ -348,11 +572,65 @@ class UsuarioUseCaseTest {
         );
 
         assertEquals("Correo ya registrado", exception.getMessage());
-        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo());
+        verify(persistencePort, times(1)).existeCorreo(datos.getCorreo(), Consistencia.FUERTE);
         verify(persistencePort, never()).guardarUsuario(any());
     }
 
+    @Test
+    void deberiaCrearPropietarioSinVerificacionPreviaEnModoDeteccionDeConflicto() {
+        // Arrange
+        UsuarioUseCase useCaseConflicto = new UsuarioUseCase(persistencePort, passwordEncoderPort,
+                ModoCreacion.DETECCION_DE_CONFLICTO);
+        DatosCreacionUsuario datos = crearDatosValidos();
+        when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
+        when(persistencePort.crearUsuario(any(Usuario.class))).thenReturn(new Usuario());
+
+        // Act
+        useCaseConflicto.crearPropietario(datos);
+
+        // Assert
+        verify(persistencePort, never()).existeCorreo(anyString(), any());
+        verify(persistencePort, never()).guardarUsuario(any());
+        verify(persistencePort, times(1)).crearUsuario(any(Usuario.class));
+    }
+
+    @Test
+    void deberiaInformarElCorreoRepetidoComoEnLaVerificacionPreviaEnModoDeteccionDeConflicto() {
+        // Arrange
+        UsuarioUseCase useCaseConflicto = new UsuarioUseCase(persistencePort, passwordEncoderPort,
+                ModoCreacion.DETECCION_DE_CONFLICTO);
+        DatosCreacionUsuario datos = crearDatosValidos();
+        when(passwordEncoderPort.encode(anyString())).thenReturn("passwordEncriptada");
+        when(persistencePort.crearUsuario(any(Usuario.class))).thenThrow(new CorreoYaRegistradoException());
+
+        // Act
+        CampoInvalidoException exception = assertThrows(CampoInvalidoException.class,
+                () -> useCaseConflicto.crearEmpleado(datos));
+
+        // Assert
+        assertEquals("Correo ya registrado", exception.getMessage());
+        verify(persistencePort, never()).existeCorreo(anyString(), any());
+    }
+
     // Metodo auxiliar para crear datos válidos (restauranteId 1 para empleados)
+    private DatosCreacionUsuario fila(String correo, String documento, String clave) {
+        return DatosCreacionUsuario.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .documento(documento)
+                .celular("+573001234567")
+                .fechaNacimiento(LocalDate.now().minusYears(25))
+                .correo(correo)
+                .clave(clave)
+                .restauranteId(1)
+                .build();
+    }
+
+    private UsuarioUseCase conExecutorDeCreacion(Executor executor) {
+        return new UsuarioUseCase(persistencePort, passwordEncoderPort, ModoCreacion.VERIFICACION_PREVIA,
+                Runnable::run, executor, new ValidadorDatosUsuario(Clock.systemDefaultZone()));
+    }
+
     private DatosCreacionUsuario crearDatosValidos() {
         return DatosCreacionUsuario.builder()
                 .nombre("Juan")
@@ -0,0 +1,133 @@
+package com.plazoleta.usuarios.domain.usecase;
+
+import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
+import com.plazoleta.usuarios.domain.exception.CampoObligatorioException;
+import com.plazoleta.usuarios.domain.exception.EmailInvalidoException;
+import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
+import com.plazoleta.usuarios.domain.model.DatosCreacionUsuario;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidadorDatosUsuarioTest {
+
+    private static final String DOCUMENTO = "\\d+";
+    private static final String CORREO = "^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$";
+    private static final String CELULAR = "^\\+?\\d{1,13}$";
+
+    private final ValidadorDatosUsuario validador =
+            new ValidadorDatosUsuario(Clock.fixed(Instant.parse("2026-02-28T12:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void deberiaAceptarDatosValidos() {
+        // Act
+        List<ViolacionCampo> violaciones = validador.violaciones(datos().build());
+
+        // Assert
+        assertTrue(violaciones.isEmpty());
+        assertDoesNotThrow(() -> validador.validar(datos().build()));
+    }
+
+    @Test
+    void deberiaJuntarTodasLasViolacionesEnUnaPasada() {
+        // Arrange
+        DatosCreacionUsuario datos = datos()
+                .documento("12A")
+                .correo("sin-arroba")
+                .celular("+57-300")
+                .fechaNacimiento(LocalDate.of(2010, 1, 1))
+                .nombre(" ")
+                .apellido(null)
+                .clave("corta")
+                .build();
+
+        // Act
+        List<ViolacionCampo> violaciones = validador.violaciones(datos);
+
+        // Assert
+        assertEquals(List.of("documento", "correo", "celular", "fechaNacimiento", "nombre", "apellido", "clave"),
+                violaciones.stream().map(ViolacionCampo::getCampo).toList());
+        assertEquals("La clave debe tener al menos 6 caracteres", violaciones.get(6).getMensaje());
+    }
+
+    @Test
+    void deberiaLanzarLaExcepcionDeLaPrimeraViolacionConTodasAdjuntas() {
+        // Arrange
+        DatosCreacionUsuario datos = datos().correo("correo@").celular("abc").build();
+
+        // Act
+        EmailInvalidoException exception = assertThrows(EmailInvalidoException.class, () -> validador.validar(datos));
+
+        // Assert
+        assertEquals(2, exception.getViolaciones().size());
+        assertEquals("Celular inválido", exception.getViolaciones().get(1).getMensaje());
+    }
+
+    @Test
+    void deberiaUsarLaExcepcionDeCadaTipoDeViolacion() {
+        assertThrows(CampoInvalidoException.class, () -> validador.validar(datos().documento("").build()));
+        assertThrows(CampoObligatorioException.class, () -> validador.validar(datos().documento(null).build()));
+        assertThrows(CampoObligatorioException.class, () -> validador.validar(datos().fechaNacimiento(null).build()));
+        assertThrows(UsuarioMayorDeEdadException.class,
+                () -> validador.validar(datos().fechaNacimiento(LocalDate.of(2008, 3, 1)).build()));
+    }
+
+    @Test
+    void deberiaCalcularLaEdadConElRelojInyectado() {
+        // Arrange
+        DatosCreacionUsuario justo18 = datos().fechaNacimiento(LocalDate.of(2008, 2, 28)).build();
+        DatosCreacionUsuario bisiesto = datos().fechaNacimiento(LocalDate.of(2008, 2, 29)).build();
+        DatosCreacionUsuario futuro = datos().fechaNacimiento(LocalDate.of(2030, 1, 1)).build();
+
+        // Act & Assert
+        assertTrue(validador.violaciones(justo18).isEmpty());
+        assertEquals("fechaNacimiento", validador.violaciones(bisiesto).get(0).getCampo());
+        assertEquals("fechaNacimiento", validador.violaciones(futuro).get(0).getCampo());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"123", "0", "", " ", "12 3", "１２３", "12a", "-1", "+57"})
+    void deberiaValidarElDocumentoComoLaExpresionRegular(String documento) {
+        assertEquals(documento.matches(DOCUMENTO), valido(datos().documento(documento).build(), "documento"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"juan@example.com", "juan.perez-gomez_1@mi-dominio.co", "a@b.cc", "a@b.c", "@b.com",
+            "a@.com", "a@b.", "a@b.c1m", "a@b.co.uk", "a@@b.com", "a b@c.com", "a@b-c_d.COM", ".-@x.yz",
+            "ñ@b.com", "a@b.com\n", "correo@", "a@bcom", "a@b.c-m"})
+    void deberiaValidarElCorreoComoLaExpresionRegular(String correo) {
+        assertEquals(correo.matches(CORREO), valido(datos().correo(correo).build(), "correo"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"+573001234567", "3001234567", "+", "", "1234567890123", "12345678901234",
+            "+1234567890123", "+12345678901234", "++57", "57+", "300 123", "٣٠٠"})
+    void deberiaValidarElCelularComoLaExpresionRegular(String celular) {
+        assertEquals(celular.matches(CELULAR), valido(datos().celular(celular).build(), "celular"));
+    }
+
+    private boolean valido(DatosCreacionUsuario datos, String campo) {
+        return validador.violaciones(datos).stream().noneMatch(violacion -> violacion.getCampo().equals(campo));
+    }
+
+    private static DatosCreacionUsuario.DatosCreacionUsuarioBuilder datos() {
+        return DatosCreacionUsuario.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .documento("123456")
+                .celular("+573001234567")
+                .fechaNacimiento(LocalDate.of(1990, 5, 20))
+                .correo("juan@example.com")
+                .clave("password123");
+    }
+}
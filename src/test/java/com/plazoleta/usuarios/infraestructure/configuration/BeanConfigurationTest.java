@@ -1,11 +1,16 @@
 package com.plazoleta.usuarios.infraestructure.configuration;
 
+import com.plazoleta.usuarios.domain.api.AuthServicePort;
 import com.plazoleta.usuarios.domain.api.UsuarioServicePort;
+import com.plazoleta.usuarios.domain.model.ModoCreacion;
 import com.plazoleta.usuarios.domain.spi.JwtProviderPort;
 import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
 import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
+import com.plazoleta.usuarios.infraestructure.out.jpa.adapter.ConsistenciaLecturas;
+import com.plazoleta.usuarios.infraestructure.out.jpa.adapter.RoleRegistry;
 import com.plazoleta.usuarios.infraestructure.out.jpa.mapper.UsuarioEntityMapper;
-import com.plazoleta.usuarios.infraestructure.out.jpa.repository.RoleRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioExportacionRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioInsercionRepository;
 import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,7 +18,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +27,13 @@ class BeanConfigurationTest {
     private UsuarioRepository usuarioRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
+
+    @Mock
+    private UsuarioInsercionRepository usuarioInsercionRepository;
+
+    @Mock
+    private UsuarioExportacionRepository usuarioExportacionRepository;
 
     @Mock
     private UsuarioEntityMapper usuarioEntityMapper;
@@ -31,32 +41,22 @@ class BeanConfigurationTest {
     @Mock
     private JwtProviderPort jwtProviderPort;
 
+    @Mock
+    private PasswordEncoderPort passwordEncoderPort;
+
     private BeanConfiguration beanConfiguration;
 
     @BeforeEach
     void setUp() {
-        beanConfiguration = new BeanConfiguration(usuarioRepository, roleRepository, usuarioEntityMapper, jwtProviderPort);
-    }
-
-    @Test
-    void deberiaCrearPasswordEncoderPortBean() {
-        // Act
-        PasswordEncoderPort passwordEncoderPort = beanConfiguration.passwordEncoderPort();
-
-        // Assert
-        assertNotNull(passwordEncoderPort);
-
-        // Verificar que encripta correctamente
-        String passwordEncriptada = passwordEncoderPort.encode("password123");
-        assertNotNull(passwordEncriptada);
-        assertNotEquals("password123", passwordEncriptada);
-        assertTrue(passwordEncriptada.length() > 20); // BCrypt genera hashes largos
+        beanConfiguration = new BeanConfiguration(usuarioRepository, usuarioInsercionRepository, usuarioExportacionRepository,
+                ConsistenciaLecturas.sinReplicas(), roleRegistry, usuarioEntityMapper,
+                jwtProviderPort, passwordEncoderPort, new UsuarioCacheProperties(), Runnable::run, Runnable::run, Runnable::run);
     }
 
     @Test
     void deberiaCrearUsuarioServicePortBean() {
         // Act
-        UsuarioServicePort usuarioServicePort = beanConfiguration.usuarioServicePort();
+        UsuarioServicePort usuarioServicePort = beanConfiguration.usuarioServicePort(ModoCreacion.DETECCION_DE_CONFLICTO);
 
         // Assert
         assertNotNull(usuarioServicePort);
@@ -73,23 +73,18 @@ class BeanConfigurationTest {
     }
 
     @Test
-    void passwordEncoderDeberiaGenerarHashesDiferentesParaMismaPassword() {
-        // Arrange
-        PasswordEncoderPort passwordEncoderPort = beanConfiguration.passwordEncoderPort();
-        String password = "password123";
-
+    void deberiaCrearAuthServicePortBean() {
         // Act
-        String hash1 = passwordEncoderPort.encode(password);
-        String hash2 = passwordEncoderPort.encode(password);
+        AuthServicePort authServicePort = beanConfiguration.authServicePort();
 
         // Assert
-        assertNotEquals(hash1, hash2); // BCrypt genera diferentes salts
+        assertNotNull(authServicePort);
     }
 
     @Test
     void deberiaInyectarDependenciasCorrectamente() {
         // Act
-        UsuarioServicePort servicePort = beanConfiguration.usuarioServicePort();
+        UsuarioServicePort servicePort = beanConfiguration.usuarioServicePort(ModoCreacion.DETECCION_DE_CONFLICTO);
 
         // Assert
         assertNotNull(servicePort);
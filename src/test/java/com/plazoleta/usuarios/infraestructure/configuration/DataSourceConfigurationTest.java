@@ -0,0 +1,71 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.infraestructure.out.jpa.datasource.EnrutadorDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import javax.sql.DataSource;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DataSourceConfigurationTest {
+
+    private final DataSourceConfiguration configuration = new DataSourceConfiguration();
+
+    @Test
+    void deberiaUsarSoloLaPrimariaSinReplicas() throws Exception {
+        // Arrange
+        ReplicasProperties replicas = new ReplicasProperties();
+        MockEnvironment entorno = new MockEnvironment().withProperty("spring.datasource.hikari.maximum-pool-size", "3");
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+        // Act
+        DataSource dataSource = configuration.dataSource(propiedades("jdbc:h2:mem:primaria"), replicas, entorno);
+
+        // Assert
+        assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals(3, ((HikariDataSource) dataSource).getMaximumPoolSize());
+        assertEquals(1, configuration.consistenciaLecturas(replicas, transactionManager)
+                .leer(Consistencia.FUERTE, () -> 1));
+        verifyNoInteractions(transactionManager);
+        ((HikariDataSource) dataSource).close();
+    }
+
+    @Test
+    void deberiaEnrutarHaciaLasReplicasConfiguradas() throws Exception {
+        // Arrange
+        ReplicasProperties.Nodo nodo = new ReplicasProperties.Nodo();
+        nodo.setUrl("jdbc:h2:mem:replica");
+        nodo.setUsername("sa");
+        nodo.setPassword("");
+        ReplicasProperties replicas = new ReplicasProperties();
+        replicas.setNodos(List.of(nodo));
+        MockEnvironment entorno = new MockEnvironment();
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+        // Act
+        DataSource dataSource = configuration.dataSource(propiedades("jdbc:h2:mem:primaria"), replicas, entorno);
+        configuration.consistenciaLecturas(replicas, transactionManager).leer(Consistencia.EVENTUAL, () -> 1);
+
+        // Assert
+        assertInstanceOf(EnrutadorDataSource.class, dataSource);
+        verify(transactionManager).getTransaction(any());
+        ((EnrutadorDataSource) dataSource).close();
+    }
+
+    private static DataSourceProperties propiedades(String url) throws Exception {
+        DataSourceProperties propiedades = new DataSourceProperties();
+        propiedades.setUrl(url);
+        propiedades.setUsername("sa");
+        propiedades.afterPropertiesSet();
+        return propiedades;
+    }
+}
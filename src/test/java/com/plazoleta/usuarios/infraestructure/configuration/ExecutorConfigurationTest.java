@@ -0,0 +1,95 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutorConfigurationTest {
+
+    private final ExecutorConfiguration configuration = new ExecutorConfiguration();
+
+    @Test
+    void deberiaUsarNumeroDeNucleosCuandoPoolSizeEsCero() {
+        // Act
+        ThreadPoolTaskExecutor executor = configuration.hashExecutor(0, 10);
+
+        // Assert
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        assertEquals(nucleos, executor.getCorePoolSize());
+        assertEquals(nucleos, executor.getMaxPoolSize());
+        assertEquals(10, executor.getQueueCapacity());
+    }
+
+    @Test
+    void deberiaAcotarElPoolDeImportacion() {
+        // Act
+        ForkJoinPool configurado = configuration.importacionHashPool(2);
+        ForkJoinPool porDefecto = configuration.importacionHashPool(0);
+
+        // Assert
+        assertEquals(2, configurado.getParallelism());
+        assertEquals(Runtime.getRuntime().availableProcessors(), porDefecto.getParallelism());
+        configurado.shutdown();
+        porDefecto.shutdown();
+    }
+
+    @Test
+    void deberiaUsarPoolSizeConfigurado() {
+        // Act
+        ThreadPoolTaskExecutor executor = configuration.hashExecutor(3, 10);
+
+        // Assert
+        assertEquals(3, executor.getCorePoolSize());
+        assertEquals(3, executor.getMaxPoolSize());
+    }
+
+    @Test
+    void deberiaRechazarTareasCuandoLaColaEstaLlena() throws InterruptedException {
+        // Arrange: un hilo ocupado y una cola de capacidad 1
+        ThreadPoolTaskExecutor executor = configuration.hashExecutor(1, 1);
+        executor.initialize();
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        try {
+            executor.execute(() -> esperar(bloqueo));
+            executor.execute(() -> esperar(bloqueo));
+
+            // Act & Assert
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        } finally {
+            bloqueo.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void deberiaDescartarRehashCuandoLaColaEstaLlena() throws InterruptedException {
+        // Arrange
+        ThreadPoolTaskExecutor executor = configuration.rehashExecutor(1);
+        executor.initialize();
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        try {
+            executor.execute(() -> esperar(bloqueo));
+            executor.execute(() -> esperar(bloqueo));
+
+            // Act & Assert: la tercera tarea se descarta sin lanzar excepción
+            assertDoesNotThrow(() -> executor.execute(() -> { }));
+            assertEquals(1, executor.getMaxPoolSize());
+        } finally {
+            bloqueo.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.infraestructure.diagnostico.MonitorPinning;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class HilosVirtualesConfigurationTest {
+
+    @Test
+    void deberiaCrearElMonitorDePinning() {
+        // Act
+        try (MonitorPinning monitor = new HilosVirtualesConfiguration()
+                .monitorPinning(new SimpleMeterRegistry(), Duration.ofMillis(20))) {
+
+            // Assert
+            assertNotNull(monitor);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.GeneradorIdUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JpaConfigurationTest {
+
+    @Test
+    void deberiaActivarLaInsercionEnLotesConElTamanoDeAsignacionConfigurado() {
+        // Arrange
+        Map<String, Object> properties = new HashMap<>();
+
+        // Act
+        new JpaConfiguration().insercionEnLotesCustomizer(50, 100).customize(properties);
+
+        // Assert
+        assertEquals(50, properties.get(GeneradorIdUsuario.TAMANO_ASIGNACION));
+        assertEquals(100, properties.get(AvailableSettings.STATEMENT_BATCH_SIZE));
+        assertEquals(true, properties.get(AvailableSettings.ORDER_INSERTS));
+    }
+
+    @Test
+    void deberiaCrearLasRegionesDelSegundoNivel() {
+        // Act
+        try (CacheManager cacheManager = new JpaConfiguration().segundoNivelCacheManager(100, Duration.ofMinutes(5))) {
+
+            // Assert
+            assertNotNull(cacheManager.getCache(RoleEntity.REGION));
+            assertNotNull(cacheManager.getCache(UsuarioEntity.REGION_CORREOS));
+        }
+    }
+
+    @Test
+    void deberiaActivarElSegundoNivelSobreElGestorDeCaches() {
+        // Arrange
+        Map<String, Object> properties = new HashMap<>();
+        JpaConfiguration configuracion = new JpaConfiguration();
+
+        try (CacheManager cacheManager = configuracion.segundoNivelCacheManager(100, Duration.ofMinutes(5))) {
+            // Act
+            configuracion.segundoNivelCustomizer(cacheManager, true).customize(properties);
+
+            // Assert
+            assertEquals(true, properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE));
+            assertEquals(ConfigSettings.SIMPLE_FACTORY_NAME, properties.get(AvailableSettings.CACHE_REGION_FACTORY));
+            assertSame(cacheManager, properties.get(ConfigSettings.CACHE_MANAGER));
+            assertEquals("fail", properties.get(ConfigSettings.MISSING_CACHE_STRATEGY));
+            assertEquals(true, properties.get(AvailableSettings.GENERATE_STATISTICS));
+        }
+    }
+}
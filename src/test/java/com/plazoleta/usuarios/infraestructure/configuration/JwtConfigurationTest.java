@@ -0,0 +1,75 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.infraestructure.out.security.jwt.JwtKeyRing;
+import org.junit.jupiter.api.Test;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtConfigurationTest {
+
+    private final JwtConfiguration configuration = new JwtConfiguration();
+
+    @Test
+    void deberiaFallarAlArrancarCuandoNoHayClavesConfiguradas() {
+        // Arrange
+        JwtSigningProperties properties = new JwtSigningProperties();
+
+        // Act & Assert
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> configuration.jwtKeyRing(properties));
+        assertTrue(error.getMessage().contains("jwt.signing.clave-efimera"));
+    }
+
+    @Test
+    void deberiaGenerarClaveEfimeraSoloSiSeActivaExplicitamente() {
+        // Arrange
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setClaveEfimera(true);
+
+        // Act
+        JwtKeyRing keyRing = configuration.jwtKeyRing(properties);
+
+        // Assert
+        assertNotNull(keyRing.activa().privada());
+        assertEquals("RS256", keyRing.algoritmo().getId());
+    }
+
+    @Test
+    void deberiaCargarClavesConfiguradasIncluyendoRetiradas() throws Exception {
+        // Arrange
+        KeyPairGenerator generador = KeyPairGenerator.getInstance("RSA");
+        KeyPair activa = generador.generateKeyPair();
+        KeyPair retirada = generador.generateKeyPair();
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setKidActivo("2026-02");
+        properties.setClaves(List.of(
+                clave("2026-02", encode(activa.getPrivate().getEncoded()), encode(activa.getPublic().getEncoded())),
+                clave("2026-01", "", encode(retirada.getPublic().getEncoded()))));
+
+        // Act
+        JwtKeyRing keyRing = configuration.jwtKeyRing(properties);
+
+        // Assert
+        assertEquals("2026-02", keyRing.activa().kid());
+        assertEquals(retirada.getPublic(), keyRing.clavePublica("2026-01").orElseThrow());
+        assertTrue(keyRing.clavePublica("2026-02").isPresent());
+    }
+
+    private static JwtSigningProperties.Clave clave(String kid, String privada, String publica) {
+        JwtSigningProperties.Clave clave = new JwtSigningProperties.Clave();
+        clave.setKid(kid);
+        clave.setPrivateKey(privada);
+        clave.setPublicKey(publica);
+        return clave;
+    }
+
+    private static String encode(byte[] der) {
+        return Base64.getEncoder().encodeToString(der);
+    }
+}
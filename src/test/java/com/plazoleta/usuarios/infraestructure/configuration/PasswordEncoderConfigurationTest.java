@@ -0,0 +1,107 @@
+package com.plazoleta.usuarios.infraestructure.configuration;
+
+import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordEncoderConfigurationTest {
+
+    private final PasswordEncoderConfiguration configuration = new PasswordEncoderConfiguration();
+    private PasswordProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordProperties();
+        properties.getArgon2().setMemoryKib(1024);
+        properties.getArgon2().setIterations(1);
+        properties.getPbkdf2().setIterations(1000);
+    }
+
+    @Test
+    void deberiaUsarCostoFijoCuandoEstaConfigurado() {
+        // Arrange
+        properties.getBcrypt().setCost(5);
+
+        // Act
+        PasswordEncoderPort encoder = configuration.passwordEncoderPort(properties, Runnable::run);
+
+        // Assert
+        String hash = encoder.encode("password123");
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.requiereActualizacion("{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(encoder.requiereActualizacion(hash));
+    }
+
+    @Test
+    void deberiaCalibrarCostoCuandoNoHayCostoFijo() {
+        // Arrange
+        properties.getBcrypt().setTargetMillis(1);
+        properties.getBcrypt().setMinCost(4);
+        properties.getBcrypt().setMaxCost(5);
+
+        // Act
+        PasswordEncoderPort encoder = configuration.passwordEncoderPort(properties, Runnable::run);
+
+        // Assert
+        String hash = encoder.encode("password123");
+        assertTrue(hash.startsWith("{bcrypt}$2a$0"));
+        assertTrue(encoder.matches("password123", hash));
+    }
+
+    @Test
+    void deberiaUsarArgon2CuandoEsElAlgoritmoConfigurado() {
+        // Arrange
+        properties.setAlgoritmo("argon2");
+
+        // Act
+        PasswordEncoderPort encoder = configuration.passwordEncoderPort(properties, Runnable::run);
+
+        // Assert
+        String hash = encoder.encode("password123");
+        assertTrue(hash.startsWith("{argon2}$argon2id$"));
+        assertTrue(encoder.matches("password123", hash));
+    }
+
+    @Test
+    void deberiaUsarPbkdf2CuandoEsElAlgoritmoConfigurado() {
+        // Arrange
+        properties.setAlgoritmo("pbkdf2");
+
+        // Act
+        PasswordEncoderPort encoder = configuration.passwordEncoderPort(properties, Runnable::run);
+
+        // Assert
+        String hash = encoder.encode("password123");
+        assertTrue(hash.startsWith("{pbkdf2}"));
+        assertTrue(encoder.matches("password123", hash));
+    }
+
+    @Test
+    void deberiaVerificarYMarcarParaMigracionLosHashesDeOtroMotor() {
+        // Arrange
+        properties.setAlgoritmo("argon2");
+        PasswordEncoderPort encoder = configuration.passwordEncoderPort(properties, Runnable::run);
+        String hashLegado = new BCryptPasswordEncoder(4).encode("password123");
+
+        // Act
+        boolean coincide = encoder.matches("password123", hashLegado);
+        boolean requiereActualizacion = encoder.requiereActualizacion(hashLegado);
+
+        // Assert
+        assertTrue(coincide);
+        assertTrue(requiereActualizacion);
+    }
+
+    @Test
+    void deberiaRechazarAlgoritmoNoSoportado() {
+        // Arrange
+        properties.setAlgoritmo("md5");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> configuration.passwordEncoderPort(properties, Runnable::run));
+    }
+}
@@ -0,0 +1,74 @@
+package com.plazoleta.usuarios.infraestructure.diagnostico;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonitorPinningTest {
+
+    private SimpleMeterRegistry registry;
+    private MonitorPinning monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new MonitorPinning(registry, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    void deberiaContarPorOrigenSegunLosPaquetesDeLaPila() {
+        // Act
+        monitor.registrar(Duration.ofMillis(30), List.of("org.postgresql.core.QueryExecutorImpl.execute:300",
+                "com.plazoleta.usuarios.Algo.metodo:10"));
+        monitor.registrar(Duration.ofMillis(30), List.of("org.postgresql.core.QueryExecutorImpl.execute:300"));
+        monitor.registrar(Duration.ofMillis(25), List.of("com.plazoleta.usuarios.Algo.metodo:10"));
+        monitor.registrar(Duration.ofMillis(25), List.of());
+
+        // Assert
+        assertEquals(2, contador("jdbc"));
+        assertEquals(2, contador("otro"));
+    }
+
+    @Test
+    void deberiaDetectarUnHiloVirtualBloqueadoDentroDeSynchronized() throws Exception {
+        // Arrange
+        Object cerrojo = new Object();
+        monitor.iniciar();
+
+        // Act
+        long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (contador("otro") == 0 && System.nanoTime() < limite) {
+            Thread.ofVirtual().start(() -> {
+                synchronized (cerrojo) {
+                    dormir(30);
+                }
+            }).join();
+            dormir(200);
+        }
+
+        // Assert
+        assertTrue(contador("otro") > 0);
+    }
+
+    private double contador(String origen) {
+        return registry.get(MonitorPinning.METRICA).tag("origen", origen).counter().count();
+    }
+
+    private static void dormir(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
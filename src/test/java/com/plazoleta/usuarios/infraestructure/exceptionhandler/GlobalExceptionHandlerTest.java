@@ -1,5 +1,6 @@
 package com.plazoleta.usuarios.infraestructure.exceptionhandler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plazoleta.usuarios.domain.exception.CredencialesInvalidasException;
 import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
 import com.plazoleta.usuarios.domain.exception.CampoObligatorioException;
@@ -9,6 +10,7 @@ import com.plazoleta.usuarios.domain.exception.EmailInvalidoException;
 import com.plazoleta.usuarios.domain.exception.RolNoEncontradoException;
 import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
 import com.plazoleta.usuarios.domain.exception.ValorExcedeLongitudException;
+import com.plazoleta.usuarios.domain.model.ViolacionCampo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -16,10 +18,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -39,15 +48,15 @@ class GlobalExceptionHandlerTest {
         CredencialesInvalidasException exception = new CredencialesInvalidasException("Credenciales inválidas");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCredencialesInvalidas(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCredencialesInvalidas(exception);
 
         // Assert
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("CREDENCIALES_INVALIDAS", response.getBody().get("codigo"));
-        assertEquals("Credenciales inválidas", response.getBody().get("mensaje"));
-        assertEquals(401, response.getBody().get("status"));
-        assertNotNull(response.getBody().get("timestamp"));
+        assertEquals("CREDENCIALES_INVALIDAS", response.getBody().codigo());
+        assertEquals("Credenciales inválidas", response.getBody().mensaje());
+        assertEquals(401, response.getBody().status());
+        assertNotNull(response.getBody().timestamp());
     }
 
     @Test
@@ -56,15 +65,15 @@ class GlobalExceptionHandlerTest {
         CampoInvalidoException exception = new CampoInvalidoException("Documento inválido");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCampoInvalido(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCampoInvalido(exception);
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("CAMPO_INVALIDO", response.getBody().get("codigo"));
-        assertEquals("Documento inválido", response.getBody().get("mensaje"));
-        assertEquals(400, response.getBody().get("status"));
-        assertNotNull(response.getBody().get("timestamp"));
+        assertEquals("CAMPO_INVALIDO", response.getBody().codigo());
+        assertEquals("Documento inválido", response.getBody().mensaje());
+        assertEquals(400, response.getBody().status());
+        assertNotNull(response.getBody().timestamp());
     }
 
     @Test
@@ -73,14 +82,14 @@ class GlobalExceptionHandlerTest {
         EmailInvalidoException exception = new EmailInvalidoException();
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleEmailInvalido(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleEmailInvalido(exception);
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("EMAIL_INVALIDO", response.getBody().get("codigo"));
-        assertEquals("El correo electrónico no tiene un formato válido", response.getBody().get("mensaje"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("EMAIL_INVALIDO", response.getBody().codigo());
+        assertEquals("El correo electrónico no tiene un formato válido", response.getBody().mensaje());
+        assertEquals(400, response.getBody().status());
     }
 
     @Test
@@ -89,14 +98,14 @@ class GlobalExceptionHandlerTest {
         UsuarioMayorDeEdadException exception = new UsuarioMayorDeEdadException();
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleUsuarioMayorDeEdad(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleUsuarioMayorDeEdad(exception);
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("EDAD_INSUFICIENTE", response.getBody().get("codigo"));
-        assertTrue(response.getBody().get("mensaje").toString().contains("mayor"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("EDAD_INSUFICIENTE", response.getBody().codigo());
+        assertTrue(response.getBody().mensaje().toString().contains("mayor"));
+        assertEquals(400, response.getBody().status());
     }
 
     @Test
@@ -105,14 +114,14 @@ class GlobalExceptionHandlerTest {
         RolNoEncontradoException exception = new RolNoEncontradoException("Rol PROPIETARIO no encontrado en la base de datos");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleRolNoEncontrado(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleRolNoEncontrado(exception);
 
         // Assert
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("ROL_NO_ENCONTRADO", response.getBody().get("codigo"));
-        assertEquals("Rol PROPIETARIO no encontrado en la base de datos", response.getBody().get("mensaje"));
-        assertEquals(404, response.getBody().get("status"));
+        assertEquals("ROL_NO_ENCONTRADO", response.getBody().codigo());
+        assertEquals("Rol PROPIETARIO no encontrado en la base de datos", response.getBody().mensaje());
+        assertEquals(404, response.getBody().status());
     }
 
     @Test
@@ -127,16 +136,15 @@ class GlobalExceptionHandlerTest {
         when(bindingResult.getAllErrors()).thenReturn(List.of(fieldError1, fieldError2));
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleValidationExceptions(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleValidationExceptions(exception);
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("VALIDACION_FALLIDA", response.getBody().get("codigo"));
-        assertEquals("Los datos enviados no cumplen con las validaciones requeridas", response.getBody().get("mensaje"));
+        assertEquals("VALIDACION_FALLIDA", response.getBody().codigo());
+        assertEquals("Los datos enviados no cumplen con las validaciones requeridas", response.getBody().mensaje());
 
-        @SuppressWarnings("unchecked")
-        Map<String, String> errores = (Map<String, String>) response.getBody().get("errores");
+        Map<String, String> errores = response.getBody().errores();
         assertEquals(2, errores.size());
         assertEquals("El nombre es obligatorio", errores.get("nombre"));
         assertEquals("El correo es inválido", errores.get("correo"));
@@ -146,14 +154,14 @@ class GlobalExceptionHandlerTest {
     void deberiaManejarCorreoYaRegistradoException() {
         CorreoYaRegistradoException exception = new CorreoYaRegistradoException();
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCorreoYaRegistrado(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCorreoYaRegistrado(exception);
 
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("CORREO_YA_REGISTRADO", response.getBody().get("codigo"));
-        assertEquals("Ya existe un usuario con este correo electrónico", response.getBody().get("mensaje"));
-        assertEquals("correo", response.getBody().get("campo"));
-        assertEquals(409, response.getBody().get("status"));
+        assertEquals("CORREO_YA_REGISTRADO", response.getBody().codigo());
+        assertEquals("Ya existe un usuario con este correo electrónico", response.getBody().mensaje());
+        assertEquals("correo", response.getBody().campo());
+        assertEquals(409, response.getBody().status());
     }
 
     @Test
@@ -161,28 +169,28 @@ class GlobalExceptionHandlerTest {
         String mensajePersonalizado = "Ya existe un registro con estos datos";
         CorreoYaRegistradoException exception = new CorreoYaRegistradoException(mensajePersonalizado);
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCorreoYaRegistrado(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCorreoYaRegistrado(exception);
 
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("CORREO_YA_REGISTRADO", response.getBody().get("codigo"));
-        assertEquals(mensajePersonalizado, response.getBody().get("mensaje"));
-        assertEquals("correo", response.getBody().get("campo"));
-        assertEquals(409, response.getBody().get("status"));
+        assertEquals("CORREO_YA_REGISTRADO", response.getBody().codigo());
+        assertEquals(mensajePersonalizado, response.getBody().mensaje());
+        assertEquals("correo", response.getBody().campo());
+        assertEquals(409, response.getBody().status());
     }
 
     @Test
     void deberiaManejarDocumentoYaRegistradoException() {
         DocumentoYaRegistradoException exception = new DocumentoYaRegistradoException();
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleDocumentoYaRegistrado(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleDocumentoYaRegistrado(exception);
 
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("DOCUMENTO_YA_REGISTRADO", response.getBody().get("codigo"));
-        assertEquals("Ya existe un usuario con este número de documento", response.getBody().get("mensaje"));
-        assertEquals("documento", response.getBody().get("campo"));
-        assertEquals(409, response.getBody().get("status"));
+        assertEquals("DOCUMENTO_YA_REGISTRADO", response.getBody().codigo());
+        assertEquals("Ya existe un usuario con este número de documento", response.getBody().mensaje());
+        assertEquals("documento", response.getBody().campo());
+        assertEquals(409, response.getBody().status());
     }
 
     @Test
@@ -190,14 +198,14 @@ class GlobalExceptionHandlerTest {
         String mensajePersonalizado = "El documento ya está registrado en el sistema";
         DocumentoYaRegistradoException exception = new DocumentoYaRegistradoException(mensajePersonalizado);
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleDocumentoYaRegistrado(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleDocumentoYaRegistrado(exception);
 
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("DOCUMENTO_YA_REGISTRADO", response.getBody().get("codigo"));
-        assertEquals(mensajePersonalizado, response.getBody().get("mensaje"));
-        assertEquals("documento", response.getBody().get("campo"));
-        assertEquals(409, response.getBody().get("status"));
+        assertEquals("DOCUMENTO_YA_REGISTRADO", response.getBody().codigo());
+        assertEquals(mensajePersonalizado, response.getBody().mensaje());
+        assertEquals("documento", response.getBody().campo());
+        assertEquals(409, response.getBody().status());
     }
 
     @Test
@@ -205,14 +213,14 @@ class GlobalExceptionHandlerTest {
         ValorExcedeLongitudException exception = new ValorExcedeLongitudException(
                 "El número de celular no puede tener más de 13 caracteres", "celular");
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleValorExcedeLongitud(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleValorExcedeLongitud(exception);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("VALOR_EXCEDE_LONGITUD", response.getBody().get("codigo"));
-        assertEquals("El número de celular no puede tener más de 13 caracteres", response.getBody().get("mensaje"));
-        assertEquals("celular", response.getBody().get("campo"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("VALOR_EXCEDE_LONGITUD", response.getBody().codigo());
+        assertEquals("El número de celular no puede tener más de 13 caracteres", response.getBody().mensaje());
+        assertEquals("celular", response.getBody().campo());
+        assertEquals(400, response.getBody().status());
     }
 
     @Test
@@ -220,28 +228,28 @@ class GlobalExceptionHandlerTest {
         ValorExcedeLongitudException exception = new ValorExcedeLongitudException(
                 "El valor excede la longitud máxima permitida", null);
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleValorExcedeLongitud(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleValorExcedeLongitud(exception);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("VALOR_EXCEDE_LONGITUD", response.getBody().get("codigo"));
-        assertEquals("El valor excede la longitud máxima permitida", response.getBody().get("mensaje"));
-        assertEquals("desconocido", response.getBody().get("campo"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("VALOR_EXCEDE_LONGITUD", response.getBody().codigo());
+        assertEquals("El valor excede la longitud máxima permitida", response.getBody().mensaje());
+        assertEquals("desconocido", response.getBody().campo());
+        assertEquals(400, response.getBody().status());
     }
 
     @Test
     void deberiaManejarCampoObligatorioException() {
         CampoObligatorioException exception = new CampoObligatorioException();
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCampoObligatorio(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCampoObligatorio(exception);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("CAMPO_OBLIGATORIO", response.getBody().get("codigo"));
-        assertEquals("Falta un campo obligatorio", response.getBody().get("mensaje"));
-        assertEquals("desconocido", response.getBody().get("campo"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("CAMPO_OBLIGATORIO", response.getBody().codigo());
+        assertEquals("Falta un campo obligatorio", response.getBody().mensaje());
+        assertEquals("desconocido", response.getBody().campo());
+        assertEquals(400, response.getBody().status());
     }
 
     @Test
@@ -249,14 +257,30 @@ class GlobalExceptionHandlerTest {
         String mensajePersonalizado = "Error al guardar los datos en la base de datos";
         CampoObligatorioException exception = new CampoObligatorioException(mensajePersonalizado);
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCampoObligatorio(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCampoObligatorio(exception);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("CAMPO_OBLIGATORIO", response.getBody().get("codigo"));
-        assertEquals(mensajePersonalizado, response.getBody().get("mensaje"));
-        assertEquals("desconocido", response.getBody().get("campo"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("CAMPO_OBLIGATORIO", response.getBody().codigo());
+        assertEquals(mensajePersonalizado, response.getBody().mensaje());
+        assertEquals("desconocido", response.getBody().campo());
+        assertEquals(400, response.getBody().status());
+    }
+
+    @Test
+    void deberiaManejarRejectedExecutionExceptionConRetryAfter() {
+        // Arrange
+        RejectedExecutionException exception = new RejectedExecutionException("Cola llena");
+
+        // Act
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleServicioSaturado(exception);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertNotNull(response.getBody());
+        assertEquals("SERVICIO_SATURADO", response.getBody().codigo());
+        assertEquals(503, response.getBody().status());
     }
 
     @Test
@@ -265,11 +289,91 @@ class GlobalExceptionHandlerTest {
         CampoInvalidoException exception = new CampoInvalidoException("Test");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleCampoInvalido(exception);
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleCampoInvalido(exception);
 
         // Assert
         assertNotNull(response.getBody());
-        assertNotNull(response.getBody().get("timestamp"));
-        assertTrue(response.getBody().get("timestamp") instanceof String);
+        assertNotNull(response.getBody().timestamp());
+    }
+
+    @Test
+    void deberiaListarTodasLasViolacionesDeLaValidacion() {
+        // Arrange
+        EmailInvalidoException exception = new EmailInvalidoException();
+        exception.conViolaciones(List.of(
+                new ViolacionCampo("correo", "El correo electrónico no tiene un formato válido", ViolacionCampo.Tipo.CORREO),
+                new ViolacionCampo("celular", "Celular inválido", ViolacionCampo.Tipo.INVALIDO)));
+
+        // Act
+        ResponseEntity<RespuestaError> response = exceptionHandler.handleEmailInvalido(exception);
+
+        // Assert
+        assertEquals("EMAIL_INVALIDO", response.getBody().codigo());
+        assertEquals("correo", response.getBody().campo());
+        assertEquals(List.of("correo", "celular"), List.copyOf(response.getBody().errores().keySet()));
+        assertEquals("Celular inválido", response.getBody().errores().get("celular"));
+    }
+
+    @Test
+    void deberiaReutilizarLaMarcaDeTiempoDentroDelMismoMilisegundo() {
+        // Arrange
+        RelojAjustable clock = new RelojAjustable(Instant.parse("2024-03-01T10:15:30.123Z"));
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(clock);
+
+        // Act
+        String primera = handler.handleCredencialesInvalidas(new CredencialesInvalidasException("x")).getBody().timestamp();
+        String segunda = handler.handleCorreoYaRegistrado(new CorreoYaRegistradoException()).getBody().timestamp();
+        clock.avanzar(Duration.ofMillis(1));
+        String tercera = handler.handleCredencialesInvalidas(new CredencialesInvalidasException("x")).getBody().timestamp();
+
+        // Assert
+        assertEquals("2024-03-01T10:15:30.123", primera);
+        assertSame(primera, segunda);
+        assertEquals("2024-03-01T10:15:30.124", tercera);
+    }
+
+    @Test
+    void deberiaSerializarSoloLosCamposPresentesEnElOrdenDeSiempre() throws Exception {
+        // Arrange
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(
+                Clock.fixed(Instant.parse("2024-03-01T10:15:30.123Z"), ZoneOffset.UTC));
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // Act
+        String json = objectMapper.writeValueAsString(
+                handler.handleCorreoYaRegistrado(new CorreoYaRegistradoException()).getBody());
+
+        // Assert
+        assertEquals("{\"codigo\":\"CORREO_YA_REGISTRADO\","
+                + "\"mensaje\":\"Ya existe un usuario con este correo electrónico\","
+                + "\"timestamp\":\"2024-03-01T10:15:30.123\",\"status\":409,\"campo\":\"correo\"}", json);
+    }
+
+    private static final class RelojAjustable extends Clock {
+
+        private Instant instante;
+
+        private RelojAjustable(Instant instante) {
+            this.instante = instante;
+        }
+
+        void avanzar(Duration duracion) {
+            instante = instante.plus(duracion);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instante;
+        }
     }
 }
\ No newline at end of file
@@ -8,17 +8,23 @@ import com.plazoleta.usuarios.infraestructure.input.rest.dto.LoginRequestDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.util.concurrent.RejectedExecutionException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,14 +33,13 @@ class AuthControllerTest {
     @Mock
     private AuthServicePort authServicePort;
 
-    @InjectMocks
-    private AuthController authController;
-
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
+        // Executor síncrono: la tarea se ejecuta en el mismo hilo del test
+        AuthController authController = new AuthController(authServicePort, Runnable::run);
         mockMvc = MockMvcBuilders.standaloneSetup(authController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -51,10 +56,15 @@ class AuthControllerTest {
 
         when(authServicePort.login("usuario@mail.com", "clave123", null)).thenReturn(tokenEsperado);
 
-        // Act & Assert
-        mockMvc.perform(post("/api/v1/auth/login")
+        // Act
+        MvcResult resultado = mockMvc.perform(post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value(tokenEsperado));
     }
@@ -69,10 +79,15 @@ class AuthControllerTest {
         when(authServicePort.login(anyString(), anyString(), any()))
                 .thenThrow(new CredencialesInvalidasException("Credenciales inválidas"));
 
-        // Act & Assert
-        mockMvc.perform(post("/api/v1/auth/login")
+        // Act
+        MvcResult resultado = mockMvc.perform(post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.codigo").value("CREDENCIALES_INVALIDAS"))
                 .andExpect(jsonPath("$.mensaje").value("Credenciales inválidas"));
@@ -107,4 +122,28 @@ class AuthControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errores.clave").exists());
     }
+
+    @Test
+    void deberiaRetornar503ConRetryAfterCuandoExecutorEstaSaturado() throws Exception {
+        // Arrange: executor que rechaza todas las tareas (cola llena)
+        AuthController controllerSaturado = new AuthController(authServicePort, tarea -> {
+            throw new RejectedExecutionException("Cola llena");
+        });
+        MockMvc mockMvcSaturado = MockMvcBuilders.standaloneSetup(controllerSaturado)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        LoginRequestDto request = new LoginRequestDto();
+        request.setCorreo("usuario@mail.com");
+        request.setClave("clave123");
+
+        // Act & Assert
+        mockMvcSaturado.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.codigo").value("SERVICIO_SATURADO"));
+
+        verify(authServicePort, never()).login(anyString(), anyString(), any());
+    }
 }
\ No newline at end of file
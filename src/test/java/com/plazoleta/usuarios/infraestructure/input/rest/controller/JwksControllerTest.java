@@ -0,0 +1,35 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.controller;
+
+import com.plazoleta.usuarios.infraestructure.out.security.RutasPublicas;
+import com.plazoleta.usuarios.infraestructure.out.security.jwt.JwtKeyRing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class JwksControllerTest {
+
+    private JwtKeyRing keyRing;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = JwtKeyRing.efimero(JwtKeyRing.RS256);
+        mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(keyRing, 300)).build();
+    }
+
+    @Test
+    void deberiaRetornarJwksCacheable() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(RutasPublicas.JWKS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value(keyRing.activa().kid()))
+                .andExpect(jsonPath("$.keys[0].kty").value("RSA"))
+                .andExpect(jsonPath("$.keys[0].e").value("AQAB"));
+    }
+}
@@ -4,7 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.plazoleta.usuarios.application.dto.CrearEmpleadoDto;
 import com.plazoleta.usuarios.application.dto.CrearPropietarioDto;
+import com.plazoleta.usuarios.application.dto.response.ImportacionResponseDto;
+import com.plazoleta.usuarios.application.dto.response.PaginaEmpleadosResponseDto;
 import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import com.plazoleta.usuarios.application.dto.response.UsuariosPorIdsResponseDto;
 import com.plazoleta.usuarios.application.handler.IUsuarioHandler;
 import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
 import com.plazoleta.usuarios.domain.model.TokenClaims;
@@ -13,6 +16,9 @@ import com.plazoleta.usuarios.domain.exception.UsuarioMayorDeEdadException;
 import com.plazoleta.usuarios.infraestructure.exceptionhandler.GlobalExceptionHandler;
 import com.plazoleta.usuarios.infraestructure.input.rest.dto.CrearEmpleadoRequestDto;
 import com.plazoleta.usuarios.infraestructure.input.rest.dto.CrearPropietarioRequestDto;
+import com.plazoleta.usuarios.infraestructure.input.rest.dto.UsuariosPorIdsRequestDto;
+import com.plazoleta.usuarios.infraestructure.input.rest.exportacion.ExportadorUsuarios;
+import com.plazoleta.usuarios.infraestructure.input.rest.exportacion.FormatoExportacion;
 import com.plazoleta.usuarios.infraestructure.input.rest.mapper.CrearEmpleadoRestMapper;
 import com.plazoleta.usuarios.infraestructure.input.rest.mapper.CrearPropietarioRestMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,17 +29,32 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -49,6 +70,9 @@ class UsuarioControllerTest {
     @Mock
     private CrearEmpleadoRestMapper crearEmpleadoRestMapper;
 
+    @Mock
+    private ExportadorUsuarios exportadorUsuarios;
+
     @InjectMocks
     private UsuarioController controller;
 
@@ -64,6 +88,40 @@ class UsuarioControllerTest {
         objectMapper.registerModule(new JavaTimeModule());
     }
 
+    @Test
+    void deberiaRetornarLoteConNoEncontrados() throws Exception {
+        // Arrange
+        UsuarioResponseDto usuario = UsuarioResponseDto.builder().id(4).nombre("Ana").build();
+        when(usuarioHandler.obtenerUsuariosPorIds(List.of(4, 9)))
+                .thenReturn(new UsuariosPorIdsResponseDto(List.of(usuario), List.of(9)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/usuarios/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[4,9]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usuarios[0].id").value(4))
+                .andExpect(jsonPath("$.noEncontrados[0]").value(9));
+    }
+
+    @Test
+    void deberiaRechazarLoteVacioOSobreElLimite() throws Exception {
+        // Arrange
+        String demasiados = objectMapper.writeValueAsString(
+                Collections.singletonMap("ids", Collections.nCopies(UsuariosPorIdsRequestDto.MAXIMO_IDS + 1, 1)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/usuarios/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/usuarios/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(demasiados))
+                .andExpect(status().isBadRequest());
+        verify(usuarioHandler, never()).obtenerUsuariosPorIds(any());
+    }
+
     @Test
     void deberiaCrearPropietarioYRetornar201() throws Exception {
         // Arrange
@@ -326,6 +384,171 @@ class UsuarioControllerTest {
                 .build();
     }
 
+    @Test
+    void deberiaListarEmpleadosDelRestauranteDelPropietario() throws Exception {
+        // Arrange
+        TokenClaims tokenClaims = new TokenClaims(1, "propietario@mail.com", "PROPIETARIO", 7);
+        UsuarioResponseDto empleado = UsuarioResponseDto.builder().id(40).build();
+        when(usuarioHandler.listarEmpleados(7, 39, 1))
+                .thenReturn(new PaginaEmpleadosResponseDto(List.of(empleado), 40));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/usuarios/empleados")
+                        .param("restauranteId", "7")
+                        .param("after", "39")
+                        .param("limite", "1")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", tokenClaims);
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.empleados[0].id").value(40))
+                .andExpect(jsonPath("$.siguiente").value(40));
+    }
+
+    @Test
+    void deberiaPermitirAlAdministradorListarCualquierRestaurante() throws Exception {
+        // Arrange
+        TokenClaims tokenClaims = new TokenClaims(1, "admin@mail.com", "ADMINISTRADOR", null);
+        when(usuarioHandler.listarEmpleados(3, null, 50))
+                .thenReturn(new PaginaEmpleadosResponseDto(List.of(), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/usuarios/empleados")
+                        .param("restauranteId", "3")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", tokenClaims);
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deberiaRetornar403CuandoElRestauranteNoEsDelPropietario() throws Exception {
+        // Arrange
+        TokenClaims tokenClaims = new TokenClaims(1, "propietario@mail.com", "PROPIETARIO", 7);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/usuarios/empleados")
+                        .param("restauranteId", "8")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", tokenClaims);
+                            return request;
+                        }))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/usuarios/empleados").param("restauranteId", "8"))
+                .andExpect(status().isForbidden());
+        verify(usuarioHandler, never()).listarEmpleados(any(), any(), org.mockito.ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deberiaExportarEnStreamingConLosFiltros() throws Exception {
+        // Arrange
+        UsuarioResponseDto usuario = UsuarioResponseDto.builder().id(1).build();
+        doAnswer(invocacion -> {
+            ((Consumer<UsuarioResponseDto>) invocacion.getArgument(2)).accept(usuario);
+            return null;
+        }).when(usuarioHandler).exportarUsuarios(eq("EMPLEADO"), eq(7), any());
+        doAnswer(invocacion -> {
+            OutputStream salida = invocacion.getArgument(1);
+            Consumer<Consumer<UsuarioResponseDto>> filas = invocacion.getArgument(2);
+            filas.accept(dto -> { });
+            salida.write("1\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportadorUsuarios).escribir(eq(FormatoExportacion.CSV), any(), any());
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/api/v1/usuarios/exportacion")
+                        .param("formato", "CSV")
+                        .param("rol", "EMPLEADO")
+                        .param("restauranteId", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"usuarios.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("1\n"));
+        assertEquals(UsuarioController.TIEMPO_MAXIMO_EXPORTACION.toMillis(),
+                resultado.getRequest().getAsyncContext().getTimeout());
+        verify(usuarioHandler).exportarUsuarios(eq("EMPLEADO"), eq(7), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deberiaImportarEmpleadosDesdeJsonConElRestauranteDelToken() throws Exception {
+        // Arrange
+        TokenClaims tokenClaims = new TokenClaims(1, "propietario@mail.com", "PROPIETARIO", 4);
+        when(crearEmpleadoRestMapper.toApplicationDto(any(CrearEmpleadoRequestDto.class)))
+                .thenAnswer(invocacion -> new CrearEmpleadoDto());
+        when(usuarioHandler.importarEmpleados(anyList())).thenAnswer(invocacion -> {
+            List<CrearEmpleadoDto> dtos = invocacion.getArgument(0);
+            assertEquals(2, dtos.size());
+            assertTrue(dtos.stream().allMatch(dto -> dto.getRestauranteId() == 4));
+            return new ImportacionResponseDto(2, 0, List.of());
+        });
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/usuarios/empleados/importacion")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", tokenClaims);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + objectMapper.writeValueAsString(crearEmpleadoRequestDtoValido()) + ",null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creados").value(2));
+    }
+
+    @Test
+    void deberiaImportarEmpleadosDesdeCsv() throws Exception {
+        // Arrange
+        TokenClaims tokenClaims = new TokenClaims(1, "propietario@mail.com", "PROPIETARIO", 4);
+        when(crearEmpleadoRestMapper.toApplicationDto(any(CrearEmpleadoRequestDto.class)))
+                .thenAnswer(invocacion -> new CrearEmpleadoDto());
+        when(usuarioHandler.importarEmpleados(anyList())).thenReturn(new ImportacionResponseDto(0, 1, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/usuarios/empleados/importacion")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", tokenClaims);
+                            return request;
+                        })
+                        .contentType("text/csv")
+                        .content("nombre,apellido,documento,celular,fechaNacimiento,correo,clave\nAna,Gómez,1,3,,a@b.com,x"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rechazados").value(1));
+    }
+
+    @Test
+    void deberiaRechazarImportacionSinRestauranteOSinFilas() throws Exception {
+        // Arrange
+        TokenClaims sinRestaurante = new TokenClaims(1, "admin@mail.com", "ADMINISTRADOR", null);
+        TokenClaims propietario = new TokenClaims(1, "propietario@mail.com", "PROPIETARIO", 4);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/usuarios/empleados/importacion")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", sinRestaurante);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/usuarios/empleados/importacion")
+                        .with(request -> {
+                            request.setAttribute("tokenClaims", propietario);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+        verify(usuarioHandler, never()).importarEmpleados(anyList());
+    }
+
     @Test
     void deberiaCrearEmpleadoYRetornar201() throws Exception {
         // Arrange: tokenClaims con restauranteId para que el controller asocie el empleado al restaurante
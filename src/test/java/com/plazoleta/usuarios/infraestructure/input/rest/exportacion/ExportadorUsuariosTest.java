@@ -0,0 +1,112 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.exportacion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.plazoleta.usuarios.application.dto.response.UsuarioResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExportadorUsuariosTest {
+
+    private ExportadorUsuarios exportador;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportador = new ExportadorUsuarios(objectMapper);
+    }
+
+    @Test
+    void deberiaEscribirUnaLineaJsonPorUsuario() throws IOException {
+        // Arrange
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        exportador.escribir(FormatoExportacion.NDJSON, salida, consumidor -> {
+            consumidor.accept(usuario(1, "Ana"));
+            consumidor.accept(usuario(2, "Luis"));
+        });
+
+        // Assert
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lineas.length);
+        assertEquals("{\"id\":1,\"nombre\":\"Ana\",\"apellido\":null,\"documento\":null,\"celular\":null,"
+                + "\"fechaNacimiento\":\"1990-05-20\",\"correo\":\"ana@b.com\",\"rol\":\"EMPLEADO\"}", lineas[0]);
+    }
+
+    @Test
+    void deberiaEscribirCsvConEncabezadoYEscaparCampos() throws IOException {
+        // Arrange
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        exportador.escribir(FormatoExportacion.CSV, salida, consumidor -> consumidor.accept(usuario(1, "Ana, \"la\"")));
+
+        // Assert
+        assertEquals(ExportadorUsuarios.ENCABEZADO_CSV + "\n"
+                + "1,\"Ana, \"\"la\"\"\",,,,1990-05-20,ana@b.com,EMPLEADO\n", salida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void deberiaEscaparSaltosDeLinea() {
+        // Act & Assert
+        assertEquals("\"a\nb\"", ExportadorUsuarios.campo("a\nb"));
+        assertEquals("\"a\rb\"", ExportadorUsuarios.campo("a\rb"));
+        assertEquals("", ExportadorUsuarios.campo(null));
+    }
+
+    @Test
+    void deberiaNeutralizarLosValoresQueEmpiezanComoFormula() {
+        // Act & Assert
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", ExportadorUsuarios.campo("=HYPERLINK(\"x\")"));
+        assertEquals("'+573001234567", ExportadorUsuarios.campo("+573001234567"));
+        assertEquals("'-2", ExportadorUsuarios.campo(-2));
+        assertEquals("'@SUM(A1)", ExportadorUsuarios.campo("@SUM(A1)"));
+        assertEquals("'\tx", ExportadorUsuarios.campo("\tx"));
+        assertEquals("\"'\rx\"", ExportadorUsuarios.campo("\rx"));
+        assertEquals("a=b", ExportadorUsuarios.campo("a=b"));
+    }
+
+    @Test
+    void deberiaPropagarElErrorDeEscrituraCuandoElClienteSeDesconecta() {
+        // Arrange
+        OutputStream cerrado = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> exportador.escribir(FormatoExportacion.CSV, cerrado, consumidor -> {
+            for (int i = 0; i < 1000; i++) {
+                consumidor.accept(usuario(i, "Ana"));
+            }
+        }));
+        assertThrows(IOException.class, () -> exportador.escribir(FormatoExportacion.NDJSON, cerrado, consumidor -> {
+            for (int i = 0; i < 1000; i++) {
+                consumidor.accept(usuario(i, "Ana"));
+            }
+        }));
+    }
+
+    private static UsuarioResponseDto usuario(Integer id, String nombre) {
+        return UsuarioResponseDto.builder()
+                .id(id)
+                .nombre(nombre)
+                .fechaNacimiento(LocalDate.of(1990, 5, 20))
+                .correo("ana@b.com")
+                .rol("EMPLEADO")
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.importacion;
+
+import com.plazoleta.usuarios.domain.exception.CampoInvalidoException;
+import com.plazoleta.usuarios.infraestructure.input.rest.dto.CrearEmpleadoRequestDto;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LectorCsvEmpleadosTest {
+
+    @Test
+    void deberiaLeerFilasPorNombreDeColumna() {
+        // Arrange
+        String csv = "\uFEFFcorreo,clave,nombre,apellido,documento,celular,fechaNacimiento\r\n"
+                + "ana@b.com,secreta1,Ana,\"Gómez, \"\"la\"\"\",111,+573001234567,1990-05-20\r\n"
+                + "\n"
+                + "luis@b.com,secreta2,\"Luis\nMaría\",Díaz,222,,\n";
+
+        // Act
+        List<CrearEmpleadoRequestDto> filas = LectorCsvEmpleados.leer(csv);
+
+        // Assert
+        assertEquals(2, filas.size());
+        assertEquals("ana@b.com", filas.get(0).getCorreo());
+        assertEquals("Gómez, \"la\"", filas.get(0).getApellido());
+        assertEquals(LocalDate.of(1990, 5, 20), filas.get(0).getFechaNacimiento());
+        assertEquals("Luis\nMaría", filas.get(1).getNombre());
+        assertNull(filas.get(1).getCelular());
+        assertNull(filas.get(1).getFechaNacimiento());
+    }
+
+    @Test
+    void deberiaDevolverNullCuandoLaFilaTieneMenosColumnas() {
+        // Act
+        List<CrearEmpleadoRequestDto> filas = LectorCsvEmpleados.leer(
+                String.join(",", LectorCsvEmpleados.COLUMNAS) + "\nAna,Gómez");
+
+        // Assert
+        assertEquals("Gómez", filas.get(0).getApellido());
+        assertNull(filas.get(0).getClave());
+    }
+
+    @Test
+    void deberiaRechazarArchivosMalFormados() {
+        // Act & Assert
+        assertThrows(CampoInvalidoException.class, () -> LectorCsvEmpleados.leer(""));
+        assertThrows(CampoInvalidoException.class, () -> LectorCsvEmpleados.leer("nombre,apellido\nAna,Gómez"));
+        assertThrows(CampoInvalidoException.class, () -> LectorCsvEmpleados.leer("nombre,\"apellido"));
+        CampoInvalidoException fecha = assertThrows(CampoInvalidoException.class, () -> LectorCsvEmpleados.leer(
+                String.join(",", LectorCsvEmpleados.COLUMNAS) + "\nAna,Gómez,111,300,20-05-1990,a@b.com,clave1"));
+        assertTrue(fecha.getMessage().startsWith("Fila 1"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.plazoleta.usuarios.infraestructure.input.rest.importacion;
+
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LimiteImportacionFilterTest {
+
+    private final LimiteImportacionFilter filtro = new LimiteImportacionFilter();
+
+    @Test
+    void deberiaFiltrarSoloLaImportacion() {
+        // Act & Assert
+        assertFalse(filtro.shouldNotFilter(new MockHttpServletRequest("POST", LimitesImportacion.RUTA)));
+        assertTrue(filtro.shouldNotFilter(new MockHttpServletRequest("GET", LimitesImportacion.RUTA)));
+        assertTrue(filtro.shouldNotFilter(new MockHttpServletRequest("POST", "/api/v1/usuarios/empleado")));
+    }
+
+    @Test
+    void deberiaRechazarSinLeerCuandoElContentLengthSuperaElMaximo() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = conLongitud(LimitesImportacion.MAXIMO_BYTES + 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filtro.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void deberiaDejarPasarUnCuerpoDentroDelMaximo() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LimitesImportacion.RUTA);
+        request.setContent("correo,clave\n".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filtro.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        ServletInputStream cuerpo = chain.getRequest().getInputStream();
+        assertSame(cuerpo, chain.getRequest().getInputStream());
+        assertEquals('c', cuerpo.read());
+        assertArrayEquals("orreo,clave\n".getBytes(), cuerpo.readAllBytes());
+        assertEquals(-1, cuerpo.read());
+        assertTrue(cuerpo.isFinished());
+    }
+
+    @Test
+    void deberiaCortarUnCuerpoSinLongitudDeclaradaAlSuperarElMaximo() throws Exception {
+        // Arrange: sin Content-Length, como en una subida por chunks
+        MockHttpServletRequest request = conLongitud(-1);
+        request.setContent(new byte[(int) LimitesImportacion.MAXIMO_BYTES + 1]);
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filtro.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        ServletInputStream cuerpo = chain.getRequest().getInputStream();
+        IOException error = assertThrows(IOException.class, cuerpo::readAllBytes);
+        assertEquals("La importación supera " + LimitesImportacion.MAXIMO_BYTES + " bytes", error.getMessage());
+    }
+
+    @Test
+    void deberiaCortarTambienUnCuerpoLeidoComoTexto() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = conLongitud(-1);
+        request.setCharacterEncoding("UTF-8");
+        request.setContent("a".repeat((int) LimitesImportacion.MAXIMO_BYTES + 1).getBytes());
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filtro.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        BufferedReader lector = chain.getRequest().getReader();
+        assertSame(lector, chain.getRequest().getReader());
+        IOException error = assertThrows(IOException.class, () -> lector.transferTo(Writer.nullWriter()));
+        assertEquals("La importación supera " + LimitesImportacion.MAXIMO_BYTES + " bytes", error.getMessage());
+    }
+
+    @Test
+    void deberiaLeerComoUtf8CuandoNoSeDeclaraCodificacion() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LimitesImportacion.RUTA);
+        request.setContent("año".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filtro.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals("año", chain.getRequest().getReader().readLine());
+    }
+
+    private static MockHttpServletRequest conLongitud(long longitud) {
+        return new MockHttpServletRequest("POST", LimitesImportacion.RUTA) {
+            @Override
+            public long getContentLengthLong() {
+                return longitud;
+            }
+        };
+    }
+}
@@ -0,0 +1,301 @@
+package com.plazoleta.usuarios.infraestructure.out.cache;
+
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.domain.model.Rol;
+import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.domain.spi.UsuarioPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UsuarioCacheDecoratorTest {
+
+    @Mock
+    private UsuarioPersistencePort delegado;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private UsuarioCacheDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        decorator = new UsuarioCacheDecorator(delegado, 100, Duration.ofMinutes(5), nanos::get);
+    }
+
+    @Test
+    void deberiaServirDesdeMemoriaLaSegundaLecturaSinLaClave() {
+        // Arrange
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(usuario(1));
+
+        // Act
+        Usuario primera = decorator.obtenerUsuarioPorId(1);
+        Usuario segunda = decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        verify(delegado, times(1)).obtenerUsuarioPorId(1);
+        assertEquals("juan@example.com", segunda.getCorreo());
+        assertEquals("PROPIETARIO", segunda.getRol().getNombre());
+        assertNull(segunda.getClave());
+        assertNotSame(primera, segunda);
+    }
+
+    @Test
+    void deberiaSaltarLaCacheYRefrescarlaEnUnaLecturaFuerte() {
+        // Arrange
+        Usuario antiguo = usuario(1);
+        Usuario actual = usuario(1);
+        actual.setCorreo("nuevo@example.com");
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(antiguo);
+        when(delegado.obtenerUsuarioPorId(1, Consistencia.FUERTE)).thenReturn(actual, (Usuario) null);
+        decorator.obtenerUsuarioPorId(1);
+
+        // Act
+        Usuario fuerte = decorator.obtenerUsuarioPorId(1, Consistencia.FUERTE);
+        Usuario siguiente = decorator.obtenerUsuarioPorId(1);
+        Usuario borrado = decorator.obtenerUsuarioPorId(1, Consistencia.FUERTE);
+
+        // Assert
+        assertEquals("nuevo@example.com", fuerte.getCorreo());
+        assertNull(fuerte.getClave());
+        assertEquals("nuevo@example.com", siguiente.getCorreo());
+        assertNull(borrado);
+        verify(delegado, times(1)).obtenerUsuarioPorId(1);
+    }
+
+    @Test
+    void deberiaPedirAlDelegadoSoloLosIdsQueNoEstanEnCache() {
+        // Arrange
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(usuario(1));
+        decorator.obtenerUsuarioPorId(1);
+        when(delegado.obtenerUsuariosPorIds(List.of(2))).thenReturn(List.of(usuario(2)));
+
+        // Act
+        List<Usuario> resultado = decorator.obtenerUsuariosPorIds(Set.of(1, 2));
+
+        // Assert
+        assertEquals(2, resultado.size());
+        assertTrue(resultado.stream().allMatch(u -> u.getClave() == null));
+        verify(delegado).obtenerUsuariosPorIds(List.of(2));
+    }
+
+    @Test
+    void deberiaNoConsultarAlDelegadoCuandoTodoElLoteEstaEnCache() {
+        // Arrange
+        when(delegado.obtenerUsuariosPorIds(List.of(3))).thenReturn(List.of(usuario(3)));
+        decorator.obtenerUsuariosPorIds(List.of(3));
+
+        // Act
+        List<Usuario> resultado = decorator.obtenerUsuariosPorIds(List.of(3, 3));
+
+        // Assert
+        assertEquals(1, resultado.size());
+        assertEquals(3, resultado.get(0).getId());
+        verify(delegado, times(1)).obtenerUsuariosPorIds(List.of(3));
+        verify(delegado, never()).obtenerUsuarioPorId(3);
+    }
+
+    @Test
+    void deberiaCompartirLaCargaEnCursoDelMismoId() throws Exception {
+        // Arrange
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(delegado.obtenerUsuarioPorId(1)).thenAnswer(invocacion -> {
+            cargando.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return usuario(1);
+        });
+        CompletableFuture<Usuario> primera = CompletableFuture.supplyAsync(() -> decorator.obtenerUsuarioPorId(1));
+        assertTrue(cargando.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<Usuario> segunda = CompletableFuture.supplyAsync(() -> decorator.obtenerUsuarioPorId(1));
+        liberar.countDown();
+
+        // Assert
+        assertEquals("juan@example.com", primera.get(5, TimeUnit.SECONDS).getCorreo());
+        assertEquals("juan@example.com", segunda.get(5, TimeUnit.SECONDS).getCorreo());
+        assertNotSame(primera.get(), segunda.get());
+        verify(delegado, times(1)).obtenerUsuarioPorId(1);
+    }
+
+    @Test
+    void deberiaNoGuardarLoLeidoCuandoSeInvalidaDuranteLaCarga() throws Exception {
+        // Arrange
+        Usuario antiguo = usuario(1);
+        Usuario actual = usuario(1);
+        actual.setCorreo("nuevo@example.com");
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(delegado.obtenerUsuarioPorId(1))
+                .thenAnswer(invocacion -> {
+                    cargando.countDown();
+                    liberar.await(5, TimeUnit.SECONDS);
+                    return antiguo;
+                })
+                .thenReturn(actual);
+        CompletableFuture<Usuario> lenta = CompletableFuture.supplyAsync(() -> decorator.obtenerUsuarioPorId(1));
+        assertTrue(cargando.await(5, TimeUnit.SECONDS));
+
+        // Act
+        decorator.actualizarClave(1, "nuevoHash");
+        liberar.countDown();
+        lenta.get(5, TimeUnit.SECONDS);
+        Usuario siguiente = decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        assertEquals("nuevo@example.com", siguiente.getCorreo());
+        verify(delegado, times(2)).obtenerUsuarioPorId(1);
+    }
+
+    @Test
+    void deberiaPropagarElFalloDeUnaCargaSinCachearlo() {
+        // Arrange
+        when(delegado.obtenerUsuarioPorId(1))
+                .thenThrow(new IllegalStateException("base caída"))
+                .thenReturn(usuario(1));
+
+        // Act
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> decorator.obtenerUsuarioPorId(1));
+        Usuario siguiente = decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        assertEquals("base caída", error.getMessage());
+        assertEquals("juan@example.com", siguiente.getCorreo());
+    }
+
+    @Test
+    void deberiaNoCachearUsuariosInexistentes() {
+        // Arrange
+        when(delegado.obtenerUsuarioPorId(99)).thenReturn(null);
+
+        // Act
+        decorator.obtenerUsuarioPorId(99);
+        Usuario resultado = decorator.obtenerUsuarioPorId(99);
+
+        // Assert
+        assertNull(resultado);
+        verify(delegado, times(2)).obtenerUsuarioPorId(99);
+    }
+
+    @Test
+    void deberiaVolverALeerTrasElTtl() {
+        // Arrange
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(usuario(1));
+        decorator.obtenerUsuarioPorId(1);
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        // Act
+        decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        verify(delegado, times(2)).obtenerUsuarioPorId(1);
+    }
+
+    @Test
+    void deberiaInvalidarAlGuardarUsuario() {
+        // Arrange
+        Usuario usuario = usuario(1);
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(usuario);
+        when(delegado.guardarUsuario(usuario)).thenReturn(usuario);
+        decorator.obtenerUsuarioPorId(1);
+
+        // Act
+        decorator.guardarUsuario(usuario);
+        decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        verify(delegado, times(2)).obtenerUsuarioPorId(1);
+    }
+
+    @Test
+    void deberiaInvalidarAlActualizarClave() {
+        // Arrange
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(usuario(1));
+        decorator.obtenerUsuarioPorId(1);
+
+        // Act
+        decorator.actualizarClave(1, "nuevoHash");
+        decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        verify(delegado).actualizarClave(1, "nuevoHash");
+        verify(delegado, times(2)).obtenerUsuarioPorId(1);
+    }
+
+    @Test
+    void deberiaDelegarLasDemasOperaciones() {
+        // Arrange
+        Usuario usuario = usuario(null);
+        when(delegado.crearUsuario(usuario)).thenReturn(usuario(5));
+        when(delegado.existeCorreo("a@b.com", Consistencia.FUERTE)).thenReturn(true);
+        when(delegado.buscarPorCorreo("a@b.com")).thenReturn(Optional.of(usuario));
+        when(delegado.buscarCredencialesPorCorreo("a@b.com"))
+                .thenReturn(Optional.of(new CredencialesUsuario(5, "a@b.com", "hash", "CLIENTE")));
+        when(delegado.guardarUsuario(usuario)).thenReturn(null);
+        when(delegado.listarEmpleados(1, 0, 10)).thenReturn(List.of(usuario));
+        when(delegado.crearUsuarios(List.of(usuario))).thenReturn(List.of(8));
+
+        // Act & Assert
+        assertEquals(5, decorator.crearUsuario(usuario).getId());
+        assertTrue(decorator.existeCorreo("a@b.com", Consistencia.FUERTE));
+        assertTrue(decorator.buscarPorCorreo("a@b.com").isPresent());
+        assertTrue(decorator.buscarCredencialesPorCorreo("a@b.com").isPresent());
+        assertNull(decorator.guardarUsuario(usuario));
+        assertEquals(1, decorator.listarEmpleados(1, 0, 10).size());
+        assertEquals(List.of(8), decorator.crearUsuarios(List.of(usuario)));
+        decorator.recorrerUsuarios(null, 1, u -> { });
+        verify(delegado).recorrerUsuarios(eq(null), eq(1), any());
+    }
+
+    @Test
+    void deberiaPublicarMetricasDeAciertos() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        decorator.bindTo(registry);
+        when(delegado.obtenerUsuarioPorId(1)).thenReturn(usuario(1));
+
+        // Act
+        decorator.obtenerUsuarioPorId(1);
+        decorator.obtenerUsuarioPorId(1);
+
+        // Assert
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", UsuarioCacheDecorator.NOMBRE)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", UsuarioCacheDecorator.NOMBRE)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    private static Usuario usuario(Integer id) {
+        return Usuario.builder()
+                .id(id)
+                .nombre("Juan")
+                .correo("juan@example.com")
+                .clave("{bcrypt}hash")
+                .rol(new Rol(2, "PROPIETARIO"))
+                .build();
+    }
+}
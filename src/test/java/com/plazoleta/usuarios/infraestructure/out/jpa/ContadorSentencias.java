@@ -0,0 +1,93 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Cuenta los viajes a la base de datos que pasan por un DataSource, vengan de Hibernate o de JDBC: cada
+ * {@code execute*} de una sentencia cuenta uno, también un {@code executeBatch} completo. Con
+ * {@link #dentroDelPresupuesto} una prueba falla si un caso de uso lanza más sentencias de las previstas
+ * y muestra cuáles fueron.
+ */
+public final class ContadorSentencias {
+
+    private final List<String> ejecutadas = new CopyOnWriteArrayList<>();
+
+    public DataSource envolver(DataSource destino) {
+        return proxy(DataSource.class, destino, null, (conexion, args) -> conexion instanceof Connection c
+                ? proxy(Connection.class, c, null, this::envolverSentencia)
+                : conexion);
+    }
+
+    public List<String> ejecutadas() {
+        return List.copyOf(ejecutadas);
+    }
+
+    /**
+     * Ejecuta el caso de uso y falla si lanzó más de {@code presupuesto} sentencias.
+     */
+    public <T> T dentroDelPresupuesto(String caso, int presupuesto, Supplier<T> casoDeUso) {
+        ejecutadas.clear();
+        T resultado = casoDeUso.get();
+        List<String> sentencias = ejecutadas();
+        if (sentencias.size() > presupuesto) {
+            fail(caso + ": " + sentencias.size() + " sentencias para un presupuesto de " + presupuesto
+                    + "\n  " + String.join("\n  ", sentencias));
+        }
+        return resultado;
+    }
+
+    public void dentroDelPresupuesto(String caso, int presupuesto, Runnable casoDeUso) {
+        dentroDelPresupuesto(caso, presupuesto, () -> {
+            casoDeUso.run();
+            return null;
+        });
+    }
+
+    /** El SQL de una PreparedStatement llega al prepararla; el de una Statement, al ejecutarla. */
+    private Object envolverSentencia(Object creada, Object[] args) {
+        if (!(creada instanceof Statement sentencia)) {
+            return creada;
+        }
+        return proxy(interfazDe(sentencia), sentencia, sql(args), (resultado, ignorados) -> resultado);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Statement> interfazDe(Statement sentencia) {
+        for (Class<?> tipo : new Class<?>[]{CallableStatement.class, PreparedStatement.class}) {
+            if (tipo.isInstance(sentencia)) {
+                return (Class<Statement>) tipo;
+            }
+        }
+        return Statement.class;
+    }
+
+    private static String sql(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+    }
+
+    private <T> T proxy(Class<T> tipo, T destino, String sqlPreparado,
+                        BiFunction<Object, Object[], Object> envolver) {
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (instancia, metodo, args) -> {
+            if (destino instanceof Statement && metodo.getName().startsWith("execute")) {
+                String sql = sql(args);
+                ejecutadas.add(sql != null ? sql : sqlPreparado);
+            }
+            try {
+                return envolver.apply(metodo.invoke(destino, args), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+}
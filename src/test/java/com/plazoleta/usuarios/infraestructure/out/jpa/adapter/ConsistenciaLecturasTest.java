@@ -0,0 +1,89 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.adapter;
+
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConsistenciaLecturasTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Boolean> soloLectura = new ArrayList<>();
+    private ConsistenciaLecturas lecturas;
+
+    @BeforeEach
+    void setUp() {
+        lecturas = new ConsistenciaLecturas(transactionManager, Duration.ofSeconds(5), nanos::get);
+    }
+
+    @Test
+    void deberiaLeerDeLaReplicaSalvoQueSePidaConsistenciaFuerte() {
+        // Arrange
+        registrarTransacciones();
+
+        // Act
+        String eventual = lecturas.leer(Consistencia.EVENTUAL, () -> "replica", "a@b.com");
+        String fuerte = lecturas.leer(Consistencia.FUERTE, () -> "primaria", "a@b.com");
+
+        // Assert
+        assertEquals("replica", eventual);
+        assertEquals("primaria", fuerte);
+        assertEquals(List.of(true, false), soloLectura);
+    }
+
+    @Test
+    void deberiaLeerDeLaPrimariaLasClavesEscritasDentroDeLaVentana() {
+        // Arrange
+        registrarTransacciones();
+        lecturas.registrarEscritura(7, null, ConsistenciaLecturas.restaurante(3), ConsistenciaLecturas.restaurante(null));
+
+        // Act
+        lecturas.leer(Consistencia.EVENTUAL, () -> null, 8, 7);
+        lecturas.leer(Consistencia.EVENTUAL, () -> null, ConsistenciaLecturas.restaurante(3));
+        lecturas.leer(Consistencia.EVENTUAL, () -> null, (Object) null);
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        lecturas.leer(Consistencia.EVENTUAL, () -> null, 7);
+
+        // Assert
+        assertEquals(List.of(false, false, true, true), soloLectura);
+    }
+
+    @Test
+    void deberiaEjecutarSinTransaccionCuandoNoHayReplicas() {
+        // Arrange
+        ConsistenciaLecturas sinReplicas = ConsistenciaLecturas.sinReplicas();
+        sinReplicas.registrarEscritura(7);
+
+        // Act
+        Integer resultado = sinReplicas.leer(Consistencia.FUERTE, () -> 42, 7);
+
+        // Assert
+        assertEquals(42, resultado);
+        assertNull(ConsistenciaLecturas.restaurante(null));
+        verifyNoInteractions(transactionManager);
+    }
+
+    private void registrarTransacciones() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocacion -> {
+            soloLectura.add(invocacion.<TransactionDefinition>getArgument(0).isReadOnly());
+            return null;
+        });
+    }
+}
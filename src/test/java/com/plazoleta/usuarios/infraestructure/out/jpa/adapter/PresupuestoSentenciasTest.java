@@ -0,0 +1,219 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.adapter;
+
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.domain.model.Rol;
+import com.plazoleta.usuarios.domain.model.Usuario;
+import com.plazoleta.usuarios.infraestructure.configuration.JpaConfiguration;
+import com.plazoleta.usuarios.infraestructure.out.jpa.ContadorSentencias;
+import com.plazoleta.usuarios.infraestructure.out.jpa.mapper.UsuarioEntityMapper;
+import com.plazoleta.usuarios.infraestructure.out.jpa.mapper.UsuarioEntityMapperImpl;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioExportacionRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioInsercionRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Presupuesto de sentencias SQL por camino de {@link UsuarioJpaAdapter} sobre H2 con el mapeo real. Si un
+ * cambio en las entidades o consultas (una asociación que vuelve a ser EAGER, un N+1, un SELECT previo a un
+ * INSERT) hace que un caso de uso lance más sentencias, {@code gradle check} falla y lista las que sobran.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.jakarta.persistence.create-database-schemas=true",
+        "usuario.id.tamano-asignacion=50",
+        "usuario.importacion.tamano-lote=100",
+        "usuario.exportacion.fetch-size=500",
+        "usuario.segundo-nivel.correos.maximum-size=100",
+        "usuario.segundo-nivel.correos.ttl=5m",
+        "usuario.segundo-nivel.estadisticas=false"
+})
+@Import({JpaConfiguration.class, PresupuestoSentenciasTest.Configuracion.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PresupuestoSentenciasTest {
+
+    private static final ContadorSentencias CONTADOR = new ContadorSentencias();
+
+    @TestConfiguration
+    @Import({RoleRegistry.class, UsuarioEntityMapperImpl.class, UsuarioInsercionRepository.class,
+            UsuarioExportacionRepository.class})
+    static class Configuracion {
+
+        @Bean
+        static BeanPostProcessor contadorSentencias() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String nombre) {
+                    return bean instanceof DataSource dataSource ? CONTADOR.envolver(dataSource) : bean;
+                }
+            };
+        }
+
+        @Bean
+        UsuarioJpaAdapter usuarioJpaAdapter(UsuarioRepository usuarioRepository, RoleRegistry roleRegistry,
+                                            UsuarioEntityMapper mapper, UsuarioInsercionRepository insercion,
+                                            UsuarioExportacionRepository exportacion) {
+            return new UsuarioJpaAdapter(usuarioRepository, roleRegistry, mapper, insercion, exportacion,
+                    ConsistenciaLecturas.sinReplicas());
+        }
+    }
+
+    @Autowired
+    private UsuarioJpaAdapter adapter;
+    @Autowired
+    private RoleRegistry roleRegistry;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Usuario ana;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM usuarios.usuario");
+        jdbcTemplate.update("MERGE INTO usuarios.rol (id, name) KEY (id) VALUES (2, 'PROPIETARIO'), (3, 'EMPLEADO')");
+        roleRegistry.refrescar();
+        ana = adapter.guardarUsuario(usuario("ana@b.com", "100", "EMPLEADO", 7));
+        adapter.guardarUsuario(usuario("luis@b.com", "200", "EMPLEADO", 7));
+        // Cada caso se mide en frío; el evictAll de JPA no alcanza a los ids naturales
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /** En frío se carga por correo; después, por clave primaria con el id de la caché de ids naturales. */
+    @Test
+    void deberiaIniciarSesionConUnaSentenciaConOSinCache() {
+        // Act
+        Optional<CredencialesUsuario> primera = CONTADOR.dentroDelPresupuesto("inicio de sesión", 1,
+                () -> adapter.buscarCredencialesPorCorreo("ana@b.com"));
+        Optional<CredencialesUsuario> segunda = CONTADOR.dentroDelPresupuesto("inicio de sesión con caché", 1,
+                () -> adapter.buscarCredencialesPorCorreo("ana@b.com"));
+
+        // Assert
+        assertEquals("EMPLEADO", primera.orElseThrow().getRol());
+        assertEquals(ana.getId(), segunda.orElseThrow().getId());
+    }
+
+    @Test
+    void deberiaConsultarPorIdConElRolEnUnaSentencia() {
+        // Act
+        Usuario usuario = CONTADOR.dentroDelPresupuesto("consulta por id", 1,
+                () -> adapter.obtenerUsuarioPorId(ana.getId(), Consistencia.EVENTUAL));
+
+        // Assert
+        assertEquals("EMPLEADO", usuario.getRol().getNombre());
+    }
+
+    @Test
+    void deberiaConsultarPorCorreoConElRolEnUnaSentenciaConOSinCache() {
+        // Act
+        Optional<Usuario> primera = CONTADOR.dentroDelPresupuesto("consulta por correo", 1,
+                () -> adapter.buscarPorCorreo("ana@b.com"));
+        Optional<Usuario> segunda = CONTADOR.dentroDelPresupuesto("consulta por correo con caché", 1,
+                () -> adapter.buscarPorCorreo("ana@b.com"));
+
+        // Assert
+        assertEquals("EMPLEADO", primera.orElseThrow().getRol().getNombre());
+        assertEquals(ana.getId(), segunda.orElseThrow().getId());
+    }
+
+    @Test
+    void deberiaVerificarElCorreoConUnaSentencia() {
+        // Act & Assert
+        assertTrue(CONTADOR.dentroDelPresupuesto("existe correo", 1,
+                () -> adapter.existeCorreo("ana@b.com", Consistencia.FUERTE)));
+    }
+
+    @Test
+    void deberiaListarEmpleadosConSusRolesEnUnaSentencia() {
+        // Arrange
+        adapter.guardarUsuario(usuario("dueno@b.com", "300", "PROPIETARIO", 7));
+
+        // Act
+        List<Usuario> empleados = CONTADOR.dentroDelPresupuesto("listado de empleados", 1,
+                () -> adapter.listarEmpleados(7, 0, 10));
+
+        // Assert
+        assertEquals(2, empleados.size());
+        assertTrue(empleados.stream().allMatch(u -> "EMPLEADO".equals(u.getRol().getNombre())));
+    }
+
+    @Test
+    void deberiaObtenerVariosUsuariosConSusRolesEnUnaSentencia() {
+        // Act
+        List<Usuario> usuarios = CONTADOR.dentroDelPresupuesto("usuarios por ids", 1,
+                () -> adapter.obtenerUsuariosPorIds(List.of(ana.getId())));
+
+        // Assert
+        assertEquals("EMPLEADO", usuarios.get(0).getRol().getNombre());
+    }
+
+    /** El segundo viaje es el nextval con el que se reserva un bloque de ids. */
+    @Test
+    void deberiaCrearUnUsuarioSinConsultarElRol() {
+        // Act
+        Usuario creado = CONTADOR.dentroDelPresupuesto("creación", 2,
+                () -> adapter.crearUsuario(usuario("eva@b.com", "300", "PROPIETARIO", null)));
+
+        // Assert
+        assertEquals("PROPIETARIO", creado.getRol().getNombre());
+    }
+
+    /** Como en la creación, el nextval solo aparece al empezar un bloque de ids. */
+    @Test
+    void deberiaGuardarUnUsuarioSinConsultarElRol() {
+        // Act
+        Usuario guardado = CONTADOR.dentroDelPresupuesto("guardado", 2,
+                () -> adapter.guardarUsuario(usuario("eva@b.com", "300", "PROPIETARIO", null)));
+
+        // Assert
+        assertEquals("PROPIETARIO", guardado.getRol().getNombre());
+    }
+
+    @Test
+    void deberiaFallarCuandoUnCasoDeUsoExcedeSuPresupuesto() {
+        // Act
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> CONTADOR.dentroDelPresupuesto("sin presupuesto", 0,
+                        () -> adapter.obtenerUsuarioPorId(ana.getId(), Consistencia.EVENTUAL)));
+
+        // Assert
+        assertTrue(error.getMessage().startsWith("sin presupuesto: 1 sentencias para un presupuesto de 0"));
+        assertTrue(error.getMessage().contains("usuarios.usuario"));
+    }
+
+    private static Usuario usuario(String correo, String documento, String rol, Integer restauranteId) {
+        return Usuario.builder()
+                .nombre("Nombre")
+                .apellido("Apellido")
+                .documento(documento)
+                .celular("+573001234567")
+                .fechaNacimiento(LocalDate.of(1990, 5, 20))
+                .correo(correo)
+                .clave("hash")
+                .rol(new Rol(null, rol))
+                .restauranteId(restauranteId)
+                .build();
+    }
+}
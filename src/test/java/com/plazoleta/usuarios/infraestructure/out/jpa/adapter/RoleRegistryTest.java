@@ -0,0 +1,111 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.adapter;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.RoleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        roleRegistry = new RoleRegistry(roleRepository, entityManager);
+    }
+
+    @Test
+    void deberiaEntregarUnaReferenciaPorIdTrasCargarAlArrancar() {
+        // Arrange
+        RoleEntity referencia = new RoleEntity();
+        when(roleRepository.findAll()).thenReturn(List.of(rol(1, "ADMINISTRADOR"), rol(2, "PROPIETARIO")));
+        when(entityManager.getReference(RoleEntity.class, 2)).thenReturn(referencia);
+        roleRegistry.cargarAlArrancar();
+
+        // Act
+        Optional<RoleEntity> propietario = roleRegistry.referencia("PROPIETARIO");
+        roleRegistry.referencia("PROPIETARIO");
+
+        // Assert
+        assertSame(referencia, propietario.orElseThrow());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void deberiaDarPorInexistenteUnRolDesconocidoSinReleerLaTabla() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of(rol(1, "ADMINISTRADOR")));
+        roleRegistry.refrescar();
+
+        // Act
+        Optional<RoleEntity> primera = roleRegistry.referencia("CLIENTE");
+        Optional<RoleEntity> segunda = roleRegistry.referencia("CLIENTE");
+
+        // Assert
+        assertFalse(primera.isPresent());
+        assertFalse(segunda.isPresent());
+        verify(roleRepository, times(1)).findAll();
+        verify(entityManager, never()).getReference(RoleEntity.class, 1);
+    }
+
+    @Test
+    void deberiaVerUnRolNuevoTrasRefrescar() {
+        // Arrange
+        when(roleRepository.findAll())
+                .thenReturn(List.of(rol(1, "ADMINISTRADOR")))
+                .thenReturn(List.of(rol(1, "ADMINISTRADOR"), rol(3, "EMPLEADO")));
+        when(entityManager.getReference(RoleEntity.class, 3)).thenReturn(new RoleEntity());
+        roleRegistry.refrescar();
+        assertFalse(roleRegistry.referencia("EMPLEADO").isPresent());
+
+        // Act
+        roleRegistry.refrescar();
+
+        // Assert
+        assertTrue(roleRegistry.referencia("EMPLEADO").isPresent());
+    }
+
+    @Test
+    void deberiaTolerarFalloAlArrancarYCargarEnLaPrimeraConsulta() {
+        // Arrange
+        when(roleRepository.findAll())
+                .thenThrow(new DataAccessResourceFailureException("sin conexión"))
+                .thenReturn(List.of(rol(2, "PROPIETARIO")));
+        when(entityManager.getReference(RoleEntity.class, 2)).thenReturn(new RoleEntity());
+
+        // Act
+        roleRegistry.cargarAlArrancar();
+        Optional<RoleEntity> propietario = roleRegistry.referencia("PROPIETARIO");
+
+        // Assert
+        assertTrue(propietario.isPresent());
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    private static RoleEntity rol(Integer id, String nombre) {
+        RoleEntity entity = new RoleEntity();
+        entity.setId(id);
+        entity.setName(nombre);
+        return entity;
+    }
+}
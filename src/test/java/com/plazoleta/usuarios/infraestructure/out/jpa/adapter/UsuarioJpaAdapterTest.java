@@ -4,12 +4,15 @@ import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.DocumentoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.RolNoEncontradoException;
 import com.plazoleta.usuarios.domain.exception.ValorExcedeLongitudException;
+import com.plazoleta.usuarios.domain.model.Consistencia;
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
 import com.plazoleta.usuarios.domain.model.Rol;
 import com.plazoleta.usuarios.domain.model.Usuario;
 import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
 import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
 import com.plazoleta.usuarios.infraestructure.out.jpa.mapper.UsuarioEntityMapper;
-import com.plazoleta.usuarios.infraestructure.out.jpa.repository.RoleRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioExportacionRepository;
+import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioInsercionRepository;
 import com.plazoleta.usuarios.infraestructure.out.jpa.repository.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,18 +20,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.Optional;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class UsuarioJpaAdapterTest {
@@ -37,16 +54,23 @@ class UsuarioJpaAdapterTest {
     private UsuarioRepository usuarioRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private UsuarioEntityMapper mapper;
 
+    @Mock
+    private UsuarioInsercionRepository usuarioInsercionRepository;
+
+    @Mock
+    private UsuarioExportacionRepository usuarioExportacionRepository;
+
     private UsuarioJpaAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new UsuarioJpaAdapter(usuarioRepository, roleRepository, mapper);
+        adapter = new UsuarioJpaAdapter(usuarioRepository, roleRegistry, mapper, usuarioInsercionRepository,
+                usuarioExportacionRepository, ConsistenciaLecturas.sinReplicas());
     }
 
     @Test
@@ -59,7 +83,7 @@ class UsuarioJpaAdapterTest {
         RoleEntity roleEntity = crearRoleEntity();
 
         when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
-        when(roleRepository.findByName("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
         when(usuarioRepository.save(any(UsuarioEntity.class))).thenReturn(usuarioEntity);
         when(mapper.toDomain(usuarioEntity)).thenReturn(usuario);
 
@@ -69,7 +93,7 @@ class UsuarioJpaAdapterTest {
         // Assert
         assertNotNull(resultado);
         verify(mapper, times(1)).toEntity(usuario);
-        verify(roleRepository, times(1)).findByName("PROPIETARIO");
+        verify(roleRegistry, times(1)).referencia("PROPIETARIO");
         verify(usuarioRepository, times(1)).save(any(UsuarioEntity.class));
         verify(mapper, times(1)).toDomain(usuarioEntity);
     }
@@ -81,7 +105,7 @@ class UsuarioJpaAdapterTest {
         UsuarioEntity usuarioEntity = new UsuarioEntity();
 
         when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
-        when(roleRepository.findByName("PROPIETARIO")).thenReturn(Optional.empty());
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.empty());
 
         // Act & Assert
         RolNoEncontradoException exception = assertThrows(
@@ -100,7 +124,7 @@ class UsuarioJpaAdapterTest {
         when(usuarioRepository.existsByCorreo(correo)).thenReturn(true);
 
         // Act
-        boolean resultado = adapter.existeCorreo(correo);
+        boolean resultado = adapter.existeCorreo(correo, Consistencia.EVENTUAL);
 
         // Assert
         assertTrue(resultado);
@@ -114,7 +138,7 @@ class UsuarioJpaAdapterTest {
         when(usuarioRepository.existsByCorreo(correo)).thenReturn(false);
 
         // Act
-        boolean resultado = adapter.existeCorreo(correo);
+        boolean resultado = adapter.existeCorreo(correo, Consistencia.EVENTUAL);
 
         // Assert
         assertFalse(resultado);
@@ -129,7 +153,7 @@ class UsuarioJpaAdapterTest {
         RoleEntity roleEntity = crearRoleEntity();
 
         when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
-        when(roleRepository.findByName("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
         when(usuarioRepository.save(any(UsuarioEntity.class))).thenReturn(usuarioEntity);
         when(mapper.toDomain(usuarioEntity)).thenReturn(usuario);
 
@@ -180,6 +204,103 @@ class UsuarioJpaAdapterTest {
         verify(mapper, never()).toDomain(any());
     }
 
+    @Test
+    void deberiaObtenerUsuariosPorIdsEnUnaSolaConsulta() {
+        // Arrange
+        UsuarioEntity primera = new UsuarioEntity();
+        UsuarioEntity segunda = new UsuarioEntity();
+        Usuario usuario = crearUsuario();
+        Set<Integer> ids = Set.of(1, 2);
+        when(usuarioRepository.buscarPorIds(ids)).thenReturn(List.of(primera, segunda));
+        when(mapper.toDomain(any(UsuarioEntity.class))).thenReturn(usuario);
+
+        // Act
+        List<Usuario> resultado = adapter.obtenerUsuariosPorIds(ids);
+
+        // Assert
+        assertEquals(2, resultado.size());
+        verify(usuarioRepository, times(1)).buscarPorIds(ids);
+    }
+
+    @Test
+    void deberiaListarEmpleadosConElCursorYElLimite() {
+        // Arrange
+        UsuarioEntity entity = new UsuarioEntity();
+        Usuario usuario = crearUsuario();
+        when(usuarioRepository.buscarEmpleadosDespuesDe(4, "EMPLEADO", 100, Limit.of(51))).thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(usuario);
+
+        // Act
+        List<Usuario> resultado = adapter.listarEmpleados(4, 100, 51);
+
+        // Assert
+        assertEquals(List.of(usuario), resultado);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deberiaMapearCadaFilaRecorrida() {
+        // Arrange
+        UsuarioEntity entity = new UsuarioEntity();
+        Usuario usuario = crearUsuario();
+        when(mapper.toDomain(entity)).thenReturn(usuario);
+        doAnswer(invocacion -> {
+            ((Consumer<UsuarioEntity>) invocacion.getArgument(2)).accept(entity);
+            return null;
+        }).when(usuarioExportacionRepository).recorrer(eq("EMPLEADO"), eq(7), any());
+        List<Usuario> recibidos = new ArrayList<>();
+
+        // Act
+        adapter.recorrerUsuarios("EMPLEADO", 7, recibidos::add);
+
+        // Assert
+        assertEquals(List.of(usuario), recibidos);
+    }
+
+    @Test
+    void deberiaCrearUsuariosEnLoteDevolviendoNullParaLosQueYaExistian() {
+        // Arrange
+        Usuario primero = crearUsuario();
+        Usuario segundo = crearUsuario();
+        segundo.setCorreo("otro@example.com");
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(mapper.toEntity(any(Usuario.class))).thenAnswer(invocacion -> {
+            UsuarioEntity entity = new UsuarioEntity();
+            entity.setCorreo(((Usuario) invocacion.getArgument(0)).getCorreo());
+            return entity;
+        });
+        when(usuarioInsercionRepository.insertarLoteSiNoExiste(any())).thenReturn(Map.of("otro@example.com", 9));
+
+        // Act
+        List<Integer> ids = adapter.crearUsuarios(List.of(primero, segundo));
+
+        // Assert
+        assertEquals(Arrays.asList(null, 9), ids);
+    }
+
+    @Test
+    void deberiaTraducirErroresDeIntegridadEnElLote() {
+        // Arrange
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(mapper.toEntity(any(Usuario.class))).thenReturn(new UsuarioEntity());
+        when(usuarioInsercionRepository.insertarLoteSiNoExiste(any()))
+                .thenThrow(new DataIntegrityViolationException("value too long for type character varying(50)"));
+
+        // Act & Assert
+        List<Usuario> usuarios = List.of(crearUsuario());
+        assertThrows(ValorExcedeLongitudException.class, () -> adapter.crearUsuarios(usuarios));
+    }
+
+    @Test
+    void deberiaNoConsultarCuandoNoHayIds() {
+        // Act
+        List<Usuario> resultado = adapter.obtenerUsuariosPorIds(Set.of());
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verify(usuarioRepository, never()).buscarPorIds(any());
+    }
+
     @Test
     void deberiaLanzarCorreoYaRegistradoExceptionCuandoHayDataIntegrityViolationEnEmail() {
         // Arrange
@@ -188,7 +309,7 @@ class UsuarioJpaAdapterTest {
         RoleEntity roleEntity = crearRoleEntity();
 
         when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
-        when(roleRepository.findByName("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
         when(usuarioRepository.save(any(UsuarioEntity.class)))
                 .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint [email]"));
 
@@ -209,7 +330,7 @@ class UsuarioJpaAdapterTest {
         RoleEntity roleEntity = crearRoleEntity();
 
         when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
-        when(roleRepository.findByName("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
         when(usuarioRepository.save(any(UsuarioEntity.class)))
                 .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint [document]"));
 
@@ -230,7 +351,7 @@ class UsuarioJpaAdapterTest {
         RoleEntity roleEntity = crearRoleEntity();
 
         when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
-        when(roleRepository.findByName("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(roleEntity));
         when(usuarioRepository.save(any(UsuarioEntity.class)))
                 .thenThrow(new DataIntegrityViolationException("value too long for type character varying(13) [phone]"));
 
@@ -281,7 +402,131 @@ class UsuarioJpaAdapterTest {
         verify(mapper, never()).toDomain(any());
     }
 
+    @Test
+    void deberiaBuscarCredencialesConLaProyeccionSinMapearEntidad() {
+        // Arrange
+        String correo = "test@example.com";
+        CredencialesUsuario credenciales = new CredencialesUsuario(1, correo, "hash", "PROPIETARIO");
+        when(usuarioRepository.buscarCredencialesPorCorreo(correo)).thenReturn(Optional.of(credenciales));
+
+        // Act
+        Optional<CredencialesUsuario> resultado = adapter.buscarCredencialesPorCorreo(correo);
+
+        // Assert
+        assertTrue(resultado.isPresent());
+        assertEquals(credenciales, resultado.get());
+        verify(usuarioRepository, never()).findByCorreo(any());
+        verify(mapper, never()).toDomain(any());
+    }
+
+    @Test
+    void deberiaActualizarClave() {
+        // Act
+        adapter.actualizarClave(1, "nuevoHash");
+
+        // Assert
+        verify(usuarioRepository, times(1)).actualizarClave(1, "nuevoHash");
+    }
+
+    @Test
+    void deberiaLeerDeLaPrimariaLoQueSeAcabaDeCrear() {
+        // Arrange
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        List<Boolean> soloLectura = new ArrayList<>();
+        when(transactionManager.getTransaction(any())).thenAnswer(invocacion -> {
+            soloLectura.add(invocacion.<TransactionDefinition>getArgument(0).isReadOnly());
+            return null;
+        });
+        adapter = new UsuarioJpaAdapter(usuarioRepository, roleRegistry, mapper, usuarioInsercionRepository,
+                usuarioExportacionRepository, new ConsistenciaLecturas(transactionManager, Duration.ofSeconds(5)));
+        Usuario usuario = crearUsuario();
+        UsuarioEntity usuarioEntity = entidadConDatos("juan@example.com", "12345678");
+        usuarioEntity.setRestaurantId(4);
+        when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(usuarioInsercionRepository.insertarSiNoExiste(usuarioEntity)).thenReturn(Optional.of(15));
+        when(mapper.toDomain(usuarioEntity)).thenReturn(usuario);
+        adapter.crearUsuario(usuario);
+
+        // Act
+        adapter.obtenerUsuarioPorId(15);
+        adapter.buscarCredencialesPorCorreo("juan@example.com");
+        adapter.listarEmpleados(4, 0, 10);
+        adapter.obtenerUsuarioPorId(16);
+        adapter.existeCorreo("otro@example.com", Consistencia.FUERTE);
+
+        // Assert
+        assertEquals(List.of(false, false, false, true, false), soloLectura);
+    }
+
+    @Test
+    void deberiaCrearUsuarioEnUnaSolaInsercion() {
+        // Arrange
+        Usuario usuario = crearUsuario();
+        UsuarioEntity usuarioEntity = new UsuarioEntity();
+        when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(usuarioInsercionRepository.insertarSiNoExiste(usuarioEntity)).thenReturn(Optional.of(15));
+        when(mapper.toDomain(usuarioEntity)).thenReturn(usuario);
+
+        // Act
+        Usuario resultado = adapter.crearUsuario(usuario);
+
+        // Assert
+        assertEquals(usuario, resultado);
+        assertEquals(15, usuarioEntity.getId());
+    }
+
+    @Test
+    void deberiaLanzarCorreoYaRegistradoSinConsultarCuandoLaInsercionChocaConElCorreo() {
+        // Arrange
+        Usuario usuario = crearUsuario();
+        UsuarioEntity usuarioEntity = entidadConDatos("juan@example.com", "12345678");
+        when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(usuarioInsercionRepository.insertarSiNoExiste(usuarioEntity)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(CorreoYaRegistradoException.class, () -> adapter.crearUsuario(usuario));
+        verifyNoInteractions(usuarioRepository);
+    }
+
+    @Test
+    void deberiaLanzarDocumentoYaRegistradoCuandoLaInsercionChocaConElDocumento() {
+        // Arrange
+        Usuario usuario = crearUsuario();
+        UsuarioEntity usuarioEntity = entidadConDatos("juan@example.com", "12345678");
+        when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(usuarioInsercionRepository.insertarSiNoExiste(usuarioEntity)).thenThrow(
+                new DataIntegrityViolationException("duplicate key value violates unique constraint [document]"));
+
+        // Act & Assert
+        assertThrows(DocumentoYaRegistradoException.class, () -> adapter.crearUsuario(usuario));
+    }
+
+    @Test
+    void deberiaTraducirViolacionDeIntegridadAlCrearUsuario() {
+        // Arrange
+        Usuario usuario = crearUsuario();
+        UsuarioEntity usuarioEntity = new UsuarioEntity();
+        when(mapper.toEntity(usuario)).thenReturn(usuarioEntity);
+        when(roleRegistry.referencia("PROPIETARIO")).thenReturn(Optional.of(crearRoleEntity()));
+        when(usuarioInsercionRepository.insertarSiNoExiste(usuarioEntity))
+                .thenThrow(new DataIntegrityViolationException("value too long for type character varying(13) [phone]"));
+
+        // Act & Assert
+        assertThrows(ValorExcedeLongitudException.class, () -> adapter.crearUsuario(usuario));
+    }
+
     // Métodos auxiliares
+    private UsuarioEntity entidadConDatos(String correo, String documento) {
+        UsuarioEntity entity = new UsuarioEntity();
+        entity.setCorreo(correo);
+        entity.setDocumento(documento);
+        return entity;
+    }
+
     private Usuario crearUsuario() {
         Usuario usuario = new Usuario();
         usuario.setNombre("Juan");
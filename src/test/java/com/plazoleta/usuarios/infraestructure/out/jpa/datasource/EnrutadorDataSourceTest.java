@@ -0,0 +1,102 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+class EnrutadorDataSourceTest {
+
+    private EmbeddedDatabase primaria;
+    private EmbeddedDatabase replica1;
+    private EmbeddedDatabase replica2;
+    private EnrutadorDataSource enrutador;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate lectura;
+    private TransactionTemplate escritura;
+
+    @BeforeEach
+    void setUp() {
+        primaria = baseConNombre("primaria");
+        replica1 = baseConNombre("replica-1");
+        replica2 = baseConNombre("replica-2");
+        enrutador = new EnrutadorDataSource(primaria, List.of(replica1, replica2));
+        jdbcTemplate = new JdbcTemplate(enrutador);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(enrutador);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        escritura = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrutador.close();
+    }
+
+    @Test
+    void deberiaRepartirLasLecturasEntreReplicasYEscribirEnLaPrimaria() {
+        // Act
+        String primeraLectura = lectura.execute(estado -> nombreDeLaBase());
+        String segundaLectura = lectura.execute(estado -> nombreDeLaBase());
+        String terceraLectura = lectura.execute(estado -> nombreDeLaBase());
+        String enEscritura = escritura.execute(estado -> nombreDeLaBase());
+        String sinTransaccion = nombreDeLaBase();
+
+        // Assert
+        assertEquals("replica-1", primeraLectura);
+        assertEquals("replica-2", segundaLectura);
+        assertEquals("replica-1", terceraLectura);
+        assertEquals("primaria", enEscritura);
+        assertEquals("primaria", sinTransaccion);
+    }
+
+    @Test
+    void deberiaCerrarTodosLosPoolsAunqueUnoFalle() throws Exception {
+        // Arrange
+        DataSource conError = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        doThrow(new IllegalStateException("ya cerrado")).when((Closeable) conError).close();
+        DataSource replica = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        EnrutadorDataSource conPools = new EnrutadorDataSource(conError, List.of(replica));
+
+        // Act
+        conPools.close();
+
+        // Assert
+        verify((Closeable) replica).close();
+    }
+
+    @Test
+    void deberiaExigirAlMenosUnaReplica() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new EnrutadorDataSource(primaria, List.of()));
+    }
+
+    private String nombreDeLaBase() {
+        return jdbcTemplate.queryForObject("SELECT nombre FROM nodo", String.class);
+    }
+
+    private static EmbeddedDatabase baseConNombre(String nombre) {
+        EmbeddedDatabase base = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate plantilla = new JdbcTemplate(base);
+        plantilla.execute("CREATE TABLE nodo (nombre VARCHAR(20))");
+        plantilla.update("INSERT INTO nodo VALUES (?)", nombre);
+        return base;
+    }
+}
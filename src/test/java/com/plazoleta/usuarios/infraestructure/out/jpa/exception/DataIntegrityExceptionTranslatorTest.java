@@ -4,8 +4,13 @@ import com.plazoleta.usuarios.domain.exception.CampoObligatorioException;
 import com.plazoleta.usuarios.domain.exception.CorreoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.DocumentoYaRegistradoException;
 import com.plazoleta.usuarios.domain.exception.ValorExcedeLongitudException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+import org.postgresql.util.ServerErrorMessage;
 import org.springframework.dao.DataIntegrityViolationException;
+import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -257,4 +262,136 @@ class DataIntegrityExceptionTranslatorTest {
 
         assertEquals("Error al guardar los datos en la base de datos", exception.getMessage());
     }
+
+    @Test
+    void deberiaTraducirPorNombreDeConstraintDePostgres() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("llave duplicada",
+                postgres("23505", "n" + DataIntegrityExceptionTranslator.UK_DOCUMENTO));
+
+        // Act & Assert
+        assertThrows(DocumentoYaRegistradoException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+    }
+
+    @Test
+    void deberiaTraducirConstraintPorDefectoDePostgres() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("llave duplicada",
+                postgres("23505", "nusuario_email_key"));
+
+        // Act & Assert
+        assertThrows(CorreoYaRegistradoException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+    }
+
+    @Test
+    void deberiaTraducirConstraintInformadaPorHibernateConSufijoDeIndiceDeH2() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("violación", new SQLException("Unique index", "23505"),
+                        "USUARIOS.UK_USUARIO_EMAIL_INDEX_8 ON USUARIOS.USUARIO(EMAIL NULLS FIRST) VALUES ( /* 1 */ 'a@b.com' )"));
+
+        // Act & Assert
+        assertThrows(CorreoYaRegistradoException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+    }
+
+    @Test
+    void deberiaDeducirLaColumnaCuandoLaConstraintNoTieneNombreConocido() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("violación", new SQLException("Unique index", "23505"),
+                        "CONSTRAINT_INDEX_8 ON USUARIOS.USUARIO(DOCUMENT_NUMBER NULLS FIRST)"));
+
+        // Act & Assert
+        assertThrows(DocumentoYaRegistradoException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+    }
+
+    @Test
+    void deberiaLanzarConflictoGenericoCuandoLaConstraintUnicaEsDesconocida() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("duplicate key value [email]",
+                new SQLException("duplicada", "23505"));
+
+        // Act & Assert
+        CorreoYaRegistradoException exception = assertThrows(
+                CorreoYaRegistradoException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+        assertEquals("Ya existe un registro con estos datos", exception.getMessage());
+    }
+
+    @Test
+    void deberiaTraducirValorLargoPorColumnaDePostgres() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("valor demasiado largo",
+                postgres("22001", "cfirst_name"));
+
+        // Act & Assert
+        ValorExcedeLongitudException exception = assertThrows(
+                ValorExcedeLongitudException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+        assertEquals("nombre", exception.getCampo());
+    }
+
+    @Test
+    void deberiaLeerLaColumnaDelValorLargoDelMensajeDelDriver() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Value too long for column \"PHONE CHARACTER VARYING(13)\": \"'+5730012345678' (14)\"",
+                        "22001"));
+
+        // Act & Assert
+        ValorExcedeLongitudException exception = assertThrows(
+                ValorExcedeLongitudException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+        assertEquals("celular", exception.getCampo());
+    }
+
+    @Test
+    void deberiaLeerLaColumnaConEsquemaYComillasDelMensajeDelDriver() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("value too long for column \"USUARIOS\".\"EMAIL\"", "22001"));
+
+        // Act & Assert
+        ValorExcedeLongitudException exception = assertThrows(
+                ValorExcedeLongitudException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+        assertEquals("correo", exception.getCampo());
+    }
+
+    @Test
+    void deberiaDejarElCampoDesconocidoCuandoElDriverNoNombraLaColumna() {
+        // Arrange
+        // PostgreSQL no informa la columna en 22001; el texto de Spring no se usa para adivinarla
+        DataIntegrityViolationException ex = new DataIntegrityViolationException(
+                "value too long for type character varying(13) [phone]",
+                new PSQLException("ERROR: value too long for type character varying(13)",
+                        PSQLState.STRING_DATA_RIGHT_TRUNCATION));
+
+        // Act & Assert
+        ValorExcedeLongitudException exception = assertThrows(
+                ValorExcedeLongitudException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+        assertEquals("desconocido", exception.getCampo());
+    }
+
+    @Test
+    void deberiaTraducirNotNullPorSqlState() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("cualquier texto",
+                new SQLException("nulo", "23502"));
+
+        // Act & Assert
+        assertThrows(CampoObligatorioException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+    }
+
+    @Test
+    void deberiaNoLeerElMensajeParaOtrosSqlState() {
+        // Arrange
+        DataIntegrityViolationException ex = new DataIntegrityViolationException(
+                "duplicate key value violates unique constraint [document]", new SQLException("fk", "23503"));
+
+        // Act & Assert
+        CampoObligatorioException exception = assertThrows(
+                CampoObligatorioException.class, () -> DataIntegrityExceptionTranslator.throwSpecific(ex));
+        assertEquals("Error al guardar los datos en la base de datos", exception.getMessage());
+    }
+
+    private static PSQLException postgres(String sqlState, String campo) {
+        return new PSQLException(new ServerErrorMessage("SERROR\0C" + sqlState + "\0Mmensaje\0" + campo + "\0"));
+    }
 }
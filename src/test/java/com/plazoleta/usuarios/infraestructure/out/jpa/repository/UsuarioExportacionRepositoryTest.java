@@ -0,0 +1,89 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsuarioExportacionRepositoryTest {
+
+    private EmbeddedDatabase dataSource;
+    private UsuarioExportacionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE SCHEMA usuarios");
+        jdbc.execute("CREATE TABLE usuarios.rol (id INTEGER PRIMARY KEY, name VARCHAR(50))");
+        jdbc.execute("""
+                CREATE TABLE usuarios.usuario (
+                    id INTEGER PRIMARY KEY,
+                    first_name VARCHAR(50), last_name VARCHAR(50),
+                    document_number VARCHAR(20), phone VARCHAR(13), birth_date DATE,
+                    email VARCHAR(100), password VARCHAR(255), role_id INTEGER,
+                    restaurant_id INTEGER, created_at TIMESTAMP)""");
+        jdbc.update("INSERT INTO usuarios.rol VALUES (2, 'PROPIETARIO'), (3, 'EMPLEADO')");
+        jdbc.update("INSERT INTO usuarios.usuario (id, first_name, email, password, role_id, restaurant_id, birth_date) VALUES "
+                + "(3, 'Eva', 'eva@b.com', 'hash', 3, 7, DATE '1990-05-20'), "
+                + "(1, 'Ana', 'ana@b.com', 'hash', 2, NULL, NULL), "
+                + "(2, 'Luis', 'luis@b.com', 'hash', 3, 8, NULL), "
+                + "(4, 'Sin', 'sin@b.com', 'hash', NULL, NULL, NULL)");
+        repository = new UsuarioExportacionRepository(new NamedParameterJdbcTemplate(dataSource), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void deberiaRecorrerTodosLosUsuariosEnOrdenYSinClave() {
+        // Arrange
+        List<UsuarioEntity> filas = new ArrayList<>();
+
+        // Act
+        repository.recorrer(null, null, filas::add);
+
+        // Assert
+        assertEquals(List.of(1, 2, 3, 4), filas.stream().map(UsuarioEntity::getId).toList());
+        assertTrue(filas.stream().allMatch(u -> u.getClave() == null));
+        assertEquals(LocalDate.of(1990, 5, 20), filas.get(2).getFechaNacimiento());
+        assertEquals("EMPLEADO", filas.get(2).getRole().getName());
+        assertEquals(3, filas.get(2).getRole().getId());
+        assertNull(filas.get(3).getRole());
+        assertNull(filas.get(0).getRestaurantId());
+    }
+
+    @Test
+    void deberiaFiltrarPorRolYRestaurante() {
+        // Arrange
+        List<UsuarioEntity> empleados = new ArrayList<>();
+        List<UsuarioEntity> delRestaurante = new ArrayList<>();
+
+        // Act
+        repository.recorrer("EMPLEADO", null, empleados::add);
+        repository.recorrer("EMPLEADO", 7, delRestaurante::add);
+
+        // Assert
+        assertEquals(List.of(2, 3), empleados.stream().map(UsuarioEntity::getId).toList());
+        assertEquals(1, delRestaurante.size());
+        assertEquals("eva@b.com", delRestaurante.get(0).getCorreo());
+        assertFalse(UsuarioExportacionRepository.SELECT.contains("password"));
+    }
+}
@@ -0,0 +1,177 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsuarioInsercionRepositoryTest {
+
+    private EmbeddedDatabase dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private UsuarioInsercionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("CREATE SCHEMA usuarios");
+        jdbcTemplate.getJdbcTemplate().execute("CREATE SEQUENCE usuarios.usuario_id_seq START WITH 1 INCREMENT BY 3");
+        jdbcTemplate.getJdbcTemplate().execute("""
+                CREATE TABLE usuarios.usuario (
+                    id INTEGER PRIMARY KEY,
+                    first_name VARCHAR(50), last_name VARCHAR(50),
+                    document_number VARCHAR(20) UNIQUE, phone VARCHAR(13), birth_date DATE,
+                    email VARCHAR(100) UNIQUE, password VARCHAR(255), role_id INTEGER,
+                    restaurant_id INTEGER, created_at TIMESTAMP)""");
+        repository = new UsuarioInsercionRepository(jdbcTemplate, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void deberiaInsertarYRetornarIdGenerado() {
+        // Act
+        Optional<Integer> id = repository.insertarSiNoExiste(usuario("a@b.com", "111"));
+
+        // Assert
+        assertTrue(id.isPresent());
+        Map<String, Object> fila = jdbcTemplate.getJdbcTemplate()
+                .queryForMap("SELECT email, role_id, restaurant_id FROM usuarios.usuario WHERE id = ?", id.get());
+        assertEquals("a@b.com", fila.get("EMAIL"));
+        assertEquals(3, fila.get("ROLE_ID"));
+        assertEquals(7, fila.get("RESTAURANT_ID"));
+    }
+
+    @Test
+    void deberiaNoInsertarCuandoElCorreoYaExiste() {
+        // Arrange
+        repository.insertarSiNoExiste(usuario("a@b.com", "111"));
+
+        // Act
+        Optional<Integer> mismoCorreo = repository.insertarSiNoExiste(usuario("a@b.com", "222"));
+
+        // Assert
+        assertFalse(mismoCorreo.isPresent());
+        assertEquals(1, jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM usuarios.usuario", Integer.class));
+    }
+
+    @Test
+    void deberiaFallarCuandoElDocumentoYaExisteEnVezDeTomarloComoCorreoRepetido() {
+        // Arrange
+        repository.insertarSiNoExiste(usuario("a@b.com", "111"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.insertarSiNoExiste(usuario("c@d.com", "111")));
+    }
+
+    @Test
+    void deberiaInsertarEnLotesYOmitirLosCorreosQueYaExisten() {
+        // Arrange
+        repository.insertarSiNoExiste(usuario("a@b.com", "111"));
+        List<UsuarioEntity> usuarios = List.of(usuario("c@d.com", "222"), usuario("a@b.com", "333"),
+                usuario("e@f.com", "666"), usuario("g@h.com", "444"), usuario("i@j.com", "555"));
+
+        // Act
+        Map<String, Integer> ids = repository.insertarLoteSiNoExiste(usuarios);
+
+        // Assert
+        assertEquals(4, ids.size());
+        assertEquals(List.of("c@d.com", "e@f.com", "g@h.com", "i@j.com"), ids.keySet().stream().sorted().toList());
+        assertEquals("g@h.com", jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT email FROM usuarios.usuario WHERE id = ?", String.class, ids.get("g@h.com")));
+        assertEquals(5, jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM usuarios.usuario", Integer.class));
+    }
+
+    @Test
+    void deberiaFallarElLoteCuandoUnDocumentoYaExiste() {
+        // Arrange
+        repository.insertarSiNoExiste(usuario("a@b.com", "111"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> repository.insertarLoteSiNoExiste(
+                List.of(usuario("c@d.com", "222"), usuario("e@f.com", "111"))));
+    }
+
+    @Test
+    void deberiaLimitarElConflictoIgnoradoAlCorreo() {
+        // Assert
+        assertTrue(UsuarioInsercionRepository.INSERT_POSTGRES.endsWith(" ON CONFLICT (email) DO NOTHING"));
+    }
+
+    @Test
+    void deberiaRepartirIdsEnBloquesDeLaSecuencia() {
+        // Act
+        Map<String, Integer> ids = repository.insertarLoteSiNoExiste(List.of(usuario("a@b.com", "1"),
+                usuario("c@d.com", "2"), usuario("e@f.com", "3"), usuario("g@h.com", "4")));
+
+        // Assert
+        assertEquals(Map.of("a@b.com", 1, "c@d.com", 2, "e@f.com", 3, "g@h.com", 4), ids);
+        assertEquals(7, jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT NEXT VALUE FOR usuarios.usuario_id_seq", Integer.class));
+    }
+
+    @Test
+    void deberiaNoRepetirIdsEntreHilosConcurrentes() throws Exception {
+        // Arrange
+        List<Callable<Optional<Integer>>> inserciones = IntStream.range(0, 40)
+                .<Callable<Optional<Integer>>>mapToObj(i -> () -> repository.insertarSiNoExiste(usuario(i + "@b.com", "" + i)))
+                .toList();
+
+        // Act
+        Set<Integer> ids = new HashSet<>();
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<Optional<Integer>> id : hilos.invokeAll(inserciones)) {
+                ids.add(id.get().orElseThrow());
+            }
+        }
+
+        // Assert
+        assertEquals(40, ids.size());
+        assertEquals(40, jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM usuarios.usuario", Integer.class));
+    }
+
+    private static UsuarioEntity usuario(String correo, String documento) {
+        RoleEntity rol = new RoleEntity();
+        rol.setId(3);
+        UsuarioEntity entity = new UsuarioEntity();
+        entity.setNombre("Ana");
+        entity.setApellido("Gómez");
+        entity.setDocumento(documento);
+        entity.setCelular("+573001234567");
+        entity.setFechaNacimiento(LocalDate.of(1990, 5, 20));
+        entity.setCorreo(correo);
+        entity.setClave("{bcrypt}hash");
+        entity.setRole(rol);
+        entity.setRestaurantId(7);
+        return entity;
+    }
+}
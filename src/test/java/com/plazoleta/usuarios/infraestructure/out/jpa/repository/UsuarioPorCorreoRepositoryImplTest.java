@@ -0,0 +1,197 @@
+package com.plazoleta.usuarios.infraestructure.out.jpa.repository;
+
+import com.plazoleta.usuarios.domain.model.CredencialesUsuario;
+import com.plazoleta.usuarios.infraestructure.configuration.JpaConfiguration;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.GeneradorIdUsuario;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.RoleEntity;
+import com.plazoleta.usuarios.infraestructure.out.jpa.entity.UsuarioEntity;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsuarioPorCorreoRepositoryImplTest {
+
+    private CacheManager cacheManager;
+    private SessionFactory sessionFactory;
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        JpaConfiguration jpaConfiguration = new JpaConfiguration();
+        cacheManager = jpaConfiguration.segundoNivelCacheManager(100, Duration.ofMinutes(5));
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:correos-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        Configuration configuracion = new Configuration()
+                .addAnnotatedClass(UsuarioEntity.class)
+                .addAnnotatedClass(RoleEntity.class);
+        configuracion.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, h2);
+        Map<String, Object> segundoNivel = new HashMap<>();
+        jpaConfiguration.segundoNivelCustomizer(cacheManager, true).customize(segundoNivel);
+        configuracion.getProperties().putAll(segundoNivel);
+        sessionFactory = configuracion
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true")
+                .setProperty(GeneradorIdUsuario.TAMANO_ASIGNACION, "50")
+                .buildSessionFactory();
+        estadisticas = sessionFactory.getStatistics();
+
+        sessionFactory.inTransaction(session -> {
+            RoleEntity rol = new RoleEntity();
+            rol.setId(3);
+            rol.setName("EMPLEADO");
+            session.persist(rol);
+            UsuarioEntity usuario = new UsuarioEntity();
+            usuario.setNombre("Ana");
+            usuario.setCorreo("ana@b.com");
+            usuario.setClave("hash");
+            usuario.setRole(rol);
+            session.persist(usuario);
+        });
+        sessionFactory.getCache().evictAllRegions();
+        estadisticas.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        cacheManager.close();
+    }
+
+    @Test
+    void deberiaResolverElCorreoDesdeLaCacheDeIdsNaturalesTrasLaPrimeraConsulta() {
+        // Act
+        Optional<UsuarioEntity> primera = buscar("ana@b.com");
+        long consultasPrimera = estadisticas.getNaturalIdQueryExecutionCount();
+        Optional<UsuarioEntity> segunda = buscar("ana@b.com");
+
+        // Assert
+        assertEquals("Ana", primera.orElseThrow().getNombre());
+        assertEquals(primera.get().getId(), segunda.orElseThrow().getId());
+        assertEquals(1, consultasPrimera);
+        assertEquals(1, estadisticas.getNaturalIdQueryExecutionCount());
+        assertEquals(1, estadisticas.getNaturalIdCacheHitCount());
+    }
+
+    @Test
+    void deberiaServirElRolDesdeElSegundoNivel() {
+        // Act
+        enSesion(session -> session.find(RoleEntity.class, 3));
+        RoleEntity rol = enSesion(session -> session.find(RoleEntity.class, 3));
+
+        // Assert
+        assertEquals("EMPLEADO", rol.getName());
+        assertEquals(1, estadisticas.getCacheRegionStatistics(RoleEntity.REGION).getHitCount());
+    }
+
+    @Test
+    void deberiaNoGuardarLaFilaDelUsuarioEnElSegundoNivel() {
+        // Act
+        buscar("ana@b.com");
+
+        // Assert
+        assertNull(estadisticas.getCacheRegionStatistics(UsuarioEntity.class.getName()));
+        assertTrue(sessionFactory.getCache().containsEntity(RoleEntity.class, 3));
+        assertFalse(sessionFactory.getCache().containsEntity(UsuarioEntity.class, 1));
+    }
+
+    @Test
+    void deberiaSeguirElCambioDeCorreo() {
+        // Arrange
+        buscar("ana@b.com");
+        sessionFactory.inTransaction(session -> buscarEn(session, "ana@b.com").orElseThrow().setCorreo("ana@c.com"));
+
+        // Act
+        Optional<UsuarioEntity> anterior = buscar("ana@b.com");
+        Optional<UsuarioEntity> nuevo = buscar("ana@c.com");
+
+        // Assert
+        assertTrue(anterior.isEmpty());
+        assertEquals("Ana", nuevo.orElseThrow().getNombre());
+    }
+
+    @Test
+    void deberiaDevolverVacioParaUnCorreoInexistente() {
+        // Act & Assert
+        assertTrue(buscar("nadie@b.com").isEmpty());
+    }
+
+    @Test
+    void deberiaLeerLasCredencialesConElRolTrasResolverElCorreoDesdeLaCache() {
+        // Act
+        Optional<CredencialesUsuario> primera = credenciales("ana@b.com");
+        long aciertosPrimera = estadisticas.getNaturalIdCacheHitCount();
+        Optional<CredencialesUsuario> segunda = credenciales("ana@b.com");
+
+        // Assert
+        assertEquals("hash", primera.orElseThrow().getClave());
+        assertEquals("EMPLEADO", segunda.orElseThrow().getRol());
+        assertEquals(primera.get().getId(), segunda.get().getId());
+        assertEquals(0, aciertosPrimera);
+        assertEquals(1, estadisticas.getNaturalIdCacheHitCount());
+        assertEquals(1, estadisticas.getNaturalIdQueryExecutionCount());
+    }
+
+    @Test
+    void deberiaVolverALeerPorCorreoCuandoLaResolucionEnCacheQuedoVieja() {
+        // Arrange
+        credenciales("ana@b.com");
+        // Un cambio fuera de Hibernate no invalida la resolución guardada
+        sessionFactory.inTransaction(session -> session.doWork(conexion -> conexion.createStatement()
+                .executeUpdate("UPDATE usuarios.usuario SET email = 'ana@c.com' WHERE email = 'ana@b.com'")));
+        sessionFactory.inTransaction(session -> {
+            UsuarioEntity otro = new UsuarioEntity();
+            otro.setNombre("Otra");
+            otro.setCorreo("ana@b.com");
+            otro.setClave("otroHash");
+            session.persist(otro);
+        });
+
+        // Act
+        Optional<CredencialesUsuario> resultado = credenciales("ana@b.com");
+
+        // Assert
+        assertEquals("otroHash", resultado.orElseThrow().getClave());
+        assertNull(resultado.get().getRol());
+        assertEquals("otroHash", credenciales("ana@b.com").orElseThrow().getClave());
+    }
+
+    @Test
+    void deberiaDevolverCredencialesVaciasParaUnCorreoInexistente() {
+        // Act & Assert
+        assertTrue(credenciales("nadie@b.com").isEmpty());
+    }
+
+    private Optional<CredencialesUsuario> credenciales(String correo) {
+        return enSesion(session -> new UsuarioPorCorreoRepositoryImpl(session).buscarCredencialesPorCorreo(correo));
+    }
+
+    private Optional<UsuarioEntity> buscar(String correo) {
+        return enSesion(session -> buscarEn(session, correo));
+    }
+
+    private static Optional<UsuarioEntity> buscarEn(Session session, String correo) {
+        return new UsuarioPorCorreoRepositoryImpl(session).findByCorreo(correo);
+    }
+
+    private <T> T enSesion(Function<Session, T> accion) {
+        try (Session session = sessionFactory.openSession()) {
+            return accion.apply(session);
+        }
+    }
+}
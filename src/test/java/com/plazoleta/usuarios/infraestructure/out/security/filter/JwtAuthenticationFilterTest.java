@@ -14,12 +14,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -161,4 +164,47 @@ class JwtAuthenticationFilterTest {
         assertEquals(token, tokenCaptor.getValue().trim());
         verify(filterChain).doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deberiaOmitirElFiltroEnRutasPublicas() {
+        // Act & Assert
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/v1/auth/login")));
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(new MockHttpServletRequest("GET", "/.well-known/jwks.json")));
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(new MockHttpServletRequest("GET", "/swagger-ui/index.html")));
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(new MockHttpServletRequest("GET", "/v3/api-docs/swagger-config")));
+        assertFalse(jwtAuthenticationFilter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/v1/usuarios/empleado")));
+    }
+
+    @Test
+    void deberiaReutilizarLasAuthoritiesDelRolEntrePeticiones() throws ServletException, IOException {
+        // Arrange
+        TokenClaims claims = new TokenClaims(1, "a@b.com", "ADMINISTRADOR", null);
+        when(request.getHeader("Authorization")).thenReturn(BEARER_PREFIX + "t.o.k");
+        when(jwtProviderPort.validarToken("t.o.k")).thenReturn(Optional.of(claims));
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        var primeras = SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        var segundas = SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+
+        // Assert
+        assertSame(primeras.iterator().next(), segundas.iterator().next());
+    }
+
+    @Test
+    void deberiaCrearAuthorityParaRolNoRegistrado() throws ServletException, IOException {
+        // Arrange
+        TokenClaims claims = new TokenClaims(1, "a@b.com", "AUDITOR", null);
+        when(request.getHeader("Authorization")).thenReturn(BEARER_PREFIX + "t.o.k");
+        when(jwtProviderPort.validarToken("t.o.k")).thenReturn(Optional.of(claims));
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertEquals(ROLE_PREFIX + "AUDITOR",
+                SecurityContextHolder.getContext().getAuthentication().getAuthorities().iterator().next().getAuthority());
+    }
+}
@@ -0,0 +1,98 @@
+package com.plazoleta.usuarios.infraestructure.out.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtKeyRingTest {
+
+    @Test
+    void deberiaPublicarTodasLasClavesPublicasEnElJwks() {
+        // Arrange
+        JwtKeyRing.ClaveFirma activa = JwtKeyRing.efimero(JwtKeyRing.RS256).activa();
+        JwtKeyRing.ClaveFirma retirada = JwtKeyRing.efimero(JwtKeyRing.RS256).activa();
+        JwtKeyRing keyRing = new JwtKeyRing(JwtKeyRing.RS256, activa.kid(),
+                List.of(activa, new JwtKeyRing.ClaveFirma(retirada.kid(), null, retirada.publica())));
+
+        // Act
+        List<?> claves = (List<?>) keyRing.jwks().get("keys");
+
+        // Assert
+        assertEquals(2, claves.size());
+        Map<?, ?> jwk = (Map<?, ?>) claves.get(0);
+        assertEquals(activa.kid(), jwk.get("kid"));
+        assertEquals("RSA", jwk.get("kty"));
+        assertEquals("RS256", jwk.get("alg"));
+        assertEquals("sig", jwk.get("use"));
+        assertTrue(jwk.containsKey("n"));
+        assertFalse(jwk.containsKey("d"));
+    }
+
+    @Test
+    void deberiaPublicarClavesEdDsaComoOkp() {
+        // Arrange
+        JwtKeyRing keyRing = JwtKeyRing.efimero(JwtKeyRing.EDDSA);
+
+        // Act
+        Map<?, ?> jwk = (Map<?, ?>) ((List<?>) keyRing.jwks().get("keys")).get(0);
+
+        // Assert
+        assertEquals("OKP", jwk.get("kty"));
+        assertEquals("Ed25519", jwk.get("crv"));
+        assertEquals("EdDSA", jwk.get("alg"));
+    }
+
+    @Test
+    void deberiaCargarClavesDesdePem() throws Exception {
+        // Arrange
+        KeyPair par = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String privada = pem("PRIVATE KEY", par.getPrivate().getEncoded());
+        String publica = pem("PUBLIC KEY", par.getPublic().getEncoded());
+
+        // Act
+        JwtKeyRing keyRing = new JwtKeyRing(JwtKeyRing.EDDSA, "k1", List.of(new JwtKeyRing.ClaveFirma("k1",
+                JwtKeyRing.clavePrivada(JwtKeyRing.EDDSA, privada), JwtKeyRing.clavePublica(JwtKeyRing.EDDSA, publica))));
+
+        // Assert
+        PublicKey cargada = keyRing.clavePublica("k1").orElseThrow();
+        assertEquals(par.getPublic(), cargada);
+        assertFalse(keyRing.clavePublica("otro").isPresent());
+        assertFalse(keyRing.clavePublica(null).isPresent());
+    }
+
+    @Test
+    void deberiaRechazarPemInvalido() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyRing.clavePrivada(JwtKeyRing.RS256, "AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyRing.clavePublica(JwtKeyRing.RS256, "AAAA"));
+    }
+
+    @Test
+    void deberiaRechazarKidActivoSinClavePrivada() {
+        // Arrange
+        JwtKeyRing.ClaveFirma clave = JwtKeyRing.efimero(JwtKeyRing.RS256).activa();
+        List<JwtKeyRing.ClaveFirma> soloPublica = List.of(new JwtKeyRing.ClaveFirma(clave.kid(), null, clave.publica()));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new JwtKeyRing(JwtKeyRing.RS256, clave.kid(), soloPublica));
+    }
+
+    @Test
+    void deberiaRechazarAlgoritmoNoSoportado() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyRing.efimero("HS256"));
+    }
+
+    private static String pem(String tipo, byte[] der) {
+        return "-----BEGIN " + tipo + "-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END " + tipo + "-----";
+    }
+}
@@ -3,22 +3,33 @@ package com.plazoleta.usuarios.infraestructure.out.security.jwt;
 import com.plazoleta.usuarios.domain.model.TokenClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class JwtProviderAdapterTest {
 
-    private static final String SECRET = "12345678901234567890123456789012";
     private static final long EXPIRATION_SECONDS = 3600L;
 
     private JwtProviderAdapter jwtProviderAdapter;
+    private VerifiedTokenCache verifiedTokenCache;
+    private TokenPrecheck tokenPrecheck;
 
     @BeforeEach
     void setUp() {
-        jwtProviderAdapter = new JwtProviderAdapter(SECRET, EXPIRATION_SECONDS);
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        tokenPrecheck = new TokenPrecheck(4096);
+        jwtProviderAdapter = new JwtProviderAdapter(JwtKeyRing.efimero(JwtKeyRing.RS256), EXPIRATION_SECONDS,
+                verifiedTokenCache, tokenPrecheck);
     }
 
     @Test
@@ -81,15 +92,118 @@ class JwtProviderAdapterTest {
     }
 
     @Test
-    void deberiaRetornarEmptyCuandoTokenTieneOtroSecret() {
-        // Arrange: otro adapter con distinto secret
-        JwtProviderAdapter otroAdapter = new JwtProviderAdapter("otro_secret_12345678901234567890", EXPIRATION_SECONDS);
+    void deberiaRetornarEmptyCuandoTokenTieneOtraClave() {
+        // Arrange: otro adapter con distinta clave de firma
+        JwtProviderAdapter otroAdapter = new JwtProviderAdapter(JwtKeyRing.efimero(JwtKeyRing.RS256), EXPIRATION_SECONDS,
+                new VerifiedTokenCache(100), new TokenPrecheck(4096));
         String tokenDeOtro = otroAdapter.generarToken(1, "a@b.com", "PROPIETARIO");
 
-        // Act: validamos con nuestro adapter (secret distinto)
+        // Act: validamos con nuestro adapter (clave distinta)
         Optional<TokenClaims> claimsOpt = jwtProviderAdapter.validarToken(tokenDeOtro);
 
         // Assert
         assertFalse(claimsOpt.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void deberiaResolverDesdeCacheUnTokenYaVerificado() {
+        // Arrange
+        String token = jwtProviderAdapter.generarToken(3, "empleado@mail.com", "EMPLEADO", 7);
+        TokenClaims primera = jwtProviderAdapter.validarToken(token).orElseThrow();
+
+        // Act
+        Optional<TokenClaims> segunda = jwtProviderAdapter.validarToken(token);
+
+        // Assert
+        assertTrue(segunda.isPresent());
+        assertSame(primera, segunda.get());
+        assertEquals(7, segunda.get().getRestauranteId());
+        assertEquals(1, verifiedTokenCache.aciertos());
+    }
+
+    @Test
+    void deberiaNoCachearTokensInvalidos() {
+        // Arrange
+        String tokenInvalido = "token.invalido.malformado";
+        jwtProviderAdapter.validarToken(tokenInvalido);
+
+        // Act
+        Optional<TokenClaims> claimsOpt = jwtProviderAdapter.validarToken(tokenInvalido);
+
+        // Assert
+        assertFalse(claimsOpt.isPresent());
+        assertEquals(0, verifiedTokenCache.aciertos());
+        assertEquals(2, verifiedTokenCache.fallos());
+    }
+
+    @Test
+    void deberiaIncluirKidYFirmarConLaClaveActiva() {
+        // Arrange
+        JwtKeyRing keyRing = JwtKeyRing.efimero(JwtKeyRing.EDDSA);
+        JwtProviderAdapter adapter = new JwtProviderAdapter(keyRing, EXPIRATION_SECONDS,
+                new VerifiedTokenCache(100), new TokenPrecheck(4096));
+
+        // Act
+        String token = adapter.generarToken(1, "a@b.com", "ADMINISTRADOR");
+
+        // Assert
+        String cabecera = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertTrue(cabecera.contains("\"kid\":\"" + keyRing.activa().kid() + "\""));
+        assertTrue(cabecera.contains("\"alg\":\"EdDSA\""));
+        assertTrue(adapter.validarToken(token).isPresent());
+    }
+
+    @Test
+    void deberiaValidarTokensDeLaClaveAnteriorTrasRotar() {
+        // Arrange
+        JwtKeyRing anterior = JwtKeyRing.efimero(JwtKeyRing.RS256);
+        String tokenAnterior = new JwtProviderAdapter(anterior, EXPIRATION_SECONDS,
+                new VerifiedTokenCache(100), new TokenPrecheck(4096))
+                .generarToken(5, "a@b.com", "PROPIETARIO");
+        JwtKeyRing nueva = JwtKeyRing.efimero(JwtKeyRing.RS256);
+        JwtKeyRing rotado = new JwtKeyRing(JwtKeyRing.RS256, nueva.activa().kid(), List.of(
+                nueva.activa(),
+                new JwtKeyRing.ClaveFirma(anterior.activa().kid(), null, anterior.activa().publica())));
+        JwtProviderAdapter adapter = new JwtProviderAdapter(rotado, EXPIRATION_SECONDS,
+                new VerifiedTokenCache(100), new TokenPrecheck(4096));
+
+        // Act
+        Optional<TokenClaims> claimsAnterior = adapter.validarToken(tokenAnterior);
+        Optional<TokenClaims> claimsNuevo = adapter.validarToken(adapter.generarToken(6, "c@d.com", "EMPLEADO"));
+
+        // Assert
+        assertEquals(5, claimsAnterior.orElseThrow().getId());
+        assertEquals(6, claimsNuevo.orElseThrow().getId());
+    }
+
+    @Test
+    void deberiaDescartarEnLaRevisionEstructuralLoQueNoEstaEnCache() {
+        // Act
+        Optional<TokenClaims> claimsOpt = jwtProviderAdapter.validarToken("Bearer basura con espacios");
+        Optional<TokenClaims> nulo = jwtProviderAdapter.validarToken(null);
+
+        // Assert
+        assertFalse(claimsOpt.isPresent());
+        assertFalse(nulo.isPresent());
+        assertEquals(1, tokenPrecheck.rechazos(TokenPrecheck.Motivo.ALFABETO));
+        assertEquals(1, tokenPrecheck.rechazos(TokenPrecheck.Motivo.LONGITUD));
+        assertEquals(1, verifiedTokenCache.fallos());
+    }
+
+    @Test
+    void deberiaNoDecodificarElPayloadDeUnTokenEnCache() {
+        // Arrange
+        TokenPrecheck precheck = spy(new TokenPrecheck(4096));
+        JwtProviderAdapter adapter = new JwtProviderAdapter(JwtKeyRing.efimero(JwtKeyRing.RS256), EXPIRATION_SECONDS,
+                new VerifiedTokenCache(100), precheck);
+        String token = adapter.generarToken(3, "empleado@mail.com", "EMPLEADO");
+        adapter.validarToken(token);
+
+        // Act
+        Optional<TokenClaims> claimsOpt = adapter.validarToken(token);
+
+        // Assert
+        assertTrue(claimsOpt.isPresent());
+        verify(precheck, times(1)).aceptable(token);
+    }
+}
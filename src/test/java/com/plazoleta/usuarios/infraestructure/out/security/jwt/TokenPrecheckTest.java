@@ -0,0 +1,128 @@
+package com.plazoleta.usuarios.infraestructure.out.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenPrecheckTest {
+
+    private static final Instant AHORA = Instant.parse("2026-01-01T12:00:00Z");
+    private static final String CABECERA = base64Url("{\"alg\":\"RS256\",\"kid\":\"k1\"}");
+    private static final String FIRMA = "c2lnbmF0dXJl";
+
+    private TokenPrecheck precheck;
+
+    @BeforeEach
+    void setUp() {
+        precheck = new TokenPrecheck(512, Clock.fixed(AHORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    void deberiaAceptarTokenBienFormadoNoExpirado() {
+        // Arrange
+        String token = token("{\"sub\":\"1\",\"exp\":" + AHORA.plusSeconds(60).getEpochSecond() + "}");
+
+        // Act & Assert
+        assertTrue(precheck.aceptable(token));
+    }
+
+    @Test
+    void deberiaAceptarTokenSinExpLegibleYDejarLaDecisionAJjwt() {
+        // Act & Assert
+        assertTrue(precheck.aceptable(token("{\"sub\":\"1\"}")));
+        assertTrue(precheck.aceptable(token("{\"exp\":\"pronto\"}")));
+        assertTrue(precheck.aceptable(token("{\"exp\":99999999999999999}")));
+    }
+
+    @Test
+    void deberiaRechazarTokenExpirado() {
+        // Arrange
+        String token = token("{\"sub\":\"1\",\"exp\": " + AHORA.minusSeconds(1).getEpochSecond() + "}");
+
+        // Act
+        boolean aceptable = precheck.aceptable(token);
+
+        // Assert
+        assertFalse(aceptable);
+        assertEquals(1, precheck.rechazos(TokenPrecheck.Motivo.EXPIRADO));
+    }
+
+    @Test
+    void deberiaRechazarPorLongitud() {
+        // Act & Assert
+        assertFalse(precheck.aceptable(null));
+        assertFalse(precheck.aceptable(""));
+        assertFalse(precheck.aceptable("a".repeat(513)));
+        assertEquals(3, precheck.rechazos(TokenPrecheck.Motivo.LONGITUD));
+    }
+
+    @Test
+    void deberiaRechazarPorFormato() {
+        // Act & Assert
+        assertFalse(precheck.aceptable("abc"));
+        assertFalse(precheck.aceptable("abc.def"));
+        assertFalse(precheck.aceptable("a.b.c.d"));
+        assertFalse(precheck.aceptable(".abcd.efg"));
+        assertFalse(precheck.aceptable("abc..efg"));
+        assertFalse(precheck.aceptable("abc.abcd."));
+        assertFalse(precheck.aceptable("abc.abcde.efg"));
+        assertEquals(7, precheck.rechazos(TokenPrecheck.Motivo.FORMATO));
+    }
+
+    @Test
+    void deberiaRechazarCaracteresFueraDeBase64Url() {
+        // Act & Assert
+        assertFalse(precheck.aceptable("abc.de+f.ghi"));
+        assertFalse(precheck.aceptable("abc.def.gh="));
+        assertFalse(precheck.aceptable("abc def.ghi.jkl"));
+        assertEquals(3, precheck.rechazos(TokenPrecheck.Motivo.ALFABETO));
+    }
+
+    @Test
+    void deberiaPublicarRechazosPorMotivo() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        precheck.bindTo(registry);
+
+        // Act
+        precheck.aceptable("abc");
+
+        // Assert
+        assertEquals(1.0, registry.get(TokenPrecheck.METRICA).tag("motivo", "formato").functionCounter().count());
+        assertEquals(0.0, registry.get(TokenPrecheck.METRICA).tag("motivo", "expirado").functionCounter().count());
+    }
+
+    @Test
+    void deberiaPublicarLosMotivosSinDependerDelLocale() {
+        // Arrange
+        Locale anterior = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try {
+            // Act
+            precheck.bindTo(registry);
+        } finally {
+            Locale.setDefault(anterior);
+        }
+
+        // Assert
+        assertEquals(0.0, registry.get(TokenPrecheck.METRICA).tag("motivo", "expirado").functionCounter().count());
+    }
+
+    private static String token(String payload) {
+        return CABECERA + "." + base64Url(payload) + "." + FIRMA;
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
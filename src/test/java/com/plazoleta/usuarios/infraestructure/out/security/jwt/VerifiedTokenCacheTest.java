@@ -0,0 +1,87 @@
+package com.plazoleta.usuarios.infraestructure.out.security.jwt;
+
+import com.plazoleta.usuarios.domain.model.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant AHORA = Instant.parse("2026-01-01T12:00:00Z");
+    private static final String TOKEN = "cabecera.cuerpo.firma";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private VerifiedTokenCache cache;
+    private TokenClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(10, Clock.fixed(AHORA, ZoneOffset.UTC), nanos::get);
+        claims = new TokenClaims(1, "a@b.com", "ADMINISTRADOR", null);
+    }
+
+    @Test
+    void deberiaRetornarClaimsGuardadosMientrasElTokenNoExpira() {
+        // Arrange
+        cache.guardar(TOKEN, claims, Date.from(AHORA.plusSeconds(60)));
+        nanos.set(TimeUnit.SECONDS.toNanos(59));
+
+        // Act
+        Optional<TokenClaims> resultado = cache.obtener(TOKEN);
+
+        // Assert
+        assertTrue(resultado.isPresent());
+        assertEquals(1, cache.aciertos());
+    }
+
+    @Test
+    void deberiaDescartarLaEntradaCuandoElTokenExpira() {
+        // Arrange
+        cache.guardar(TOKEN, claims, Date.from(AHORA.plusSeconds(60)));
+        nanos.set(TimeUnit.SECONDS.toNanos(60));
+
+        // Act
+        Optional<TokenClaims> resultado = cache.obtener(TOKEN);
+
+        // Assert
+        assertFalse(resultado.isPresent());
+        assertEquals(1, cache.fallos());
+    }
+
+    @Test
+    void deberiaNoGuardarTokensSinExpiracionOYaExpirados() {
+        // Arrange
+        cache.guardar(TOKEN, claims, null);
+        cache.guardar("otro.token.firma", claims, Date.from(AHORA.minusSeconds(1)));
+
+        // Act & Assert
+        assertFalse(cache.obtener(TOKEN).isPresent());
+        assertFalse(cache.obtener("otro.token.firma").isPresent());
+    }
+
+    @Test
+    void deberiaPublicarMetricasDeAciertosYFallos() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.guardar(TOKEN, claims, Date.from(AHORA.plusSeconds(60)));
+
+        // Act
+        cache.obtener(TOKEN);
+        cache.obtener("desconocido.token.firma");
+
+        // Assert
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", VerifiedTokenCache.NOMBRE).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", VerifiedTokenCache.NOMBRE).tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,47 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    void deberiaSubirElCostoMientrasNoSupereElObjetivo() {
+        // 10 ms medidos con costo 10, objetivo 80 ms: 10 -> 20 -> 40 -> 80 = costo 13
+        assertEquals(13, BCryptCostCalibrator.costoParaObjetivo(10_000_000L, 80_000_000L, 10, 16));
+    }
+
+    @Test
+    void noDeberiaBajarDelCostoMinimo() {
+        // El costo mínimo ya supera el objetivo
+        assertEquals(10, BCryptCostCalibrator.costoParaObjetivo(200_000_000L, 80_000_000L, 10, 16));
+    }
+
+    @Test
+    void noDeberiaSuperarElCostoMaximo() {
+        assertEquals(12, BCryptCostCalibrator.costoParaObjetivo(1_000L, 80_000_000L, 10, 12));
+    }
+
+    @Test
+    void deberiaTomarLaMedianaSinQueUnaPausaMuevaElResultado() {
+        // Arrange: la tercera medición cayó en una pausa de GC
+        long[] medidos = {10L, 12L, 900L, 11L, 9L};
+
+        // Act
+        long mediana = BCryptCostCalibrator.mediana(medidos);
+
+        // Assert
+        assertEquals(11L, mediana);
+        assertEquals(900L, medidos[2]);
+    }
+
+    @Test
+    void deberiaCalibrarDentroDelRangoIndicado() {
+        // Act
+        int costo = BCryptCostCalibrator.calibrar(1, 4, 6);
+
+        // Assert
+        assertTrue(costo >= 4 && costo <= 6);
+    }
+}
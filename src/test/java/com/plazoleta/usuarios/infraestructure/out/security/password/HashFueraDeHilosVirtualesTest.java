@@ -0,0 +1,101 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import com.plazoleta.usuarios.domain.spi.PasswordEncoderPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HashFueraDeHilosVirtualesTest {
+
+    @Mock
+    private PasswordEncoderPort delegado;
+
+    private final AtomicInteger tareasEnExecutor = new AtomicInteger();
+
+    @Test
+    void deberiaCalcularEnElMismoHiloCuandoNoEsVirtual() {
+        // Arrange
+        HashFueraDeHilosVirtuales encoder = new HashFueraDeHilosVirtuales(delegado, this::contarYEjecutar);
+        when(delegado.encode("clave")).thenReturn("hash");
+        when(delegado.requiereActualizacion("hash")).thenReturn(true);
+
+        // Act
+        String hash = encoder.encode("clave");
+
+        // Assert
+        assertEquals("hash", hash);
+        assertTrue(encoder.requiereActualizacion("hash"));
+        assertEquals(0, tareasEnExecutor.get());
+    }
+
+    @Test
+    void deberiaDelegarEnElExecutorDesdeUnHiloVirtual() throws Exception {
+        // Arrange
+        AtomicBoolean calculadoEnVirtual = new AtomicBoolean(true);
+        ExecutorService plataforma = Executors.newSingleThreadExecutor();
+        HashFueraDeHilosVirtuales encoder = new HashFueraDeHilosVirtuales(delegado, tarea -> {
+            tareasEnExecutor.incrementAndGet();
+            plataforma.execute(tarea);
+        });
+        when(delegado.matches("clave", "hash")).thenAnswer(invocacion -> {
+            calculadoEnVirtual.set(Thread.currentThread().isVirtual());
+            return true;
+        });
+
+        // Act
+        boolean coincide;
+        try (ExecutorService virtuales = Executors.newVirtualThreadPerTaskExecutor()) {
+            coincide = virtuales.submit(() -> encoder.matches("clave", "hash")).get();
+        } finally {
+            plataforma.shutdown();
+        }
+
+        // Assert
+        assertTrue(coincide);
+        assertFalse(calculadoEnVirtual.get());
+        assertEquals(1, tareasEnExecutor.get());
+    }
+
+    @Test
+    void deberiaPropagarLaExcepcionOriginalDelHash() throws Exception {
+        // Arrange
+        HashFueraDeHilosVirtuales encoder = new HashFueraDeHilosVirtuales(delegado, this::contarYEjecutar);
+        when(delegado.encode("clave")).thenThrow(new IllegalArgumentException("clave demasiado larga"));
+        when(delegado.encode("error")).thenAnswer(invocacion -> {
+            throw new AssertionError("fallo interno");
+        });
+
+        // Act
+        Throwable enRuntime;
+        Throwable enError;
+        try (ExecutorService virtuales = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Throwable> primero = virtuales.submit(() -> assertThrows(RuntimeException.class, () -> encoder.encode("clave")));
+            Future<Throwable> segundo = virtuales.submit(() -> assertThrows(CompletionException.class, () -> encoder.encode("error")));
+            enRuntime = primero.get();
+            enError = segundo.get();
+        }
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, enRuntime);
+        assertInstanceOf(AssertionError.class, enError.getCause());
+    }
+
+    private void contarYEjecutar(Runnable tarea) {
+        tareasEnExecutor.incrementAndGet();
+        tarea.run();
+    }
+}
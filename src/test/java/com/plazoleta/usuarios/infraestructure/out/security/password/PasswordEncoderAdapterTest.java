@@ -0,0 +1,51 @@
+package com.plazoleta.usuarios.infraestructure.out.security.password;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordEncoderAdapterTest {
+
+    private final PasswordEncoderAdapter adapter = new PasswordEncoderAdapter(new BCryptPasswordEncoder(5));
+
+    @Test
+    void deberiaEncriptarYVerificarClave() {
+        // Act
+        String hash = adapter.encode("password123");
+
+        // Assert
+        assertNotEquals("password123", hash);
+        assertTrue(adapter.matches("password123", hash));
+        assertFalse(adapter.matches("otraClave", hash));
+    }
+
+    @Test
+    void deberiaGenerarHashesDiferentesParaMismaClave() {
+        // Act
+        String hash1 = adapter.encode("password123");
+        String hash2 = adapter.encode("password123");
+
+        // Assert
+        assertNotEquals(hash1, hash2); // BCrypt genera diferentes salts
+    }
+
+    @Test
+    void deberiaRequerirActualizacionCuandoHashTieneCostoMenor() {
+        // Arrange
+        String hashCostoViejo = new BCryptPasswordEncoder(4).encode("password123");
+
+        // Act & Assert
+        assertTrue(adapter.requiereActualizacion(hashCostoViejo));
+    }
+
+    @Test
+    void noDeberiaRequerirActualizacionCuandoHashTieneCostoActual() {
+        // Arrange
+        String hashActual = adapter.encode("password123");
+
+        // Act & Assert
+        assertFalse(adapter.requiereActualizacion(hashActual));
+    }
+}